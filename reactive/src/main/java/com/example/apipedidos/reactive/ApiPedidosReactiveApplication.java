@@ -0,0 +1,19 @@
+package com.example.apipedidos.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Variante reativa da API de Pedidos (WebFlux + R2DBC)
+ *
+ * Expõe o mesmo contrato {@code /api/pedidos} da aplicação servlet, com handlers
+ * não bloqueantes e acesso ao banco por R2DBC (H2 em desenvolvimento, PostgreSQL em
+ * produção).
+ */
+@SpringBootApplication
+public class ApiPedidosReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ApiPedidosReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.apipedidos.reactive.controller;
+
+import com.example.apipedidos.reactive.dto.FilaStatusDTO;
+import com.example.apipedidos.reactive.dto.PedidoRequestDTO;
+import com.example.apipedidos.reactive.dto.PedidoResponseDTO;
+import com.example.apipedidos.reactive.exception.PedidoNotFoundException;
+import com.example.apipedidos.reactive.service.PedidoService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Controller reativo com o mesmo contrato de /api/pedidos da aplicação servlet
+ */
+@RestController
+@RequestMapping("/api/pedidos")
+@Validated
+public class PedidoController {
+
+    private static final Logger log = LoggerFactory.getLogger(PedidoController.class);
+
+    static final String HEADER_TOTAL = "X-Total-Count";
+    static final int LIMITE_PADRAO_PAGINA = 100;
+    static final int LIMITE_MAXIMO_PAGINA = 1000;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Endpoint para criar um novo pedido
+     *
+     * @param request DTO com os dados do pedido a ser criado
+     * @return Pedido criado com status 201 Created
+     */
+    @PostMapping
+    public Mono<ResponseEntity<PedidoResponseDTO>> criarPedido(@Valid @RequestBody PedidoRequestDTO request) {
+        log.info("Recebida requisição POST para criar pedido: {}", request.getNomeCliente());
+        return pedidoService.criarPedido(request)
+                .map(pedido -> ResponseEntity.status(HttpStatus.CREATED).body(pedido));
+    }
+
+    /**
+     * Endpoint para listar todos os pedidos, transmitidos à medida que saem do banco
+     *
+     * Com {@code Accept: application/x-ndjson}, um pedido JSON por linha; caso contrário,
+     * o mesmo array JSON da aplicação servlet, escrito elemento a elemento em vez de
+     * montado em memória.
+     */
+    @GetMapping
+    public Mono<Void> listarPedidos(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServerHttpResponse response) {
+        log.info("Recebida requisição GET para listar todos os pedidos");
+
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        response.getHeaders().setContentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON);
+        DataBufferFactory buffers = response.bufferFactory();
+        Flux<DataBuffer> elementos = pedidoService.listarTodosPedidos()
+                .index()
+                .map(indexado -> buffers.wrap(serializar(indexado.getT2(),
+                        ndjson ? "" : (indexado.getT1() == 0 ? "" : ","), ndjson ? "\n" : "")));
+        if (ndjson) {
+            return response.writeWith(elementos);
+        }
+        return response.writeWith(Flux.concat(
+                Mono.fromSupplier(() -> buffers.wrap(new byte[]{'['})),
+                elementos,
+                Mono.fromSupplier(() -> buffers.wrap(new byte[]{']'}))));
+    }
+
+    /**
+     * Endpoint para buscar um pedido específico pelo ID
+     *
+     * @param id ID do pedido a ser buscado (deve ser maior que 0)
+     * @return Pedido encontrado com status 200 OK, ou 404
+     */
+    @GetMapping("/{id}")
+    public Mono<PedidoResponseDTO> buscarPedidoPorId(
+            @PathVariable @Min(value = 1, message = "ID deve ser maior que zero") Long id) {
+        log.info("Recebida requisição GET para buscar pedido com ID: {}", id);
+        return pedidoService.buscarPedidoPorId(id);
+    }
+
+    /**
+     * Endpoint para processar o próximo pedido da fila (remove da fila)
+     *
+     * @return Pedido processado com status 200 OK, ou 204 No Content se a fila estiver vazia
+     */
+    @PostMapping("/fila/processar")
+    public Mono<ResponseEntity<PedidoResponseDTO>> processarProximoPedido() {
+        return Mono.fromSupplier(() -> comConteudoOuVazio(pedidoService.processarProximoPedidoDaFila()));
+    }
+
+    /**
+     * Confirmação de entregas não existe nesta variante: sempre 404, como na aplicação
+     * servlet com {@code app.fila.confirmacao.enabled=false}
+     */
+    @PostMapping("/fila/{id}/ack")
+    public Mono<ResponseEntity<Void>> confirmarPedido(
+            @PathVariable @Min(value = 1, message = "ID deve ser maior que zero") Long id) {
+        return Mono.error(new PedidoNotFoundException("Confirmação de entregas da fila desabilitada"));
+    }
+
+    @GetMapping("/fila/mortos")
+    public Mono<List<PedidoResponseDTO>> listarPedidosMortos() {
+        return Mono.just(Collections.emptyList());
+    }
+
+    /**
+     * Endpoint para visualizar o próximo pedido da fila (sem remover)
+     *
+     * @return Próximo pedido com status 200 OK, ou 204 No Content se a fila estiver vazia
+     */
+    @GetMapping("/fila/proximo")
+    public Mono<ResponseEntity<PedidoResponseDTO>> visualizarProximoPedido() {
+        return Mono.fromSupplier(() -> comConteudoOuVazio(pedidoService.visualizarProximoPedidoDaFila()));
+    }
+
+    @GetMapping("/fila/status")
+    public Mono<FilaStatusDTO> obterStatusDaFila() {
+        return Mono.fromSupplier(() -> new FilaStatusDTO(pedidoService.getTamanhoDaFila(), pedidoService.isFilaVazia()));
+    }
+
+    /**
+     * Endpoint para listar as mensagens (pedidos) atualmente na fila, inteira ou paginada
+     *
+     * @param offset Pedidos a pular a partir da base da pilha (padrão 0)
+     * @param limit Máximo de pedidos na página (padrão 100, máximo 1000)
+     * @return Pedidos da base para o topo, com o tamanho da fila no header X-Total-Count
+     */
+    @GetMapping("/fila/mensagens")
+    public Mono<ResponseEntity<List<PedidoResponseDTO>>> listarMensagensDaFila(
+            @RequestParam(required = false) @Min(value = 0, message = "offset deve ser maior ou igual a zero") Integer offset,
+            @RequestParam(required = false) @Min(value = 1, message = "limit deve ser maior que zero")
+            @Max(value = LIMITE_MAXIMO_PAGINA, message = "limit deve ser no máximo 1000") Integer limit) {
+        return Mono.fromSupplier(() -> {
+            List<PedidoResponseDTO> mensagens = offset == null && limit == null
+                    ? pedidoService.obterTodasAsMensagens()
+                    : pedidoService.obterPaginaDeMensagens(offset != null ? offset : 0,
+                            limit != null ? limit : LIMITE_PADRAO_PAGINA);
+            return ResponseEntity.ok()
+                    .header(HEADER_TOTAL, String.valueOf(pedidoService.getTamanhoDaFila()))
+                    .body(mensagens);
+        });
+    }
+
+    private static ResponseEntity<PedidoResponseDTO> comConteudoOuVazio(PedidoResponseDTO pedido) {
+        return pedido != null ? ResponseEntity.ok(pedido) : ResponseEntity.noContent().build();
+    }
+
+    private byte[] serializar(PedidoResponseDTO pedido, String prefixo, String sufixo) {
+        try {
+            return (prefixo + objectMapper.writeValueAsString(pedido) + sufixo).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.apipedidos.reactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para retornar informações sobre o status da fila
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilaStatusDTO {
+    private int tamanho;
+    private boolean vazia;
+}
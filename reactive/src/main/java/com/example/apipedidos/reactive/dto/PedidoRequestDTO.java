@@ -0,0 +1,31 @@
+package com.example.apipedidos.reactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PedidoRequestDTO {
+
+    @NotBlank(message = "Nome do cliente é obrigatório")
+    @Size(max = 255, message = "Nome do cliente deve ter no máximo 255 caracteres")
+    private String nomeCliente;
+
+    @NotBlank(message = "Descrição é obrigatória")
+    @Size(max = 500, message = "Descrição deve ter no máximo 500 caracteres")
+    private String descricao;
+
+    @NotNull(message = "Valor é obrigatório")
+    @DecimalMin(value = "0.01", message = "Valor deve ser maior que zero")
+    @Digits(integer = 8, fraction = 2, message = "Valor deve ter no máximo 8 dígitos inteiros e 2 decimais")
+    private BigDecimal valor;
+}
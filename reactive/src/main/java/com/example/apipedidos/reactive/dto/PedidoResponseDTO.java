@@ -0,0 +1,19 @@
+package com.example.apipedidos.reactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PedidoResponseDTO {
+    private Long id;
+    private String nomeCliente;
+    private String descricao;
+    private BigDecimal valor;
+    private LocalDateTime dataPedido;
+}
@@ -0,0 +1,113 @@
+package com.example.apipedidos.reactive.exception;
+
+import com.example.apipedidos.reactive.dto.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mesmas respostas de erro da aplicação servlet, a partir das exceções do WebFlux
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+
+        String uri = exchange.getRequest().getPath().value();
+        List<String> details = new ArrayList<>();
+        StringBuilder messageBuilder = new StringBuilder();
+
+        ex.getBindingResult().getFieldErrors().forEach(error -> {
+            details.add(error.getField() + ": " + error.getDefaultMessage());
+            if (messageBuilder.length() > 0) {
+                messageBuilder.append("; ");
+            }
+            messageBuilder.append(error.getDefaultMessage());
+        });
+
+        String message = messageBuilder.length() > 0 ? messageBuilder.toString() : "Dados inválidos fornecidos";
+        log.warn("Erro de validação - URI: {}, Campos inválidos: {}", uri, details);
+        return resposta(HttpStatus.BAD_REQUEST, message, uri, details);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+            ConstraintViolationException ex, ServerWebExchange exchange) {
+
+        String uri = exchange.getRequest().getPath().value();
+        List<String> details = new ArrayList<>();
+        StringBuilder messageBuilder = new StringBuilder();
+
+        ex.getConstraintViolations().forEach(violation -> {
+            details.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            if (messageBuilder.length() > 0) {
+                messageBuilder.append("; ");
+            }
+            messageBuilder.append(violation.getMessage());
+        });
+
+        String message = messageBuilder.length() > 0 ? messageBuilder.toString() : "Dados inválidos fornecidos";
+        log.warn("Erro de constraint - URI: {}, Violações: {}", uri, details);
+        return resposta(HttpStatus.BAD_REQUEST, message, uri, details);
+    }
+
+    @ExceptionHandler(PedidoNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePedidoNotFoundException(
+            PedidoNotFoundException ex, ServerWebExchange exchange) {
+
+        String uri = exchange.getRequest().getPath().value();
+        log.info("Recurso não encontrado - URI: {}, Mensagem: {}", uri, ex.getMessage());
+        return resposta(HttpStatus.NOT_FOUND, ex.getMessage(), uri, new ArrayList<>());
+    }
+
+    /**
+     * Corpo ilegível e parâmetros com tipo errado chegam ambos como ServerWebInputException
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException ex, ServerWebExchange exchange) {
+
+        String uri = exchange.getRequest().getPath().value();
+        String message;
+        if (ex.getCause() instanceof TypeMismatchException && ex.getMethodParameter() != null) {
+            TypeMismatchException mismatch = (TypeMismatchException) ex.getCause();
+            message = "Parâmetro inválido: " + ex.getMethodParameter().getParameterName() + " deve ser do tipo "
+                    + (mismatch.getRequiredType() != null ? mismatch.getRequiredType().getSimpleName() : "?");
+        } else {
+            message = "JSON malformado ou inválido";
+        }
+        log.warn("Entrada inválida - URI: {}, Erro: {}", uri, ex.getMessage());
+        return resposta(HttpStatus.BAD_REQUEST, message, uri, new ArrayList<>());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        String uri = exchange.getRequest().getPath().value();
+        log.error("Erro interno do servidor - URI: {}, Tipo: {}, Mensagem: {}",
+                uri, ex.getClass().getSimpleName(), ex.getMessage(), ex);
+        return resposta(HttpStatus.INTERNAL_SERVER_ERROR, "Ocorreu um erro interno no servidor", uri, new ArrayList<>());
+    }
+
+    private static ResponseEntity<ErrorResponse> resposta(HttpStatus status, String message, String uri,
+                                                          List<String> details) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(), status.value(), status.getReasonPhrase(), message, uri, details);
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
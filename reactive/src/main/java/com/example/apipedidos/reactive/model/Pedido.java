@@ -0,0 +1,40 @@
+package com.example.apipedidos.reactive.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha da tabela pedidos, compartilhada com a aplicação servlet
+ */
+@Table("pedidos")
+@Data
+@NoArgsConstructor
+public class Pedido {
+
+    @Id
+    private Long id;
+
+    @Column("nome_cliente")
+    private String nomeCliente;
+
+    private String descricao;
+
+    private BigDecimal valor;
+
+    @Column("data_pedido")
+    private LocalDateTime dataPedido;
+
+    public Pedido(Long id, String nomeCliente, String descricao, BigDecimal valor, LocalDateTime dataPedido) {
+        this.id = id;
+        this.nomeCliente = nomeCliente;
+        this.descricao = descricao;
+        this.valor = valor;
+        this.dataPedido = dataPedido;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.apipedidos.reactive.repository;
+
+import com.example.apipedidos.reactive.model.Pedido;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface PedidoRepository extends ReactiveCrudRepository<Pedido, Long> {
+
+    /**
+     * Busca todos os pedidos ordenados por data de pedido em ordem decrescente (mais recentes primeiro)
+     * @return Pedidos emitidos à medida que as linhas chegam do banco
+     */
+    Flux<Pedido> findAllByOrderByDataPedidoDesc();
+}
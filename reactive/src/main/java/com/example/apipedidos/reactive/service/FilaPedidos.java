@@ -0,0 +1,80 @@
+package com.example.apipedidos.reactive.service;
+
+import com.example.apipedidos.reactive.dto.PedidoResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fila (pilha LIFO) de pedidos criados aguardando processamento
+ *
+ * Estrutura lock-free em memória: nenhuma operação bloqueia a thread do event loop.
+ * Os modos avançados da aplicação servlet (prioridade, partições, off-heap, limite de
+ * capacidade e confirmação) não existem nesta variante.
+ */
+@Component
+public class FilaPedidos {
+
+    // Topo da pilha no início do deque
+    private final ConcurrentLinkedDeque<PedidoResponseDTO> pilha = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger tamanho = new AtomicInteger();
+
+    public int enfileirar(PedidoResponseDTO pedido) {
+        pilha.addFirst(pedido);
+        return tamanho.incrementAndGet();
+    }
+
+    /**
+     * @return Pedido do topo, ou null se a fila estiver vazia
+     */
+    public PedidoResponseDTO desenfileirar() {
+        PedidoResponseDTO pedido = pilha.pollFirst();
+        if (pedido != null) {
+            tamanho.decrementAndGet();
+        }
+        return pedido;
+    }
+
+    public PedidoResponseDTO espiar() {
+        return pilha.peekFirst();
+    }
+
+    public int tamanho() {
+        return Math.max(tamanho.get(), 0);
+    }
+
+    public boolean isVazia() {
+        return pilha.isEmpty();
+    }
+
+    /**
+     * Pedidos da base para o topo (o último da lista é o próximo a sair)
+     */
+    public List<PedidoResponseDTO> listar() {
+        List<PedidoResponseDTO> pedidos = new ArrayList<>();
+        pilha.descendingIterator().forEachRemaining(pedidos::add);
+        return pedidos;
+    }
+
+    /**
+     * Página de {@link #listar()} lida direto do deque, sem copiar a fila inteira
+     */
+    public List<PedidoResponseDTO> pagina(int offset, int limite) {
+        if (offset < 0 || limite < 1) {
+            throw new IllegalArgumentException("offset deve ser >= 0 e limite > 0");
+        }
+        List<PedidoResponseDTO> pedidos = new ArrayList<>(Math.min(limite, 1024));
+        Iterator<PedidoResponseDTO> it = pilha.descendingIterator();
+        for (int i = 0; i < offset && it.hasNext(); i++) {
+            it.next();
+        }
+        while (pedidos.size() < limite && it.hasNext()) {
+            pedidos.add(it.next());
+        }
+        return pedidos;
+    }
+}
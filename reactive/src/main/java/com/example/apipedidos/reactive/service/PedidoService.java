@@ -0,0 +1,113 @@
+package com.example.apipedidos.reactive.service;
+
+import com.example.apipedidos.reactive.dto.PedidoRequestDTO;
+import com.example.apipedidos.reactive.dto.PedidoResponseDTO;
+import com.example.apipedidos.reactive.exception.PedidoNotFoundException;
+import com.example.apipedidos.reactive.model.Pedido;
+import com.example.apipedidos.reactive.repository.PedidoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Regras de negócio dos pedidos na variante reativa
+ *
+ * Operações de banco devolvem Mono/Flux do R2DBC; as operações da fila são em memória
+ * e lock-free, portanto síncronas.
+ */
+@Service
+public class PedidoService {
+
+    private static final Logger log = LoggerFactory.getLogger(PedidoService.class);
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private FilaPedidos filaPedidos;
+
+    /**
+     * Cria um novo pedido e o adiciona à fila após a gravação
+     * @param request Dados do pedido a ser criado
+     * @return DTO com os dados do pedido criado
+     */
+    public Mono<PedidoResponseDTO> criarPedido(PedidoRequestDTO request) {
+        log.info("Criando novo pedido para cliente: {}", request.getNomeCliente());
+
+        return pedidoRepository.save(convertToEntity(request))
+                .map(this::convertToResponseDTO)
+                .doOnNext(pedido -> {
+                    int tamanho = filaPedidos.enfileirar(pedido);
+                    log.info("Pedido criado com sucesso. ID: {} (fila: {})", pedido.getId(), tamanho);
+                });
+    }
+
+    /**
+     * Lista todos os pedidos ordenados por data (mais recentes primeiro), emitidos à medida
+     * que as linhas chegam do banco
+     */
+    public Flux<PedidoResponseDTO> listarTodosPedidos() {
+        log.info("Listando todos os pedidos");
+        return pedidoRepository.findAllByOrderByDataPedidoDesc().map(this::convertToResponseDTO);
+    }
+
+    /**
+     * Busca um pedido específico pelo seu ID
+     * @return Mono com o pedido, ou erro PedidoNotFoundException se não existir
+     */
+    public Mono<PedidoResponseDTO> buscarPedidoPorId(Long id) {
+        log.info("Buscando pedido com ID: {}", id);
+        return pedidoRepository.findById(id)
+                .map(this::convertToResponseDTO)
+                .switchIfEmpty(Mono.error(() -> new PedidoNotFoundException(id)));
+    }
+
+    public PedidoResponseDTO processarProximoPedidoDaFila() {
+        PedidoResponseDTO pedido = filaPedidos.desenfileirar();
+        if (pedido != null) {
+            log.info("Pedido ID {} processado da fila. Tamanho atual: {}", pedido.getId(), filaPedidos.tamanho());
+        }
+        return pedido;
+    }
+
+    public PedidoResponseDTO visualizarProximoPedidoDaFila() {
+        return filaPedidos.espiar();
+    }
+
+    public int getTamanhoDaFila() {
+        return filaPedidos.tamanho();
+    }
+
+    public boolean isFilaVazia() {
+        return filaPedidos.isVazia();
+    }
+
+    public List<PedidoResponseDTO> obterTodasAsMensagens() {
+        return filaPedidos.listar();
+    }
+
+    public List<PedidoResponseDTO> obterPaginaDeMensagens(int offset, int limite) {
+        return filaPedidos.pagina(offset, limite);
+    }
+
+    Pedido convertToEntity(PedidoRequestDTO request) {
+        // Mesma normalização da aplicação servlet; dataPedido em microssegundos, a precisão gravada no banco
+        return new Pedido(null,
+                request.getNomeCliente().trim(),
+                request.getDescricao().trim(),
+                request.getValor(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    PedidoResponseDTO convertToResponseDTO(Pedido pedido) {
+        return new PedidoResponseDTO(pedido.getId(), pedido.getNomeCliente(), pedido.getDescricao(),
+                pedido.getValor(), pedido.getDataPedido());
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS pedidos (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    nome_cliente VARCHAR(255) NOT NULL,
+    descricao VARCHAR(500) NOT NULL,
+    valor NUMERIC(10, 2) NOT NULL,
+    data_pedido TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_pedidos_data_pedido ON pedidos (data_pedido DESC);
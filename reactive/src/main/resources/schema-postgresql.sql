@@ -0,0 +1,21 @@
+-- Mesma tabela do schema PostgreSQL da aplicação servlet; as duas podem compartilhar o banco
+
+CREATE SEQUENCE IF NOT EXISTS pedidos_id_seq
+    START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1;
+
+CREATE TABLE IF NOT EXISTS pedidos (
+    id BIGINT DEFAULT nextval('pedidos_id_seq'::regclass) NOT NULL,
+    nome_cliente VARCHAR(255) NOT NULL,
+    descricao VARCHAR(500) NOT NULL,
+    valor NUMERIC(10,2) NOT NULL,
+    data_pedido TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pedidos_pkey PRIMARY KEY (id),
+    CONSTRAINT pedidos_valor_check CHECK (valor > 0::numeric)
+);
+
+-- Listagem ordenada por data_pedido DESC
+CREATE INDEX IF NOT EXISTS idx_pedidos_data_pedido_desc ON pedidos USING btree (data_pedido DESC);
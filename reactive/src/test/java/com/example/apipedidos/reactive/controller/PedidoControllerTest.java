@@ -0,0 +1,213 @@
+package com.example.apipedidos.reactive.controller;
+
+import com.example.apipedidos.reactive.dto.ErrorResponse;
+import com.example.apipedidos.reactive.dto.PedidoRequestDTO;
+import com.example.apipedidos.reactive.dto.PedidoResponseDTO;
+import com.example.apipedidos.reactive.repository.PedidoRepository;
+import com.example.apipedidos.reactive.service.FilaPedidos;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração do controller reativo com R2DBC sobre H2 em memória
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+class PedidoControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private FilaPedidos filaPedidos;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        pedidoRepository.deleteAll().block();
+        while (filaPedidos.desenfileirar() != null) {
+            // esvazia a fila entre os testes
+        }
+    }
+
+    @Test
+    @DisplayName("POST /api/pedidos - Deve criar pedido, retornar 201 e enfileirá-lo")
+    void criarPedido_ComDadosValidos_DeveRetornar201() {
+        PedidoResponseDTO criado = criar("  João Silva  ", "Pedido de teste", "150.50");
+
+        assertThat(criado.getId()).isNotNull();
+        assertThat(criado.getNomeCliente()).isEqualTo("João Silva");
+        assertThat(criado.getValor()).isEqualByComparingTo("150.50");
+        assertThat(criado.getDataPedido()).isNotNull();
+        assertThat(filaPedidos.espiar().getId()).isEqualTo(criado.getId());
+    }
+
+    @Test
+    @DisplayName("POST /api/pedidos - Dados inválidos devem retornar 400 com os campos")
+    void criarPedido_ComDadosInvalidos_DeveRetornar400() {
+        PedidoRequestDTO request = new PedidoRequestDTO("", "Pedido de teste", new BigDecimal("-1"));
+
+        ErrorResponse erro = webTestClient.post().uri("/api/pedidos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(erro.getPath()).isEqualTo("/api/pedidos");
+        assertThat(erro.getDetails()).anyMatch(d -> d.startsWith("nomeCliente: "))
+                .anyMatch(d -> d.startsWith("valor: "));
+    }
+
+    @Test
+    @DisplayName("POST /api/pedidos - JSON malformado deve retornar 400")
+    void criarPedido_ComJsonMalformado_DeveRetornar400() {
+        webTestClient.post().uri("/api/pedidos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nomeCliente\": ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("JSON malformado ou inválido");
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos/{id} - Deve retornar o pedido ou 404")
+    void buscarPedidoPorId_DeveRetornarPedidoOu404() {
+        PedidoResponseDTO criado = criar("Maria Santos", "Pedido especial", "299.99");
+
+        webTestClient.get().uri("/api/pedidos/{id}", criado.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.nomeCliente").isEqualTo("Maria Santos");
+
+        webTestClient.get().uri("/api/pedidos/{id}", criado.getId() + 1000)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Pedido não encontrado com ID: " + (criado.getId() + 1000));
+
+        webTestClient.get().uri("/api/pedidos/0")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos - Deve transmitir um array JSON, do mais recente ao mais antigo")
+    void listarPedidos_DeveRetornarArrayJson() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            criar("Cliente " + i, "Pedido " + i, i + "0.00");
+        }
+
+        String corpo = webTestClient.get().uri("/api/pedidos")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        PedidoResponseDTO[] pedidos = objectMapper.readValue(corpo, PedidoResponseDTO[].class);
+        assertThat(pedidos).extracting(PedidoResponseDTO::getNomeCliente)
+                .containsExactly("Cliente 3", "Cliente 2", "Cliente 1");
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos - Sem pedidos deve retornar array vazio")
+    void listarPedidos_SemPedidos_DeveRetornarArrayVazio() {
+        webTestClient.get().uri("/api/pedidos")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos - Com Accept application/x-ndjson deve retornar um pedido por linha")
+    void listarPedidos_ComNdjson_DeveRetornarUmPedidoPorLinha() throws Exception {
+        criar("Cliente 1", "Pedido 1", "10.00");
+        criar("Cliente 2", "Pedido 2", "20.00");
+
+        String corpo = webTestClient.get().uri("/api/pedidos")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        List<String> nomes = new ArrayList<>();
+        for (String linha : corpo.split("\n")) {
+            nomes.add(objectMapper.readValue(linha, PedidoResponseDTO.class).getNomeCliente());
+        }
+        assertThat(nomes).containsExactly("Cliente 2", "Cliente 1");
+    }
+
+    @Test
+    @DisplayName("Endpoints da fila devem seguir o contrato da aplicação servlet")
+    void endpointsDaFila_DevemSeguirContrato() {
+        webTestClient.post().uri("/api/pedidos/fila/processar").exchange()
+                .expectStatus().isNoContent();
+
+        PedidoResponseDTO primeiro = criar("Cliente 1", "Pedido 1", "10.00");
+        PedidoResponseDTO segundo = criar("Cliente 2", "Pedido 2", "20.00");
+
+        webTestClient.get().uri("/api/pedidos/fila/status").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tamanho").isEqualTo(2)
+                .jsonPath("$.vazia").isEqualTo(false);
+
+        webTestClient.get().uri("/api/pedidos/fila/mensagens?offset=1&limit=1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "2")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(segundo.getId().intValue());
+
+        webTestClient.get().uri("/api/pedidos/fila/mensagens?limit=1001").exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/api/pedidos/fila/proximo").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(segundo.getId().intValue());
+
+        webTestClient.post().uri("/api/pedidos/fila/processar").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(segundo.getId().intValue());
+
+        webTestClient.post().uri("/api/pedidos/fila/{id}/ack", primeiro.getId()).exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private PedidoResponseDTO criar(String nomeCliente, String descricao, String valor) {
+        return webTestClient.post().uri("/api/pedidos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new PedidoRequestDTO(nomeCliente, descricao, new BigDecimal(valor)))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(PedidoResponseDTO.class)
+                .returnResult().getResponseBody();
+    }
+}
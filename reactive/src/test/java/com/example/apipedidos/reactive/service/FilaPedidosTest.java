@@ -0,0 +1,82 @@
+package com.example.apipedidos.reactive.service;
+
+import com.example.apipedidos.reactive.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para a fila em memória da variante reativa
+ */
+class FilaPedidosTest {
+
+    private final FilaPedidos fila = new FilaPedidos();
+
+    @Test
+    @DisplayName("Deve desenfileirar o último pedido incluído (LIFO)")
+    void deveDesenfileirarUltimoIncluido() {
+        fila.enfileirar(pedido(1L));
+        fila.enfileirar(pedido(2L));
+
+        assertThat(fila.espiar().getId()).isEqualTo(2L);
+        assertThat(fila.desenfileirar().getId()).isEqualTo(2L);
+        assertThat(fila.desenfileirar().getId()).isEqualTo(1L);
+        assertThat(fila.desenfileirar()).isNull();
+        assertThat(fila.isVazia()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Listagem e páginas devem ir da base para o topo")
+    void listagemEPaginasDevemIrDaBaseParaOTopo() {
+        for (long i = 1; i <= 5; i++) {
+            fila.enfileirar(pedido(i));
+        }
+
+        assertThat(fila.listar()).extracting(PedidoResponseDTO::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(fila.pagina(1, 2)).extracting(PedidoResponseDTO::getId).containsExactly(2L, 3L);
+        assertThat(fila.pagina(4, 10)).extracting(PedidoResponseDTO::getId).containsExactly(5L);
+        assertThat(fila.pagina(10, 10)).isEmpty();
+        assertThatThrownBy(() -> fila.pagina(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fila.pagina(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Inclusões e remoções concorrentes não devem perder nem duplicar pedidos")
+    void operacoesConcorrentesNaoDevemPerderPedidos() throws Exception {
+        int threads = 4;
+        int porThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch fim = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * porThread;
+            executor.execute(() -> {
+                for (long i = 1; i <= porThread; i++) {
+                    fila.enfileirar(pedido(base + i));
+                    if (i % 2 == 0) {
+                        fila.desenfileirar();
+                    }
+                }
+                fim.countDown();
+            });
+        }
+
+        assertThat(fim.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(fila.tamanho()).isEqualTo(threads * porThread / 2);
+        assertThat(fila.listar()).doesNotHaveDuplicates();
+    }
+
+    private static PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id,
+                new BigDecimal("10.00"), LocalDateTime.of(2024, 3, 1, 8, 0));
+    }
+}
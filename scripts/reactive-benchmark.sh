@@ -0,0 +1,112 @@
+#!/bin/bash
+
+# API de Pedidos - Servlet (Spring MVC + JPA) x reativa (WebFlux + R2DBC)
+#
+# Sobe cada variante por vez na mesma porta e executa o gerador de carga (perfil Maven
+# loadtest) com a mesma taxa, limite de voo e carga mista contra as duas.
+#
+# Uso:
+#   scripts/reactive-benchmark.sh
+#   NIVEIS="500 2000" DURACAO=20 PERFIL=prod scripts/reactive-benchmark.sh
+#
+# Variáveis:
+#   NIVEIS               Requisições em voo por rodada (padrão "100 1000 5000")
+#   TAXA_POR_CONEXAO     Taxa oferecida por requisição em voo (padrão 2 req/s)
+#   DURACAO, AQUECIMENTO Segundos da fase medida e do aquecimento (padrão 30 e 10)
+#   CARGA                Pesos da carga mista do gerador (padrão o do gerador)
+#   PERFIL               Perfil Spring das duas variantes (padrão dev, H2 em memória). Com
+#                        prod, ambas usam o PostgreSQL de DB_HOST/DB_NAME
+#   PORTA                Porta das aplicações (padrão 8090)
+
+NIVEIS="${NIVEIS:-100 1000 5000}"
+TAXA_POR_CONEXAO="${TAXA_POR_CONEXAO:-2}"
+DURACAO="${DURACAO:-30}"
+AQUECIMENTO="${AQUECIMENTO:-10}"
+PERFIL="${PERFIL:-dev}"
+PORTA="${PORTA:-8090}"
+SAIDA="target/loadtest/reativo"
+
+cd "$(dirname "$0")/.." || exit 1
+
+# Cada requisição em voo usa um socket no gerador e outro na aplicação
+ulimit -n 65535 2>/dev/null || echo "Aviso: não foi possível elevar o limite de arquivos abertos ($(ulimit -n))"
+
+print_separator() {
+    echo "=================================================="
+}
+
+aguardar_aplicacao() {
+    for _ in $(seq 1 60); do
+        if curl -sf "http://localhost:$PORTA/actuator/health" > /dev/null 2>&1; then
+            return 0
+        fi
+        sleep 2
+    done
+    return 1
+}
+
+parar_aplicacao() {
+    if [ -n "$PID_APP" ]; then
+        kill "$PID_APP" 2>/dev/null
+        wait "$PID_APP" 2>/dev/null
+        PID_APP=""
+    fi
+}
+trap parar_aplicacao EXIT
+
+echo "=== API de Pedidos - Benchmark servlet x reativo ==="
+echo "Níveis: $NIVEIS  perfil: $PERFIL  duração: ${DURACAO}s"
+echo ""
+
+echo "Compilando as duas variantes e o gerador de carga..."
+mvn -B -q -DskipTests package || exit 1
+mvn -B -q -f reactive/pom.xml -DskipTests package || exit 1
+mvn -B -q -Ploadtest test-compile || exit 1
+JAR_SERVLET=$(ls target/api-pedidos-*.jar | grep -v original | head -1)
+JAR_REATIVO=$(ls reactive/target/api-pedidos-reactive-*.jar | grep -v original | head -1)
+mkdir -p "$SAIDA"
+
+for variante in servlet reativo; do
+    print_separator
+    echo "VARIANTE: $variante"
+    print_separator
+    if [ "$variante" = "servlet" ]; then
+        java -jar "$JAR_SERVLET" --server.port="$PORTA" --spring.profiles.active="$PERFIL" \
+            --server.tomcat.max-connections=12000 --server.tomcat.accept-count=2000 \
+            > "$SAIDA/app-$variante.log" 2>&1 &
+    else
+        java -jar "$JAR_REATIVO" --server.port="$PORTA" --spring.profiles.active="$PERFIL" \
+            > "$SAIDA/app-$variante.log" 2>&1 &
+    fi
+    PID_APP=$!
+    if ! aguardar_aplicacao; then
+        echo "ERRO: aplicação não subiu; veja $SAIDA/app-$variante.log"
+        exit 1
+    fi
+
+    for nivel in $NIVEIS; do
+        echo "Rodada com $nivel requisições em voo..."
+        args="--url=http://localhost:$PORTA --taxa=$((nivel * TAXA_POR_CONEXAO)) --max-em-voo=$nivel"
+        args="$args --duracao=$DURACAO --aquecimento=$AQUECIMENTO --relatorio=$SAIDA/$variante-$nivel.json"
+        if [ -n "$CARGA" ]; then
+            args="$args --carga=$CARGA"
+        fi
+        mvn -B -q -Ploadtest exec:java -Dloadtest.args="$args" > "$SAIDA/$variante-$nivel.txt" 2>&1 \
+            || echo "Aviso: rodada $variante/$nivel terminou com erro; veja $SAIDA/$variante-$nivel.txt"
+    done
+    parar_aplicacao
+done
+
+print_separator
+echo "RESULTADOS (relatórios em $SAIDA)"
+print_separator
+printf "%-9s %8s %10s %9s %9s %8s %12s\n" "variante" "em voo" "req/s" "p50 ms" "p99 ms" "erros" "descartadas"
+for variante in servlet reativo; do
+    for nivel in $NIVEIS; do
+        relatorio="$SAIDA/$variante-$nivel.json"
+        [ -f "$relatorio" ] || continue
+        jq -r --arg variante "$variante" --arg nivel "$nivel" \
+            '[$variante, $nivel, .total.vazao, .total.p50, .total.p99, .total.erros, .descartadas] | @tsv' "$relatorio" \
+            | awk -F '\t' '{printf "%-9s %8s %10.1f %9.2f %9.2f %8s %12s\n", $1, $2, $3, $4, $5, $6, $7}'
+    done
+done
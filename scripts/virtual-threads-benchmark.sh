@@ -0,0 +1,126 @@
+#!/bin/bash
+
+# API de Pedidos - Threads de plataforma x threads virtuais
+#
+# Sobe a aplicação uma vez por modo (pool de threads do Tomcat e threads virtuais) e
+# executa o gerador de carga (perfil Maven loadtest) com 1k a 10k requisições em voo.
+# As threads virtuais exigem JDK 21+; em um JDK anterior o modo virtual é pulado.
+#
+# Uso:
+#   scripts/virtual-threads-benchmark.sh
+#   NIVEIS="1000 2000" DURACAO=20 PERFIL=prod scripts/virtual-threads-benchmark.sh
+#
+# Variáveis:
+#   NIVEIS               Requisições em voo por rodada (padrão "1000 5000 10000")
+#   TAXA_POR_CONEXAO     Taxa oferecida por requisição em voo; acima da capacidade o
+#                        gerador satura no limite de voo (padrão 2 req/s)
+#   DURACAO, AQUECIMENTO Segundos da fase medida e do aquecimento (padrão 30 e 10)
+#   CARGA                Pesos da carga mista do gerador (padrão o do gerador)
+#   PERFIL               Perfil Spring da aplicação (padrão dev, H2 em memória). Use um
+#                        banco real (prod) para reproduzir threads bloqueadas no JDBC
+#   PORTA                Porta da aplicação (padrão 8090)
+#   MAVEN_PERFIS         Perfis extras do build da aplicação (padrão -Pjdk21 em JDK 21+)
+
+NIVEIS="${NIVEIS:-1000 5000 10000}"
+TAXA_POR_CONEXAO="${TAXA_POR_CONEXAO:-2}"
+DURACAO="${DURACAO:-30}"
+AQUECIMENTO="${AQUECIMENTO:-10}"
+PERFIL="${PERFIL:-dev}"
+PORTA="${PORTA:-8090}"
+SAIDA="target/loadtest/threads"
+
+cd "$(dirname "$0")/.." || exit 1
+
+versao_java=$(java -version 2>&1 | awk -F '"' '/version/ {split($2, v, "."); print (v[1] == "1") ? v[2] : v[1]}')
+if [ -z "${MAVEN_PERFIS+x}" ]; then
+    MAVEN_PERFIS=""
+    if [ "$versao_java" -ge 21 ]; then
+        MAVEN_PERFIS="-Pjdk21"
+    fi
+fi
+
+# Cada requisição em voo usa um socket no gerador e outro na aplicação
+ulimit -n 65535 2>/dev/null || echo "Aviso: não foi possível elevar o limite de arquivos abertos ($(ulimit -n))"
+
+print_separator() {
+    echo "=================================================="
+}
+
+aguardar_aplicacao() {
+    for _ in $(seq 1 60); do
+        if curl -sf "http://localhost:$PORTA/actuator/health" > /dev/null 2>&1; then
+            return 0
+        fi
+        sleep 2
+    done
+    return 1
+}
+
+parar_aplicacao() {
+    if [ -n "$PID_APP" ]; then
+        kill "$PID_APP" 2>/dev/null
+        wait "$PID_APP" 2>/dev/null
+        PID_APP=""
+    fi
+}
+trap parar_aplicacao EXIT
+
+echo "=== API de Pedidos - Benchmark de threads (JDK $versao_java) ==="
+echo "Níveis: $NIVEIS  perfil: $PERFIL  duração: ${DURACAO}s"
+echo ""
+
+echo "Compilando aplicação e gerador de carga..."
+mvn -B -q $MAVEN_PERFIS -DskipTests package || exit 1
+mvn -B -q -Ploadtest test-compile || exit 1
+JAR=$(ls target/api-pedidos-*.jar | grep -v original | head -1)
+mkdir -p "$SAIDA"
+
+for modo in plataforma virtual; do
+    virtuais=false
+    if [ "$modo" = "virtual" ]; then
+        if [ "$versao_java" -lt 21 ]; then
+            echo "Modo virtual pulado: requer JDK 21+"
+            continue
+        fi
+        virtuais=true
+    fi
+
+    print_separator
+    echo "MODO: $modo"
+    print_separator
+    java -jar "$JAR" --server.port="$PORTA" --spring.profiles.active="$PERFIL" \
+        --app.threads.virtuais="$virtuais" \
+        --server.tomcat.max-connections=12000 --server.tomcat.accept-count=2000 \
+        > "$SAIDA/app-$modo.log" 2>&1 &
+    PID_APP=$!
+    if ! aguardar_aplicacao; then
+        echo "ERRO: aplicação não subiu; veja $SAIDA/app-$modo.log"
+        exit 1
+    fi
+
+    for nivel in $NIVEIS; do
+        echo "Rodada com $nivel requisições em voo..."
+        args="--url=http://localhost:$PORTA --taxa=$((nivel * TAXA_POR_CONEXAO)) --max-em-voo=$nivel"
+        args="$args --duracao=$DURACAO --aquecimento=$AQUECIMENTO --relatorio=$SAIDA/$modo-$nivel.json"
+        if [ -n "$CARGA" ]; then
+            args="$args --carga=$CARGA"
+        fi
+        mvn -B -q -Ploadtest exec:java -Dloadtest.args="$args" > "$SAIDA/$modo-$nivel.txt" 2>&1 \
+            || echo "Aviso: rodada $modo/$nivel terminou com erro; veja $SAIDA/$modo-$nivel.txt"
+    done
+    parar_aplicacao
+done
+
+print_separator
+echo "RESULTADOS (relatórios em $SAIDA)"
+print_separator
+printf "%-11s %8s %10s %9s %9s %8s %12s\n" "modo" "em voo" "req/s" "p50 ms" "p99 ms" "erros" "descartadas"
+for modo in plataforma virtual; do
+    for nivel in $NIVEIS; do
+        relatorio="$SAIDA/$modo-$nivel.json"
+        [ -f "$relatorio" ] || continue
+        jq -r --arg modo "$modo" --arg nivel "$nivel" \
+            '[$modo, $nivel, .total.vazao, .total.p50, .total.p99, .total.erros, .descartadas] | @tsv' "$relatorio" \
+            | awk -F '\t' '{printf "%-11s %8s %10.1f %9.2f %9.2f %8s %12s\n", $1, $2, $3, $4, $5, $6, $7}'
+    done
+done
@@ -0,0 +1,77 @@
+package com.example.apipedidos.audit;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.service.PedidoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de vazão do sink binário de auditoria
+ *
+ * Mede eventos gravados por segundo em uma thread (meta: 1 milhão por núcleo) e com
+ * quatro threads disputando o cursor do segmento. Os segmentos de 16MB são trocados
+ * durante a medição, então o custo do rolling entra no resultado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryAuditWriterBenchmark {
+
+    private Path diretorio;
+    private BinaryAuditWriter writer;
+    private Method criar;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("audit-bench");
+        writer = new BinaryAuditWriter(diretorio.toString(), 16, 4);
+        criar = PedidoService.class.getMethod("criarPedido", PedidoRequestDTO.class);
+        args = new Object[]{new PedidoRequestDTO("Cliente Benchmark", "Pedido de benchmark", new BigDecimal("150.75"))};
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writer.close();
+        for (Path segmento : BinaryAuditWriter.listSegments(diretorio)) {
+            Files.deleteIfExists(segmento);
+        }
+        Files.deleteIfExists(diretorio);
+    }
+
+    @Benchmark
+    public boolean eventoInicio() {
+        return writer.record(BinaryAuditWriter.PHASE_START, criar, "PedidoService", "0a1b2c3d", 0L, args, null);
+    }
+
+    @Benchmark
+    public boolean eventoSucesso() {
+        return writer.record(BinaryAuditWriter.PHASE_SUCCESS, criar, "PedidoService", "0a1b2c3d", 1_500L, null, null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean eventoInicioConcorrente() {
+        return writer.record(BinaryAuditWriter.PHASE_START, criar, "PedidoService", "0a1b2c3d", 0L, args, null);
+    }
+}
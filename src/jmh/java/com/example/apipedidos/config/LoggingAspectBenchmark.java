@@ -0,0 +1,84 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.model.Pedido;
+import com.example.apipedidos.repository.PedidoRepository;
+import com.example.apipedidos.service.PedidoService;
+import com.example.apipedidos.service.fila.FilaPedidos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do custo do LoggingAspect sobre uma chamada de serviço
+ *
+ * Compara a chamada direta ao PedidoService com a chamada via proxy AspectJ,
+ * variando a taxa de head sampling. O repositório é um stub em memória e os logs
+ * seguem para appenders assíncronos (logback-benchmark.xml), como em produção.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class LoggingAspectBenchmark {
+
+    @Param({"1.0", "0.1"})
+    private double headSampleRate;
+
+    private PedidoService direto;
+    private PedidoService comAspecto;
+
+    @Setup
+    public void setUp() {
+        Pedido pedido = new Pedido(42L, "Cliente Benchmark", "Pedido de benchmark", new BigDecimal("150.75"),
+                LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+        PedidoRepository repository = (PedidoRepository) Proxy.newProxyInstance(
+                PedidoRepository.class.getClassLoader(), new Class<?>[]{PedidoRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.of(pedido);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        direto = new PedidoService();
+        ReflectionTestUtils.setField(direto, "pedidoRepository", repository);
+        ReflectionTestUtils.setField(direto, "filaPedidos", new FilaPedidos());
+
+        LoggingAspect aspect = new LoggingAspect();
+        ReflectionTestUtils.setField(aspect, "headSampleRate", headSampleRate);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(direto);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        comAspecto = factory.getProxy();
+    }
+
+    @Benchmark
+    public PedidoResponseDTO semAspecto() {
+        return direto.buscarPedidoPorId(42L);
+    }
+
+    @Benchmark
+    public PedidoResponseDTO comAspecto() {
+        return comAspecto.buscarPedidoPorId(42L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.apipedidos.dto;
+
+import com.example.apipedidos.binary.PedidoBinaryFormat;
+import com.example.apipedidos.json.PedidoJsonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da serialização Jackson de listas de PedidoResponseDTO
+ *
+ * O ObjectMapper reproduz a configuração spring.jackson do application.yml; o parâmetro
+ * {@code serializador} compara a introspecção de bean padrão ({@code jackson}) com os
+ * (des)serializadores streaming do {@link PedidoJsonModule} ({@code streaming}) e com os
+ * formatos binários negociáveis: {@code cbor}, {@code smile} (ambos com o módulo) e
+ * {@code binario} ({@link PedidoBinaryFormat}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoSerializacaoBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int tamanho;
+
+    @Param({"jackson", "streaming", "cbor", "smile", "binario"})
+    private String serializador;
+
+    private ObjectMapper objectMapper;
+    private List<PedidoResponseDTO> pedidos;
+    private boolean binario;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("America/Sao_Paulo"));
+        if (!"jackson".equals(serializador)) {
+            builder.modulesToInstall(new PedidoJsonModule());
+        }
+        if ("cbor".equals(serializador)) {
+            builder.factory(new CBORFactory());
+        } else if ("smile".equals(serializador)) {
+            builder.factory(new SmileFactory());
+        }
+        objectMapper = builder.build();
+        binario = "binario".equals(serializador);
+
+        pedidos = new ArrayList<>(tamanho);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 10, 30, 45);
+        for (int i = 0; i < tamanho; i++) {
+            pedidos.add(new PedidoResponseDTO((long) i, "Cliente " + i, "Pedido de benchmark número " + i,
+                    new BigDecimal("150.75").add(BigDecimal.valueOf(i)), base.plusMinutes(i)));
+        }
+        PedidoRequestDTO request = new PedidoRequestDTO("Cliente Benchmark", "Pedido de benchmark", new BigDecimal("150.75"));
+        requestJson = binario ? PedidoBinaryFormat.codificar(request) : objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws Exception {
+        return binario ? PedidoBinaryFormat.codificarLista(pedidos) : objectMapper.writeValueAsBytes(pedidos);
+    }
+
+    @Benchmark
+    public PedidoRequestDTO desserializarRequest() throws Exception {
+        return binario
+                ? PedidoBinaryFormat.decodificarRequisicao(requestJson)
+                : objectMapper.readValue(requestJson, PedidoRequestDTO.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.apipedidos.service;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.model.Pedido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das conversões entre DTOs e a entidade Pedido
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoConversaoBenchmark {
+
+    private PedidoService pedidoService;
+    private PedidoRequestDTO request;
+    private Pedido pedido;
+
+    @Setup
+    public void setUp() {
+        pedidoService = new PedidoService();
+        request = new PedidoRequestDTO("Cliente Benchmark", "Pedido de benchmark", new BigDecimal("150.75"));
+        pedido = new Pedido(42L, "Cliente Benchmark", "Pedido de benchmark", new BigDecimal("150.75"),
+                LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+    }
+
+    @Benchmark
+    public Pedido convertToEntity() {
+        return pedidoService.convertToEntity(request);
+    }
+
+    @Benchmark
+    public PedidoResponseDTO convertToResponseDTO() {
+        return pedidoService.convertToResponseDTO(pedido);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark de contenção das operações da fila de pedidos com 1 a 64 threads
+ *
+ * Cada thread enfileira e desenfileira um pedido por operação, mantendo a fila
+ * em tamanho estável. O grupo produtorConsumidor separa produtores e consumidores.
+ * O parâmetro {@code modo} compara a pilha LIFO com a fila por prioridade (skip-list) e
+ * com a fila particionada por cliente; cada thread enfileira pedidos de um cliente próprio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilaPedidosBenchmark {
+
+    private static final int TAMANHO_INICIAL = 1_000;
+
+    private static final AtomicInteger CLIENTES = new AtomicInteger();
+
+    @Param({"lifo", "valor", "particionado"})
+    private String modo;
+
+    private FilaPedidos filaPedidos;
+    private PedidoResponseDTO pedido;
+
+    @Setup
+    public void setUp() {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        if ("particionado".equals(modo)) {
+            config.setParticoes(16);
+        } else {
+            config.setModo(FilaPedidosConfig.ModoFila.de(modo));
+        }
+        filaPedidos = new FilaPedidos(config);
+        pedido = new PedidoResponseDTO(1L, "Cliente Benchmark", "Pedido de benchmark",
+                new BigDecimal("150.75"), LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+        for (int i = 0; i < TAMANHO_INICIAL; i++) {
+            filaPedidos.enfileirar(pedido);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PedidoResponseDTO enfileirarDesenfileirar01(PedidoDaThread pedidoDaThread) {
+        return enfileirarDesenfileirar(pedidoDaThread);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PedidoResponseDTO enfileirarDesenfileirar04(PedidoDaThread pedidoDaThread) {
+        return enfileirarDesenfileirar(pedidoDaThread);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public PedidoResponseDTO enfileirarDesenfileirar16(PedidoDaThread pedidoDaThread) {
+        return enfileirarDesenfileirar(pedidoDaThread);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public PedidoResponseDTO enfileirarDesenfileirar64(PedidoDaThread pedidoDaThread) {
+        return enfileirarDesenfileirar(pedidoDaThread);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void espiarETamanho16(Blackhole blackhole) {
+        blackhole.consume(filaPedidos.espiar());
+        blackhole.consume(filaPedidos.tamanho());
+    }
+
+    @Benchmark
+    @Group("produtorConsumidor")
+    @GroupThreads(8)
+    public int produtor(PedidoDaThread pedidoDaThread) {
+        return filaPedidos.enfileirar(pedidoDaThread.pedido);
+    }
+
+    @Benchmark
+    @Group("produtorConsumidor")
+    @GroupThreads(8)
+    public PedidoResponseDTO consumidor() {
+        return filaPedidos.desenfileirar();
+    }
+
+    private PedidoResponseDTO enfileirarDesenfileirar(PedidoDaThread pedidoDaThread) {
+        filaPedidos.enfileirar(pedidoDaThread.pedido);
+        return filaPedidos.desenfileirar();
+    }
+
+    /**
+     * Pedido de um cliente exclusivo da thread
+     */
+    @State(Scope.Thread)
+    public static class PedidoDaThread {
+
+        private PedidoResponseDTO pedido;
+
+        @Setup
+        public void setUp() {
+            int cliente = CLIENTES.incrementAndGet();
+            pedido = new PedidoResponseDTO((long) cliente, "Cliente Benchmark " + cliente, "Pedido de benchmark",
+                    new BigDecimal("150.75"), LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+        }
+    }
+}
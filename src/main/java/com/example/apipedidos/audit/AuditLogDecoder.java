@@ -0,0 +1,232 @@
+package com.example.apipedidos.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.apipedidos.audit.AuditRecordFormat.*;
+
+/**
+ * Decodificador dos segmentos binários de auditoria para estruturas JSON
+ *
+ * Uso via linha de comando:
+ * {@code java -cp api-pedidos.jar -Dloader.main=com.example.apipedidos.audit.AuditLogDecoder
+ * org.springframework.boot.loader.PropertiesLauncher <diretorio> [limite]}
+ */
+public final class AuditLogDecoder {
+
+    private AuditLogDecoder() {
+    }
+
+    /**
+     * Decodifica os eventos mais recentes de um diretório de segmentos
+     * @param directory Diretório com os arquivos audit-*.seg
+     * @param limit Número máximo de eventos retornados (os mais recentes)
+     * @return Eventos em ordem cronológica
+     */
+    public static List<Map<String, Object>> decode(Path directory, int limit) throws IOException {
+        List<Path> segments = BinaryAuditWriter.listSegments(directory);
+        List<List<Map<String, Object>>> perSegment = new ArrayList<>();
+        int total = 0;
+        // Do segmento mais novo para o mais antigo, decodificando só o que ainda falta
+        for (int i = segments.size() - 1; i >= 0 && total < limit; i--) {
+            List<Map<String, Object>> events = decodeSegment(segments.get(i), limit - total);
+            perSegment.add(0, events);
+            total += events.size();
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(total);
+        for (List<Map<String, Object>> events : perSegment) {
+            result.addAll(events);
+        }
+        return result;
+    }
+
+    /**
+     * Decodifica todos os eventos de um segmento
+     * @param file Arquivo de segmento
+     * @return Eventos na ordem de gravação
+     */
+    public static List<Map<String, Object>> decodeSegment(Path file) throws IOException {
+        return decodeSegment(file, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Decodifica os últimos eventos de um segmento
+     * @param file Arquivo de segmento
+     * @param limit Número máximo de eventos decodificados (os mais recentes do segmento)
+     * @return Eventos na ordem de gravação
+     */
+    public static List<Map<String, Object>> decodeSegment(Path file, int limit) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Arquivo não é um segmento de auditoria válido: " + file);
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Versão de segmento de auditoria não suportada (" + buffer.getShort(4) + "): " + file);
+        }
+
+        // Primeira passada: dicionário de operações e posição dos eventos; segunda: só os últimos eventos
+        Map<Short, String> operations = new HashMap<>();
+        List<Integer> eventOffsets = new ArrayList<>();
+        int position = HEADER_SIZE;
+        while (true) {
+            if (!isRecord(buffer, position)) {
+                // Registro não concluído: os seguintes continuam válidos depois da lacuna
+                position = nextRecord(buffer, position + 1);
+                if (position < 0) {
+                    break;
+                }
+            }
+            int length = buffer.getInt(position) & RECORD_LENGTH_MASK;
+            byte type = buffer.get(position + 4);
+            if (type == TYPE_DICTIONARY) {
+                ByteBuffer record = slice(buffer, position + 5, length - 5);
+                short id = record.getShort();
+                operations.put(id, getString(record));
+            } else if (type == TYPE_EVENT) {
+                eventOffsets.add(position);
+            }
+            position += length;
+        }
+
+        int first = Math.max(0, eventOffsets.size() - Math.max(0, limit));
+        List<Map<String, Object>> events = new ArrayList<>(eventOffsets.size() - first);
+        for (int offset : eventOffsets.subList(first, eventOffsets.size())) {
+            ByteBuffer record = slice(buffer, offset + 4, (buffer.getInt(offset) & RECORD_LENGTH_MASK) - 4);
+            record.get();
+            events.add(decodeEvent(record, operations));
+        }
+        return events;
+    }
+
+    /**
+     * Verifica se há um cabeçalho de registro concluído na posição
+     */
+    private static boolean isRecord(ByteBuffer buffer, int position) {
+        if (position + MIN_RECORD_SIZE > buffer.capacity()) {
+            return false;
+        }
+        int header = buffer.getInt(position);
+        int length = header & RECORD_LENGTH_MASK;
+        if ((header & ~RECORD_LENGTH_MASK) != RECORD_MARK || length < MIN_RECORD_SIZE
+                || length > MAX_RECORD_SIZE || position + length > buffer.capacity()) {
+            return false;
+        }
+        byte type = buffer.get(position + 4);
+        return type == TYPE_DICTIONARY || type == TYPE_EVENT;
+    }
+
+    /**
+     * Procura o próximo registro concluído a partir de uma posição
+     * @return Posição do registro, ou -1 se não houver mais registros no segmento
+     */
+    private static int nextRecord(ByteBuffer buffer, int from) {
+        int position = from;
+        while (position + MIN_RECORD_SIZE <= buffer.capacity()) {
+            // O espaço ainda não usado do segmento é zerado: pula 8 bytes por vez
+            if (position + 8 <= buffer.capacity() && buffer.getLong(position) == 0L) {
+                position += 8;
+                continue;
+            }
+            if (isRecord(buffer, position)) {
+                return position;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    private static Map<String, Object> decodeEvent(ByteBuffer record, Map<Short, String> operations) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("timestamp", Instant.ofEpochMilli(record.getLong()).toString());
+        event.put("fase", phaseName(record.get()));
+        short operationId = record.getShort();
+        event.put("operacao", operations.getOrDefault(operationId, "op#" + operationId));
+        long requestId = record.getLong();
+        event.put("requestId", requestId < 0 ? null : String.format("%08x", requestId));
+        event.put("duracaoNanos", record.getLong());
+        int argCount = record.get();
+        List<Object> args = new ArrayList<>(argCount);
+        for (int i = 0; i < argCount; i++) {
+            args.add(getValue(record));
+        }
+        event.put("args", args);
+        Object error = getValue(record);
+        if (error != null) {
+            event.put("erro", error);
+        }
+        return event;
+    }
+
+    private static Object getValue(ByteBuffer record) {
+        byte tag = record.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_LONG:
+                return record.getLong();
+            case TAG_DECIMAL:
+                long unscaled = record.getLong();
+                return BigDecimal.valueOf(unscaled, record.get());
+            case TAG_STRING:
+                return getString(record);
+            case TAG_PEDIDO:
+                Map<String, Object> pedido = new LinkedHashMap<>();
+                pedido.put("nomeCliente", getValue(record));
+                pedido.put("descricao", getValue(record));
+                pedido.put("valor", getValue(record));
+                return pedido;
+            default:
+                throw new IllegalStateException("Tag de valor desconhecida: " + tag);
+        }
+    }
+
+    private static String getString(ByteBuffer record) {
+        int length = record.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.limit(offset + length);
+        return view.slice();
+    }
+
+    /**
+     * Imprime os eventos decodificados como JSON, um por linha
+     * @param args diretório dos segmentos e, opcionalmente, o limite de eventos
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: AuditLogDecoder <diretorio> [limite]");
+            System.exit(1);
+        }
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        ObjectMapper mapper = new ObjectMapper().disable(SerializationFeature.INDENT_OUTPUT);
+        for (Map<String, Object> event : decode(Paths.get(args[0]), limit)) {
+            System.out.println(mapper.writeValueAsString(event));
+        }
+    }
+}
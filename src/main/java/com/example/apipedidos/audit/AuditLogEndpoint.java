@@ -0,0 +1,40 @@
+package com.example.apipedidos.audit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator que decodifica a auditoria binária sob demanda
+ * Disponível em /actuator/auditoria?limite=N quando exposto
+ */
+@Component
+@Endpoint(id = "auditoria")
+@ConditionalOnProperty(name = "app.audit.binary.enabled", havingValue = "true")
+public class AuditLogEndpoint {
+
+    private static final int LIMITE_PADRAO = 100;
+    static final int LIMITE_MAXIMO = 1000;
+
+    @Autowired
+    private BinaryAuditWriter binaryAuditWriter;
+
+    /**
+     * Retorna os eventos de auditoria mais recentes em JSON
+     * @param limite Número máximo de eventos (padrão 100, limitado a 1000)
+     * @return Eventos em ordem cronológica
+     */
+    @ReadOperation
+    public List<Map<String, Object>> eventos(@Nullable Integer limite) throws IOException {
+        binaryAuditWriter.force();
+        int eventos = limite != null ? Math.max(0, Math.min(limite, LIMITE_MAXIMO)) : LIMITE_PADRAO;
+        return AuditLogDecoder.decode(binaryAuditWriter.getDirectory(), eventos);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.apipedidos.audit;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Formato binário dos segmentos de auditoria
+ *
+ * Cada segmento começa com um cabeçalho fixo seguido de registros
+ * {@code [int marca|tamanho][byte tipo][corpo]}. O cabeçalho do registro é gravado por
+ * último; um registro reservado e nunca concluído (queda entre a reserva e a gravação)
+ * fica como lacuna sem a marca, e o leitor procura a próxima marca válida a partir dela.
+ * Sem registro válido até o fim do arquivo, acabaram os dados gravados.
+ */
+final class AuditRecordFormat {
+
+    static final int MAGIC = 0x50454441; // "PEDA"
+    static final short VERSION = 2;
+
+    /** Byte alto do cabeçalho de cada registro; o tamanho ocupa os 24 bits restantes */
+    static final int RECORD_MARK = 0xA5000000;
+    static final int RECORD_LENGTH_MASK = 0x00FFFFFF;
+    /** cabeçalho(4) + tipo(1) */
+    static final int MIN_RECORD_SIZE = 5;
+
+    /** magic(4) + versão(2) + reservado(2) + sequência(8) + época do writer(8) */
+    static final int HEADER_SIZE = 24;
+
+    static final byte TYPE_DICTIONARY = 1;
+    static final byte TYPE_EVENT = 2;
+
+    static final byte PHASE_START = 1;
+    static final byte PHASE_SUCCESS = 2;
+    static final byte PHASE_ERROR = 3;
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_LONG = 1;
+    static final byte TAG_DECIMAL = 2;
+    static final byte TAG_STRING = 3;
+    static final byte TAG_PEDIDO = 4;
+
+    static final int MAX_ARGS = 8;
+    static final int MAX_STRING_CHARS = 1024;
+    static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".seg";
+
+    private AuditRecordFormat() {
+    }
+
+    static String phaseName(byte phase) {
+        switch (phase) {
+            case PHASE_START:
+                return "START";
+            case PHASE_SUCCESS:
+                return "SUCCESS";
+            case PHASE_ERROR:
+                return "ERROR";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    static String segmentFileName(long sequence) {
+        return FILE_PREFIX + String.format("%012d", sequence) + FILE_SUFFIX;
+    }
+
+    /**
+     * Grava uma string como [short tamanho][bytes UTF-8] sem alocar arrays intermediários
+     */
+    static void putString(ByteBuffer buffer, CharSequence value) {
+        int length = Math.min(value.length(), MAX_STRING_CHARS);
+        int lengthPosition = buffer.position();
+        buffer.putShort((short) 0);
+        int start = buffer.position();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        buffer.putShort(lengthPosition, (short) (buffer.position() - start));
+    }
+
+    /**
+     * Converte um requestId hexadecimal de 8 caracteres em int sem alocação
+     * @return valor numérico, ou -1L quando o id não está no formato esperado
+     */
+    static long parseRequestId(String requestId) {
+        if (requestId == null || requestId.length() != 8) {
+            return -1L;
+        }
+        int value = 0;
+        for (int i = 0; i < 8; i++) {
+            int digit = Character.digit(requestId.charAt(i), 16);
+            if (digit < 0) {
+                return -1L;
+            }
+            value = (value << 4) | digit;
+        }
+        return value & 0xFFFFFFFFL;
+    }
+}
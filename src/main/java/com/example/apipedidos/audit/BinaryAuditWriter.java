@@ -0,0 +1,396 @@
+package com.example.apipedidos.audit;
+
+import com.example.apipedidos.config.LogDropCounters;
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.example.apipedidos.audit.AuditRecordFormat.*;
+
+/**
+ * Sink de auditoria binário gravado em segmentos de arquivo mapeados em memória
+ *
+ * Cada evento é codificado em um buffer emprestado de um pool pequeno e limitado (não
+ * um por thread, o que com threads virtuais seria um buffer por requisição) e reserva
+ * espaço no segmento corrente com um getAndAdd atômico; não há formatação de String nem
+ * lock por evento. Os buffers começam pequenos e só crescem, até o tamanho máximo de
+ * registro, quando um evento não cabe.
+ * Ao encher, o segmento é trocado por um novo (rolling) e os mais antigos além de
+ * {@code max-segments} são removidos. Como os dados ficam no page cache do sistema
+ * operacional, uma queda da JVM não perde eventos já gravados; um evento interrompido
+ * entre a reserva e a gravação vira uma lacuna que o {@link AuditLogDecoder} pula.
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.binary.enabled", havingValue = "true")
+public class BinaryAuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryAuditWriter.class);
+
+    public static final byte PHASE_START = AuditRecordFormat.PHASE_START;
+    public static final byte PHASE_SUCCESS = AuditRecordFormat.PHASE_SUCCESS;
+    public static final byte PHASE_ERROR = AuditRecordFormat.PHASE_ERROR;
+
+    private static final int ENCODER_INITIAL_SIZE = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long epoch = System.currentTimeMillis();
+
+    private final ConcurrentMap<Method, Short> operationIds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Short, String> operationNames = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOperationId = new AtomicInteger();
+    private final ReentrantLock rollLock = new ReentrantLock();
+    // Sem encoder livre, o evento usa um novo, descartado se o pool estiver cheio na devolução
+    private final ArrayBlockingQueue<Encoder> encoders =
+            new ArrayBlockingQueue<>(Math.max(2, 2 * Runtime.getRuntime().availableProcessors()));
+
+    private final LongAdder failures = LogDropCounters.counter("BINARY_AUDIT.falhas");
+
+    private volatile Segment current;
+
+    public BinaryAuditWriter(@Value("${app.audit.binary.directory:./logs/audit-bin}") String directory,
+                             @Value("${app.audit.binary.segment-size-mb:16}") int segmentSizeMb,
+                             @Value("${app.audit.binary.max-segments:16}") int maxSegments) throws IOException {
+        this.directory = Paths.get(directory);
+        this.segmentSize = Math.max(1, segmentSizeMb) * 1024 * 1024;
+        this.maxSegments = Math.max(1, maxSegments);
+        Files.createDirectories(this.directory);
+        this.current = openSegment(lastSequence() + 1);
+        // Reinícios também abrem segmentos; sem isso o diretório só seria podado no primeiro rolling
+        deleteOldSegments();
+        log.info("Auditoria binária habilitada em {} (até {} segmentos de {}MB)",
+                this.directory.toAbsolutePath(), this.maxSegments, segmentSizeMb);
+    }
+
+    /**
+     * Registra um evento de auditoria de operação CRUD
+     *
+     * Falhas do sink (disco cheio ao trocar de segmento, evento acima de
+     * {@code MAX_RECORD_SIZE}) não chegam à operação auditada: são contadas em
+     * {@link LogDropCounters} ("BINARY_AUDIT.falhas") e o chamador registra o evento no log
+     * texto de auditoria.
+     * @param phase Fase da operação ({@link #PHASE_START}, {@link #PHASE_SUCCESS} ou {@link #PHASE_ERROR})
+     * @param method Método interceptado
+     * @param className Nome simples da classe alvo
+     * @param requestId Id da requisição (8 caracteres hexadecimais) ou null
+     * @param durationNanos Duração da operação (0 na fase START)
+     * @param args Argumentos da operação
+     * @param error Exceção lançada (apenas na fase ERROR)
+     * @return false se o evento não pôde ser gravado
+     */
+    public boolean record(byte phase, Method method, String className, String requestId,
+                          long durationNanos, Object[] args, Throwable error) {
+        Encoder encoder = encoders.poll();
+        if (encoder == null) {
+            encoder = new Encoder(ENCODER_INITIAL_SIZE);
+        }
+        try {
+            short operationId = operationId(method, className);
+            long timestamp = System.currentTimeMillis();
+            while (true) {
+                try {
+                    encodeEvent(encoder.begin(), timestamp, phase, operationId, requestId, durationNanos, args, error);
+                    break;
+                } catch (BufferOverflowException e) {
+                    encoder.grow();
+                }
+            }
+            append(encoder);
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            // Em disco cheio toda operação falharia; só a primeira falha vai para o log com stack trace
+            if (failures.sum() == 1) {
+                log.error("Falha ao gravar evento de auditoria binária; eventos seguem para o log texto", e);
+            } else {
+                log.debug("Falha ao gravar evento de auditoria binária: {}", e.toString());
+            }
+            return false;
+        } finally {
+            encoders.offer(encoder);
+        }
+    }
+
+    private static void encodeEvent(ByteBuffer buffer, long timestamp, byte phase, short operationId,
+                                    String requestId, long durationNanos, Object[] args, Throwable error) {
+        buffer.put(TYPE_EVENT);
+        buffer.putLong(timestamp);
+        buffer.put(phase);
+        buffer.putShort(operationId);
+        buffer.putLong(parseRequestId(requestId));
+        buffer.putLong(durationNanos);
+        int argCount = args == null ? 0 : Math.min(args.length, MAX_ARGS);
+        buffer.put((byte) argCount);
+        for (int i = 0; i < argCount; i++) {
+            putValue(buffer, args[i]);
+        }
+        String message = error != null ? error.getMessage() : null;
+        if (message != null) {
+            buffer.put(TAG_STRING);
+            putString(buffer, message);
+        } else {
+            buffer.put(TAG_NULL);
+        }
+    }
+
+    /**
+     * Força a gravação do segmento corrente em disco
+     */
+    public void force() {
+        current.buffer.force();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @PreDestroy
+    public void close() {
+        force();
+    }
+
+    private void append(Encoder encoder) {
+        ByteBuffer record = encoder.buffer;
+        int length = record.position();
+        while (true) {
+            Segment segment = current;
+            int offset = segment.position.getAndAdd(length);
+            if (offset >= 0 && offset <= segment.capacity - length) {
+                ByteBuffer view = encoder.view(segment);
+                record.flip();
+                record.position(4);
+                view.position(offset + 4);
+                view.put(record);
+                // O cabeçalho é gravado por último: sem ele, o leitor trata o trecho como lacuna
+                view.putInt(offset, RECORD_MARK | length);
+                return;
+            }
+            roll(segment);
+        }
+    }
+
+    private void roll(Segment full) {
+        rollLock.lock();
+        try {
+            if (current == full) {
+                current = openSegment(full.sequence + 1);
+                deleteOldSegments();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar novo segmento de auditoria", e);
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    private short operationId(Method method, String className) {
+        Short id = operationIds.get(method);
+        if (id != null) {
+            return id;
+        }
+        // Sob o rollLock, a entrada nova ou entra na cópia do dicionário de um segmento aberto
+        // depois, ou é gravada no segmento corrente antes que um rolling possa trocá-lo
+        rollLock.lock();
+        try {
+            return operationIds.computeIfAbsent(method, key -> {
+                short newId = (short) nextOperationId.getAndIncrement();
+                String name = className + "." + key.getName();
+                operationNames.put(newId, name);
+                Encoder encoder = new Encoder(MAX_RECORD_SIZE);
+                putDictionary(encoder.begin(), newId, name);
+                append(encoder);
+                return newId;
+            });
+        } finally {
+            rollLock.unlock();
+        }
+    }
+
+    private Segment openSegment(long sequence) throws IOException {
+        Path file = directory.resolve(segmentFileName(sequence));
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putLong(8, sequence);
+        buffer.putLong(16, epoch);
+
+        // Cada segmento carrega o dicionário completo para ser decodificável isoladamente
+        int position = HEADER_SIZE;
+        ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_SIZE);
+        for (Map.Entry<Short, String> entry : operationNames.entrySet()) {
+            scratch.clear();
+            scratch.position(4);
+            putDictionary(scratch, entry.getKey(), entry.getValue());
+            int length = scratch.position();
+            scratch.flip();
+            scratch.position(4);
+            ByteBuffer view = buffer.duplicate();
+            view.position(position + 4);
+            view.put(scratch);
+            buffer.putInt(position, RECORD_MARK | length);
+            position += length;
+        }
+        return new Segment(sequence, buffer, segmentSize, position);
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private long lastSequence() throws IOException {
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            return 0L;
+        }
+        String name = segments.get(segments.size() - 1).getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    /**
+     * Lista os segmentos de um diretório em ordem de sequência
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static void putDictionary(ByteBuffer buffer, short id, String name) {
+        buffer.put(TYPE_DICTIONARY);
+        buffer.putShort(id);
+        putString(buffer, name);
+    }
+
+    private static void putValue(ByteBuffer buffer, Object value) {
+        if (value == null) {
+            buffer.put(TAG_NULL);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            buffer.put(TAG_LONG);
+            buffer.putLong(((Number) value).longValue());
+        } else if (value instanceof BigDecimal) {
+            putDecimal(buffer, (BigDecimal) value);
+        } else if (value instanceof CharSequence) {
+            buffer.put(TAG_STRING);
+            putString(buffer, (CharSequence) value);
+        } else if (value instanceof PedidoRequestDTO) {
+            PedidoRequestDTO pedido = (PedidoRequestDTO) value;
+            buffer.put(TAG_PEDIDO);
+            putValue(buffer, pedido.getNomeCliente());
+            putValue(buffer, pedido.getDescricao());
+            putValue(buffer, pedido.getValor());
+        } else {
+            buffer.put(TAG_STRING);
+            putString(buffer, String.valueOf(value));
+        }
+    }
+
+    private static void putDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value.precision() <= 18 && value.scale() >= Byte.MIN_VALUE && value.scale() <= Byte.MAX_VALUE) {
+            buffer.put(TAG_DECIMAL);
+            buffer.putLong(value.unscaledValue().longValue());
+            buffer.put((byte) value.scale());
+        } else {
+            buffer.put(TAG_STRING);
+            putString(buffer, value.toPlainString());
+        }
+    }
+
+    /**
+     * Segmento mapeado em memória com cursor de reserva atômico
+     */
+    private static final class Segment {
+        private final long sequence;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger position;
+
+        private Segment(long sequence, MappedByteBuffer buffer, int capacity, int start) {
+            this.sequence = sequence;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.position = new AtomicInteger(start);
+        }
+    }
+
+    /**
+     * Buffer de codificação emprestado do pool, reaproveitado entre eventos
+     */
+    private static final class Encoder {
+        private ByteBuffer buffer;
+        private Segment viewSegment;
+        private ByteBuffer view;
+
+        private Encoder(int size) {
+            this.buffer = ByteBuffer.allocate(size);
+        }
+
+        /**
+         * Dobra o buffer para recodificar um evento que não coube
+         */
+        private void grow() {
+            if (buffer.capacity() >= MAX_RECORD_SIZE) {
+                throw new IllegalStateException("Evento de auditoria maior que " + MAX_RECORD_SIZE + " bytes");
+            }
+            buffer = ByteBuffer.allocate(Math.min(MAX_RECORD_SIZE, buffer.capacity() * 2));
+        }
+
+        private ByteBuffer begin() {
+            buffer.clear();
+            buffer.position(4);
+            return buffer;
+        }
+
+        private ByteBuffer view(Segment segment) {
+            if (viewSegment != segment) {
+                viewSegment = segment;
+                view = segment.buffer.duplicate();
+            }
+            view.clear();
+            return view;
+        }
+    }
+}
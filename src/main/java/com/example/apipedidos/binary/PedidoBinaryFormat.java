@@ -0,0 +1,315 @@
+package com.example.apipedidos.binary;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.springframework.http.MediaType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Formato binário compacto dos DTOs de pedido ({@code application/x-pedido})
+ *
+ * Esquema (versão 1), inteiros em varint (LEB128; zigzag quando podem ser negativos):
+ * <pre>
+ * mensagem   = versão(byte) tipo(byte) corpo
+ * PEDIDO     = presença(byte) [id: zigzag] [nomeCliente: texto] [descricao: texto]
+ *              [valor: decimal] [dataPedido: zigzag segundos UTC, varint nanos]
+ * LISTA      = quantidade(varint) PEDIDO*          (presença NULO marca elemento nulo)
+ * REQUISICAO = presença(byte) [nomeCliente: texto] [descricao: texto] [valor: decimal]
+ * texto      = tamanho(varint) bytes UTF-8
+ * decimal    = escala(zigzag) tamanho(varint) valor não escalado (complemento de dois, big-endian)
+ * </pre>
+ * Cada bit de presença indica que o campo correspondente não é nulo e foi gravado.
+ */
+public final class PedidoBinaryFormat {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/x-pedido");
+
+    static final byte VERSAO = 1;
+
+    static final byte TIPO_PEDIDO = 1;
+    static final byte TIPO_LISTA = 2;
+    static final byte TIPO_REQUISICAO = 3;
+
+    private static final int ID = 1;
+    private static final int NOME_CLIENTE = 1 << 1;
+    private static final int DESCRICAO = 1 << 2;
+    private static final int VALOR = 1 << 3;
+    private static final int DATA_PEDIDO = 1 << 4;
+    private static final int NULO = 1 << 7;
+
+    private PedidoBinaryFormat() {
+    }
+
+    public static byte[] codificar(PedidoResponseDTO pedido) {
+        Saida saida = new Saida(64);
+        saida.escreverByte(VERSAO);
+        saida.escreverByte(TIPO_PEDIDO);
+        escreverPedido(saida, pedido);
+        return saida.toByteArray();
+    }
+
+    public static byte[] codificarLista(Collection<?> pedidos) {
+        Saida saida = new Saida(16 + pedidos.size() * 64);
+        saida.escreverByte(VERSAO);
+        saida.escreverByte(TIPO_LISTA);
+        saida.escreverVarint(pedidos.size());
+        for (Object pedido : pedidos) {
+            escreverPedido(saida, (PedidoResponseDTO) pedido);
+        }
+        return saida.toByteArray();
+    }
+
+    public static byte[] codificar(PedidoRequestDTO requisicao) {
+        Saida saida = new Saida(64);
+        saida.escreverByte(VERSAO);
+        saida.escreverByte(TIPO_REQUISICAO);
+        int presenca = (requisicao.getNomeCliente() != null ? NOME_CLIENTE : 0)
+                | (requisicao.getDescricao() != null ? DESCRICAO : 0)
+                | (requisicao.getValor() != null ? VALOR : 0);
+        saida.escreverByte(presenca);
+        if ((presenca & NOME_CLIENTE) != 0) {
+            saida.escreverTexto(requisicao.getNomeCliente());
+        }
+        if ((presenca & DESCRICAO) != 0) {
+            saida.escreverTexto(requisicao.getDescricao());
+        }
+        if ((presenca & VALOR) != 0) {
+            saida.escreverDecimal(requisicao.getValor());
+        }
+        return saida.toByteArray();
+    }
+
+    public static PedidoResponseDTO decodificarPedido(byte[] dados) {
+        Entrada entrada = new Entrada(dados, TIPO_PEDIDO);
+        PedidoResponseDTO pedido = lerPedido(entrada);
+        entrada.verificarFim();
+        return pedido;
+    }
+
+    public static List<PedidoResponseDTO> decodificarLista(byte[] dados) {
+        Entrada entrada = new Entrada(dados, TIPO_LISTA);
+        int quantidade = entrada.lerTamanho();
+        List<PedidoResponseDTO> pedidos = new ArrayList<>(Math.min(quantidade, 1024));
+        for (int i = 0; i < quantidade; i++) {
+            pedidos.add(lerPedido(entrada));
+        }
+        entrada.verificarFim();
+        return pedidos;
+    }
+
+    public static PedidoRequestDTO decodificarRequisicao(byte[] dados) {
+        Entrada entrada = new Entrada(dados, TIPO_REQUISICAO);
+        int presenca = entrada.lerByte();
+        PedidoRequestDTO requisicao = new PedidoRequestDTO();
+        if ((presenca & NOME_CLIENTE) != 0) {
+            requisicao.setNomeCliente(entrada.lerTexto());
+        }
+        if ((presenca & DESCRICAO) != 0) {
+            requisicao.setDescricao(entrada.lerTexto());
+        }
+        if ((presenca & VALOR) != 0) {
+            requisicao.setValor(entrada.lerDecimal());
+        }
+        entrada.verificarFim();
+        return requisicao;
+    }
+
+    private static void escreverPedido(Saida saida, PedidoResponseDTO pedido) {
+        if (pedido == null) {
+            saida.escreverByte(NULO);
+            return;
+        }
+        int presenca = (pedido.getId() != null ? ID : 0)
+                | (pedido.getNomeCliente() != null ? NOME_CLIENTE : 0)
+                | (pedido.getDescricao() != null ? DESCRICAO : 0)
+                | (pedido.getValor() != null ? VALOR : 0)
+                | (pedido.getDataPedido() != null ? DATA_PEDIDO : 0);
+        saida.escreverByte(presenca);
+        if ((presenca & ID) != 0) {
+            saida.escreverZigzag(pedido.getId());
+        }
+        if ((presenca & NOME_CLIENTE) != 0) {
+            saida.escreverTexto(pedido.getNomeCliente());
+        }
+        if ((presenca & DESCRICAO) != 0) {
+            saida.escreverTexto(pedido.getDescricao());
+        }
+        if ((presenca & VALOR) != 0) {
+            saida.escreverDecimal(pedido.getValor());
+        }
+        if ((presenca & DATA_PEDIDO) != 0) {
+            saida.escreverZigzag(pedido.getDataPedido().toEpochSecond(ZoneOffset.UTC));
+            saida.escreverVarint(pedido.getDataPedido().getNano());
+        }
+    }
+
+    private static PedidoResponseDTO lerPedido(Entrada entrada) {
+        int presenca = entrada.lerByte();
+        if ((presenca & NULO) != 0) {
+            return null;
+        }
+        PedidoResponseDTO pedido = new PedidoResponseDTO();
+        if ((presenca & ID) != 0) {
+            pedido.setId(entrada.lerZigzag());
+        }
+        if ((presenca & NOME_CLIENTE) != 0) {
+            pedido.setNomeCliente(entrada.lerTexto());
+        }
+        if ((presenca & DESCRICAO) != 0) {
+            pedido.setDescricao(entrada.lerTexto());
+        }
+        if ((presenca & VALOR) != 0) {
+            pedido.setValor(entrada.lerDecimal());
+        }
+        if ((presenca & DATA_PEDIDO) != 0) {
+            long segundos = entrada.lerZigzag();
+            int nanos = (int) entrada.lerVarint();
+            if (nanos < 0 || nanos > 999_999_999) {
+                throw new IllegalArgumentException("Nanossegundos inválidos: " + nanos);
+            }
+            pedido.setDataPedido(LocalDateTime.ofEpochSecond(segundos, nanos, ZoneOffset.UTC));
+        }
+        return pedido;
+    }
+
+    /**
+     * Buffer de escrita que cresce sob demanda
+     */
+    private static final class Saida {
+        private byte[] buffer;
+        private int tamanho;
+
+        private Saida(int capacidade) {
+            this.buffer = new byte[capacidade];
+        }
+
+        private void garantir(int adicional) {
+            if (tamanho + adicional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, tamanho + adicional));
+            }
+        }
+
+        private void escreverByte(int valor) {
+            garantir(1);
+            buffer[tamanho++] = (byte) valor;
+        }
+
+        private void escreverVarint(long valor) {
+            garantir(10);
+            while ((valor & ~0x7FL) != 0) {
+                buffer[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            buffer[tamanho++] = (byte) valor;
+        }
+
+        private void escreverZigzag(long valor) {
+            escreverVarint((valor << 1) ^ (valor >> 63));
+        }
+
+        private void escreverBytes(byte[] bytes) {
+            escreverVarint(bytes.length);
+            garantir(bytes.length);
+            System.arraycopy(bytes, 0, buffer, tamanho, bytes.length);
+            tamanho += bytes.length;
+        }
+
+        private void escreverTexto(String texto) {
+            escreverBytes(texto.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void escreverDecimal(BigDecimal valor) {
+            escreverZigzag(valor.scale());
+            escreverBytes(valor.unscaledValue().toByteArray());
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, tamanho);
+        }
+    }
+
+    /**
+     * Leitura sequencial com validação de limites; dados malformados geram IllegalArgumentException
+     */
+    private static final class Entrada {
+        private final byte[] dados;
+        private int posicao;
+
+        private Entrada(byte[] dados, byte tipoEsperado) {
+            this.dados = dados;
+            int versao = lerByte();
+            if (versao != VERSAO) {
+                throw new IllegalArgumentException("Versão do formato binário não suportada: " + versao);
+            }
+            int tipo = lerByte();
+            if (tipo != tipoEsperado) {
+                throw new IllegalArgumentException("Tipo de mensagem inesperado: " + tipo);
+            }
+        }
+
+        private int lerByte() {
+            if (posicao >= dados.length) {
+                throw new IllegalArgumentException("Mensagem binária truncada");
+            }
+            return dados[posicao++] & 0xFF;
+        }
+
+        private long lerVarint() {
+            long valor = 0;
+            for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+                int b = lerByte();
+                valor |= (long) (b & 0x7F) << deslocamento;
+                if ((b & 0x80) == 0) {
+                    return valor;
+                }
+            }
+            throw new IllegalArgumentException("Varint inválido");
+        }
+
+        private long lerZigzag() {
+            long valor = lerVarint();
+            return (valor >>> 1) ^ -(valor & 1);
+        }
+
+        private int lerTamanho() {
+            long tamanho = lerVarint();
+            if (tamanho < 0 || tamanho > dados.length - posicao) {
+                throw new IllegalArgumentException("Tamanho inválido: " + tamanho);
+            }
+            return (int) tamanho;
+        }
+
+        private String lerTexto() {
+            int tamanho = lerTamanho();
+            String texto = new String(dados, posicao, tamanho, StandardCharsets.UTF_8);
+            posicao += tamanho;
+            return texto;
+        }
+
+        private BigDecimal lerDecimal() {
+            long escala = lerZigzag();
+            int tamanho = lerTamanho();
+            if (tamanho == 0 || escala < Integer.MIN_VALUE || escala > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Decimal inválido");
+            }
+            BigInteger semEscala = new BigInteger(Arrays.copyOfRange(dados, posicao, posicao + tamanho));
+            posicao += tamanho;
+            return new BigDecimal(semEscala, (int) escala);
+        }
+
+        private void verificarFim() {
+            if (posicao != dados.length) {
+                throw new IllegalArgumentException("Bytes excedentes na mensagem binária");
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.apipedidos.binary;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Conversor HTTP do formato binário compacto de pedidos ({@link PedidoBinaryFormat})
+ *
+ * Atende apenas PedidoRequestDTO, PedidoResponseDTO e coleções de PedidoResponseDTO;
+ * os demais tipos (status da fila, erros) continuam em JSON/CBOR/Smile, e erros pedidos
+ * só neste formato saem em JSON (GlobalExceptionHandler). Registrado no
+ * fim da lista de conversores, só é escolhido quando o cliente pede
+ * {@code application/x-pedido} explicitamente.
+ */
+public class PedidoBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public PedidoBinaryHttpMessageConverter() {
+        super(PedidoBinaryFormat.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == PedidoResponseDTO.class || clazz == PedidoRequestDTO.class
+                || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isTipoSuportado(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isTipoSuportado(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        byte[] corpo;
+        if (object instanceof PedidoResponseDTO) {
+            corpo = PedidoBinaryFormat.codificar((PedidoResponseDTO) object);
+        } else if (object instanceof PedidoRequestDTO) {
+            corpo = PedidoBinaryFormat.codificar((PedidoRequestDTO) object);
+        } else if (object instanceof Collection) {
+            corpo = PedidoBinaryFormat.codificarLista((Collection<?>) object);
+        } else {
+            throw new HttpMessageNotWritableException("Tipo não suportado no formato binário: " + object.getClass());
+        }
+        outputMessage.getHeaders().setContentLength(corpo.length);
+        outputMessage.getBody().write(corpo);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return decodificar(ResolvableType.forType(type).resolve(Object.class), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return decodificar(clazz, inputMessage);
+    }
+
+    private static Object decodificar(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] dados = StreamUtils.copyToByteArray(inputMessage.getBody());
+        try {
+            if (clazz == PedidoRequestDTO.class) {
+                return PedidoBinaryFormat.decodificarRequisicao(dados);
+            }
+            if (clazz == PedidoResponseDTO.class) {
+                return PedidoBinaryFormat.decodificarPedido(dados);
+            }
+            return PedidoBinaryFormat.decodificarLista(dados);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Mensagem binária inválida: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    private static boolean isTipoSuportado(Type type) {
+        ResolvableType tipo = ResolvableType.forType(type);
+        Class<?> classe = tipo.resolve();
+        if (classe == PedidoResponseDTO.class || classe == PedidoRequestDTO.class) {
+            return true;
+        }
+        return classe != null && Collection.class.isAssignableFrom(classe)
+                && tipo.asCollection().resolveGeneric(0) == PedidoResponseDTO.class;
+    }
+}
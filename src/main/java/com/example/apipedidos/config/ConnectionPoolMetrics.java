@@ -0,0 +1,56 @@
+package com.example.apipedidos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Métrica de saturação do pool de conexões Hikari
+ *
+ * Complementa as métricas hikaricp.* do Spring Boot com a razão
+ * (conexões ativas + threads aguardando) / tamanho máximo do pool:
+ * valores acima de 1 indicam requisições enfileiradas esperando conexão.
+ */
+@Component
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+
+    public ConnectionPoolMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        HikariDataSource hikari = unwrap(dataSource);
+        if (hikari == null) {
+            return;
+        }
+
+        Gauge.builder("pedidos.db.pool.saturacao", hikari, ConnectionPoolMetrics::saturacao)
+                .description("(Conexões ativas + threads aguardando) / tamanho máximo do pool")
+                .register(registry);
+    }
+
+    private static double saturacao(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return 0.0;
+        }
+        return (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / (double) hikari.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
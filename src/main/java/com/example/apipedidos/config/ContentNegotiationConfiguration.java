@@ -0,0 +1,44 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.binary.PedidoBinaryHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Formatos binários negociados por Accept/Content-Type nos mesmos endpoints
+ *
+ * CBOR ({@code application/cbor}) e Smile ({@code application/x-jackson-smile}) usam o
+ * ObjectMapper configurado pelo spring.jackson (mesmos módulos e (des)serializadores);
+ * os beans substituem os conversores padrão na mesma posição, depois do JSON.
+ * O formato compacto {@code application/x-pedido} é adicionado ao fim da lista, então
+ * JSON continua sendo a resposta para Accept curinga ou ausente.
+ */
+@Configuration
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PedidoBinaryHttpMessageConverter());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.service.fila.ConfirmacaoFila;
+import com.example.apipedidos.service.fila.ConsumidorFila;
+import com.example.apipedidos.service.fila.ConsumidorFilaConfig;
+import com.example.apipedidos.service.fila.FilaPedidos;
+import com.example.apipedidos.service.fila.FilaPedidosConfig;
+import com.example.apipedidos.service.fila.ProcessadorPedido;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cria a fila de pedidos a partir das propriedades {@code app.fila.*} e, com
+ * {@code app.fila.confirmacao.enabled=true}, o controle de entregas com confirmação.
+ * Com {@code app.fila.consumidores.enabled=true}, os beans {@link ProcessadorPedido}
+ * passam a ser chamados por workers internos que consomem a fila, em threads virtuais
+ * se {@code app.threads.virtuais=true} e o JDK as suportar.
+ */
+@Configuration
+public class FilaPedidosConfiguration {
+
+    @Value("${app.fila.dicionario-nomes.capacidade:100000}")
+    private int capacidadeNomes;
+
+    @Value("${app.fila.descricao-sob-demanda:false}")
+    private boolean descricaoSobDemanda;
+
+    @Value("${app.fila.armazenamento:heap}")
+    private String armazenamento;
+
+    @Value("${app.fila.off-heap.segmento-kb:1024}")
+    private int segmentoKb;
+
+    @Value("${app.fila.off-heap.max-mb:256}")
+    private long offHeapMaxMb;
+
+    @Value("${app.fila.off-heap.spill.enabled:true}")
+    private boolean spillHabilitado;
+
+    @Value("${app.fila.off-heap.spill.directory:${java.io.tmpdir}}")
+    private String diretorioSpill;
+
+    @Value("${app.fila.modo:lifo}")
+    private String modo;
+
+    @Value("${app.fila.prioridade.peso-valor:1.0}")
+    private double pesoValor;
+
+    @Value("${app.fila.prioridade.peso-antiguidade:1.0}")
+    private double pesoAntiguidade;
+
+    @Value("${app.fila.prioridade.envelhecimento-por-segundo:0.1}")
+    private double envelhecimentoPorSegundo;
+
+    @Value("${app.fila.particoes.quantidade:0}")
+    private int particoes;
+
+    @Value("${app.fila.particoes.quantum:1}")
+    private int quantum;
+
+    @Value("${app.fila.limite.capacidade:0}")
+    private int capacidade;
+
+    @Value("${app.fila.limite.politica:rejeitar}")
+    private String politicaOverflow;
+
+    @Value("${app.fila.limite.bloqueio-ms:1000}")
+    private long bloqueioMs;
+
+    @Value("${app.fila.limite.retry-after-s:5}")
+    private long retryAfterSegundos;
+
+    @Bean
+    public FilaPedidos filaPedidos() {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setCapacidadeNomes(capacidadeNomes);
+        config.setDescricaoSobDemanda(descricaoSobDemanda);
+        config.setArmazenamento(FilaPedidosConfig.TipoArmazenamento.de(armazenamento));
+        config.setSegmentoKb(segmentoKb);
+        config.setOffHeapMaxMb(offHeapMaxMb);
+        config.setSpillHabilitado(spillHabilitado);
+        config.setDiretorioSpill(diretorioSpill);
+        config.setModo(FilaPedidosConfig.ModoFila.de(modo));
+        config.setPesoValor(pesoValor);
+        config.setPesoAntiguidade(pesoAntiguidade);
+        config.setEnvelhecimentoPorSegundo(envelhecimentoPorSegundo);
+        config.setParticoes(particoes);
+        config.setQuantum(quantum);
+        config.setCapacidade(capacidade);
+        config.setPoliticaOverflow(FilaPedidosConfig.PoliticaOverflow.de(politicaOverflow));
+        config.setBloqueioMs(bloqueioMs);
+        config.setRetryAfterSegundos(retryAfterSegundos);
+        return new FilaPedidos(config);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.fila.confirmacao.enabled", havingValue = "true")
+    public ConfirmacaoFila confirmacaoFila(FilaPedidos filaPedidos,
+                                           @Value("${app.fila.confirmacao.visibilidade-ms:30000}") long visibilidadeMs,
+                                           @Value("${app.fila.confirmacao.max-entregas:5}") int maxEntregas,
+                                           @Value("${app.fila.confirmacao.mortos.capacidade:1000}") int capacidadeMortos,
+                                           @Value("${app.fila.confirmacao.roda.tick-ms:100}") long tickMs,
+                                           @Value("${app.fila.confirmacao.roda.slots:512}") int slots) {
+        return new ConfirmacaoFila(filaPedidos, visibilidadeMs, maxEntregas, capacidadeMortos, tickMs, slots);
+    }
+
+    @Value("${app.threads.virtuais:false}")
+    private boolean threadsVirtuais;
+
+    @Bean
+    @ConditionalOnProperty(name = "app.fila.consumidores.enabled", havingValue = "true")
+    public ConsumidorFila consumidorFila(FilaPedidos filaPedidos,
+                                         ObjectProvider<ConfirmacaoFila> confirmacaoFila,
+                                         ObjectProvider<ProcessadorPedido> processadores,
+                                         @Value("${app.fila.consumidores.workers:4}") int workers,
+                                         @Value("${app.fila.consumidores.lote:32}") int lote,
+                                         @Value("${app.fila.consumidores.ocioso-ms:200}") long ociosoMs,
+                                         @Value("${app.fila.consumidores.concorrencia-por-processador:0}") int concorrencia,
+                                         @Value("${app.fila.consumidores.retentativas.max-tentativas:3}") int maxTentativas,
+                                         @Value("${app.fila.consumidores.retentativas.backoff-inicial-ms:100}") long backoffInicialMs,
+                                         @Value("${app.fila.consumidores.retentativas.multiplicador:2.0}") double multiplicador,
+                                         @Value("${app.fila.consumidores.retentativas.backoff-max-ms:10000}") long backoffMaxMs,
+                                         @Value("${app.fila.consumidores.desligamento-ms:5000}") long desligamentoMs) {
+        ConsumidorFilaConfig config = new ConsumidorFilaConfig();
+        config.setWorkers(workers);
+        config.setLote(lote);
+        config.setOciosoMs(ociosoMs);
+        config.setConcorrenciaPorProcessador(concorrencia);
+        config.setMaxTentativas(maxTentativas);
+        config.setBackoffInicialMs(backoffInicialMs);
+        config.setBackoffMultiplicador(multiplicador);
+        config.setBackoffMaxMs(backoffMaxMs);
+        config.setDesligamentoMs(desligamentoMs);
+        List<ProcessadorPedido> lista = processadores.orderedStream().collect(Collectors.toList());
+        if (threadsVirtuais && ThreadsVirtuais.disponiveis()) {
+            return new ConsumidorFila(filaPedidos, confirmacaoFila.getIfAvailable(), lista, config,
+                    ThreadsVirtuais.fabrica("fila-consumidor-"));
+        }
+        return new ConsumidorFila(filaPedidos, confirmacaoFila.getIfAvailable(), lista, config);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.service.fila.ConfirmacaoFila;
+import com.example.apipedidos.service.fila.ConsumidorFila;
+import com.example.apipedidos.service.fila.FilaPedidos;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas Micrometer da fila de pedidos
+ *
+ * Os valores são lidos dos contadores mantidos pela própria fila no momento da
+ * coleta, sem custo adicional no caminho de enfileiramento/desenfileiramento.
+ */
+@Component
+public class FilaPedidosMetrics implements MeterBinder {
+
+    private final FilaPedidos filaPedidos;
+    private final ConfirmacaoFila confirmacaoFila;
+    private final ConsumidorFila consumidorFila;
+
+    @Autowired
+    public FilaPedidosMetrics(FilaPedidos filaPedidos, ObjectProvider<ConfirmacaoFila> confirmacaoFila,
+                              ObjectProvider<ConsumidorFila> consumidorFila) {
+        this(filaPedidos, confirmacaoFila.getIfAvailable(), consumidorFila.getIfAvailable());
+    }
+
+    FilaPedidosMetrics(FilaPedidos filaPedidos, ConfirmacaoFila confirmacaoFila, ConsumidorFila consumidorFila) {
+        this.filaPedidos = filaPedidos;
+        this.confirmacaoFila = confirmacaoFila;
+        this.consumidorFila = consumidorFila;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pedidos.fila.tamanho", filaPedidos, FilaPedidos::tamanho)
+                .description("Número de pedidos aguardando na fila")
+                .register(registry);
+
+        Gauge.builder("pedidos.fila.idade", filaPedidos, fila -> fila.idadeMaisAntigoNanos() / 1e9)
+                .description("Tempo desde o enfileiramento do pedido mais antigo ainda na fila")
+                .baseUnit("seconds")
+                .register(registry);
+
+        Gauge.builder("pedidos.fila.clientes", filaPedidos, FilaPedidos::getNomesDistintos)
+                .description("Nomes de cliente distintos no dicionário compartilhado pelas entradas da fila")
+                .register(registry);
+
+        if (filaPedidos.getCapacidade() > 0) {
+            Gauge.builder("pedidos.fila.capacidade", filaPedidos, FilaPedidos::getCapacidade)
+                    .description("Capacidade máxima da fila de pedidos")
+                    .register(registry);
+
+            Gauge.builder("pedidos.fila.utilizacao", filaPedidos, FilaPedidos::getUtilizacao)
+                    .description("Fração da capacidade da fila ocupada")
+                    .register(registry);
+
+            FunctionCounter.builder("pedidos.fila.rejeitados", filaPedidos, FilaPedidos::getTotalRejeitados)
+                    .description("Total de pedidos recusados por fila cheia")
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("pedidos.fila.enfileirados", filaPedidos, FilaPedidos::getTotalEnfileirados)
+                .description("Total de pedidos adicionados à fila")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.desenfileirados", filaPedidos, FilaPedidos::getTotalDesenfileirados)
+                .description("Total de pedidos removidos da fila")
+                .register(registry);
+
+        FunctionTimer.builder("pedidos.fila.espera", filaPedidos,
+                        FilaPedidos::getTotalDesenfileirados,
+                        FilaPedidos::getTempoEsperaTotalNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Tempo entre o enfileiramento e a retirada do pedido da fila")
+                .register(registry);
+
+        if (confirmacaoFila != null) {
+            bindConfirmacao(registry);
+        }
+        if (consumidorFila != null) {
+            bindConsumidores(registry);
+        }
+    }
+
+    private void bindConfirmacao(MeterRegistry registry) {
+        Gauge.builder("pedidos.fila.em-processamento", confirmacaoFila, ConfirmacaoFila::getEmProcessamento)
+                .description("Pedidos entregues aguardando confirmação dentro do prazo de visibilidade")
+                .register(registry);
+
+        Gauge.builder("pedidos.fila.mortos", confirmacaoFila, ConfirmacaoFila::getQuantidadeMortos)
+                .description("Pedidos na lista de mortos após esgotar as entregas")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.confirmados", confirmacaoFila, ConfirmacaoFila::getTotalConfirmados)
+                .description("Total de entregas confirmadas")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.reentregues", confirmacaoFila, ConfirmacaoFila::getTotalReentregues)
+                .description("Total de pedidos devolvidos à fila por prazo de visibilidade expirado")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.descartados", confirmacaoFila, ConfirmacaoFila::getTotalMortos)
+                .description("Total de pedidos movidos para a lista de mortos")
+                .register(registry);
+    }
+
+    private void bindConsumidores(MeterRegistry registry) {
+        Gauge.builder("pedidos.fila.consumidor.em-processamento", consumidorFila, ConsumidorFila::getEmProcessamento)
+                .description("Pedidos retirados pelos consumidores internos ainda em processamento")
+                .register(registry);
+
+        Gauge.builder("pedidos.fila.consumidor.aguardando-retentativa", consumidorFila,
+                        ConsumidorFila::getAguardandoRetentativa)
+                .description("Pedidos com falha aguardando o backoff para nova tentativa")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.consumidor.processados", consumidorFila,
+                        ConsumidorFila::getTotalProcessados)
+                .description("Total de pedidos concluídos pelos processadores internos")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.consumidor.retentativas", consumidorFila,
+                        ConsumidorFila::getTotalRetentativas)
+                .description("Total de novas tentativas agendadas após falha")
+                .register(registry);
+
+        FunctionCounter.builder("pedidos.fila.consumidor.esgotados", consumidorFila,
+                        ConsumidorFila::getTotalEsgotados)
+                .description("Total de pedidos que falharam em todas as tentativas")
+                .register(registry);
+
+        for (ConsumidorFila.EstatisticasProcessador processador : consumidorFila.getProcessadores()) {
+            FunctionTimer.builder("pedidos.fila.consumidor.execucao", processador,
+                            ConsumidorFila.EstatisticasProcessador::getExecucoes,
+                            ConsumidorFila.EstatisticasProcessador::getTempoTotalNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("Execuções de cada processador de pedidos, com sucesso ou falha")
+                    .tag("processador", processador.getNome())
+                    .register(registry);
+
+            FunctionCounter.builder("pedidos.fila.consumidor.falhas", processador,
+                            ConsumidorFila.EstatisticasProcessador::getFalhas)
+                    .description("Execuções do processador que lançaram exceção")
+                    .tag("processador", processador.getNome())
+                    .register(registry);
+
+            Gauge.builder("pedidos.fila.consumidor.ativos", processador,
+                            ConsumidorFila.EstatisticasProcessador::getEmExecucao)
+                    .description("Execuções simultâneas do processador")
+                    .tag("processador", processador.getNome())
+                    .register(registry);
+        }
+    }
+}
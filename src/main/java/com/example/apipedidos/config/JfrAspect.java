@@ -0,0 +1,138 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.jfr.Jfr;
+import com.example.apipedidos.jfr.PedidoCriadoEvent;
+import com.example.apipedidos.jfr.RepositorioConsultaEvent;
+import com.example.apipedidos.jfr.ServicoChamadaEvent;
+import com.example.apipedidos.model.Pedido;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Aspecto que emite eventos customizados do JDK Flight Recorder
+ *
+ * Quando não há gravação ativa, ou o evento está desabilitado no perfil .jfc,
+ * a verificação isEnabled() evita qualquer trabalho além da chamada original. Em
+ * runtimes sem a API do Flight Recorder ({@link Jfr#DISPONIVEL}), nenhum evento é criado.
+ */
+@Aspect
+@Component
+public class JfrAspect {
+
+    /**
+     * Pointcut para todos os métodos do PedidoService
+     */
+    @Pointcut("execution(* com.example.apipedidos.service.PedidoService.*(..))")
+    public void pedidoServiceMethods() {}
+
+    /**
+     * Pointcut para a criação de pedidos
+     */
+    @Pointcut("execution(* com.example.apipedidos.service.PedidoService.criarPedido(..))")
+    public void criacaoPedido() {}
+
+    /**
+     * Pointcut para os métodos do PedidoRepository (incluindo os herdados do JpaRepository)
+     */
+    @Pointcut("execution(* com.example.apipedidos.repository.PedidoRepository+.*(..))")
+    public void repositoryMethods() {}
+
+    @Around("pedidoServiceMethods()")
+    public Object recordServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Jfr.DISPONIVEL) {
+            return joinPoint.proceed();
+        }
+        ServicoChamadaEvent event = new ServicoChamadaEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.sucesso = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.metodo = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("criacaoPedido()")
+    public Object recordOrderCreation(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Jfr.DISPONIVEL) {
+            return joinPoint.proceed();
+        }
+        PedidoCriadoEvent event = new PedidoCriadoEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof PedidoResponseDTO && ((PedidoResponseDTO) result).getId() != null) {
+                event.pedidoId = ((PedidoResponseDTO) result).getId();
+            }
+            event.sucesso = true;
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Around("repositoryMethods()")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Jfr.DISPONIVEL) {
+            return joinPoint.proceed();
+        }
+        RepositorioConsultaEvent event = new RepositorioConsultaEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            event.sucesso = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.metodo = joinPoint.getSignature().getName();
+                Object[] args = joinPoint.getArgs();
+                if (args.length > 0 && args[0] instanceof Long) {
+                    event.pedidoId = (Long) args[0];
+                }
+                describeResult(event, result);
+                event.commit();
+            }
+        }
+    }
+
+    private static void describeResult(RepositorioConsultaEvent event, Object result) {
+        if (result instanceof Collection) {
+            event.resultados = ((Collection<?>) result).size();
+        } else if (result instanceof Optional) {
+            Optional<?> optional = (Optional<?>) result;
+            event.resultados = optional.isPresent() ? 1 : 0;
+            optional.filter(Pedido.class::isInstance)
+                    .map(pedido -> ((Pedido) pedido).getId())
+                    .ifPresent(id -> event.pedidoId = id);
+        } else if (result instanceof Pedido) {
+            event.resultados = 1;
+            Long id = ((Pedido) result).getId();
+            if (id != null) {
+                event.pedidoId = id;
+            }
+        }
+    }
+}
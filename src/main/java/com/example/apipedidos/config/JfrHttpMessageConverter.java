@@ -0,0 +1,96 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.jfr.Jfr;
+import com.example.apipedidos.jfr.SerializacaoEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Conversor JSON que emite um evento JFR por resposta serializada (quando o runtime
+ * tem a API do Flight Recorder, ver {@link Jfr})
+ */
+public class JfrHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public JfrHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!Jfr.DISPONIVEL) {
+            writeBody(object, type, outputMessage);
+            return;
+        }
+        SerializacaoEvent event = new SerializacaoEvent();
+        if (!event.isEnabled()) {
+            writeBody(object, type, outputMessage);
+            return;
+        }
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        event.begin();
+        try {
+            writeBody(object, type, counting);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.tipo = object.getClass().getSimpleName();
+                event.elementos = object instanceof Collection ? ((Collection<?>) object).size() : 1;
+                event.contentType = String.valueOf(outputMessage.getHeaders().getContentType());
+                event.bytes = counting.count;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Escreve o corpo da resposta; subclasses podem substituir a serialização Jackson
+     */
+    protected void writeBody(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        super.writeInternal(object, type, outputMessage);
+    }
+
+    /**
+     * Mensagem de saída que contabiliza os bytes escritos no corpo
+     */
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage delegate;
+        private long count;
+
+        private CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    count++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    count += len;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+}
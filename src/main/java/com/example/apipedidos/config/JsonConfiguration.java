@@ -0,0 +1,62 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.json.PedidoJsonCache;
+import com.example.apipedidos.json.PedidoJsonHttpMessageConverter;
+import com.example.apipedidos.json.PedidoJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Configuração do conversor JSON das respostas
+ *
+ * O conversor padrão do Spring Boot é substituído por um que emite eventos JFR de
+ * serialização (perfil de gravação em classpath:jfr/api-pedidos.jfc) e, com
+ * {@code app.json-cache.enabled=true}, reaproveita o JSON pré-serializado dos pedidos.
+ * Com {@code app.json.streaming-serializers=true}, os DTOs de pedido usam
+ * (des)serializadores streaming em vez da introspecção de bean do Jackson.
+ */
+@Configuration
+public class JsonConfiguration {
+
+    /**
+     * Módulo registrado automaticamente no ObjectMapper do Spring Boot
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.json.streaming-serializers", havingValue = "true", matchIfMissing = true)
+    public Module pedidoJsonModule() {
+        return new PedidoJsonModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.json-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public PedidoJsonCache pedidoJsonCache(ObjectMapper objectMapper,
+                                           @Value("${app.json-cache.max-size-mb:64}") long maxSizeMb) {
+        return new PedidoJsonCache(objectMapper, maxSizeMb * 1024 * 1024);
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, ObjectProvider<PedidoJsonCache> pedidoJsonCache) {
+        PedidoJsonCache cache = pedidoJsonCache.getIfAvailable();
+        return cache != null
+                ? new PedidoJsonHttpMessageConverter(objectMapper, cache)
+                : new JfrHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * Métricas cache.* (gets, puts, evictions, size) do cache de JSON de pedidos
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.json-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder pedidoJsonCacheMetrics(PedidoJsonCache pedidoJsonCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, pedidoJsonCache.getCache(), "pedidosJson");
+    }
+}
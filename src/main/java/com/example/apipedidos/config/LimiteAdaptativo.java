@@ -0,0 +1,173 @@
+package com.example.apipedidos.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência medida (gradiente + AIMD)
+ *
+ * A cada janela, a latência média curta é comparada com a média longa: enquanto
+ * {@code tolerancia * longa / curta} fica acima de 1 o limite cresce pela folga de fila
+ * ({@code sqrt(limite)}); quando a latência sobe, o gradiente cai (até 0,5) e o limite
+ * encolhe na mesma proporção. Janelas em que a taxa de falhas de servidor passa de
+ * {@code taxaFalhasMaxima} reduzem o limite pelo fator multiplicativo; um 5xx isolado
+ * não. Em janelas em que a concorrência não chegou à metade do limite, ele só volta a
+ * crescer até o limite inicial, recuperando o que foi cortado sem inflar durante
+ * tráfego baixo.
+ *
+ * Adquirir é um CAS no contador em voo; só o fechamento da janela usa trava, por
+ * tryLock, sem bloquear a requisição.
+ */
+final class LimiteAdaptativo {
+
+    // Médias curtas que compõem a média longa (EMA)
+    private static final int JANELAS_LONGAS = 20;
+
+    private final int limiteInicial;
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final double tolerancia;
+    private final double suavizacao;
+    private final double fatorReducao;
+    private final double taxaFalhasMaxima;
+    private final long janelaNanos;
+    private final int amostrasMinimas;
+
+    private final AtomicInteger emVoo = new AtomicInteger();
+    private final LongAdder rejeitadas = new LongAdder();
+    private volatile int limite;
+
+    // Estado da janela corrente, fechado por quem obtiver a trava
+    private final ReentrantLock trava = new ReentrantLock();
+    private final LongAdder somaLatenciaNanos = new LongAdder();
+    private final LongAdder amostras = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final AtomicInteger maximoEmVoo = new AtomicInteger();
+    private volatile long inicioJanela;
+    private double limiteEstimado;
+    private double latenciaLongaNanos;
+
+    LimiteAdaptativo(int limiteInicial, int limiteMinimo, int limiteMaximo, double tolerancia,
+                     double suavizacao, double fatorReducao, double taxaFalhasMaxima, long janelaMs,
+                     int amostrasMinimas) {
+        if (limiteMinimo < 1 || limiteMaximo < limiteMinimo
+                || limiteInicial < limiteMinimo || limiteInicial > limiteMaximo) {
+            throw new IllegalArgumentException("Limites devem satisfazer 1 <= mínimo <= inicial <= máximo");
+        }
+        if (tolerancia < 1.0 || suavizacao <= 0.0 || suavizacao > 1.0
+                || fatorReducao <= 0.0 || fatorReducao >= 1.0 || taxaFalhasMaxima < 0.0 || taxaFalhasMaxima >= 1.0
+                || janelaMs < 1 || amostrasMinimas < 1) {
+            throw new IllegalArgumentException("Parâmetros do limite adaptativo inválidos");
+        }
+        this.limiteInicial = limiteInicial;
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.tolerancia = tolerancia;
+        this.suavizacao = suavizacao;
+        this.fatorReducao = fatorReducao;
+        this.taxaFalhasMaxima = taxaFalhasMaxima;
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.amostrasMinimas = amostrasMinimas;
+        this.limite = limiteInicial;
+        this.limiteEstimado = limiteInicial;
+        this.inicioJanela = System.nanoTime();
+    }
+
+    /**
+     * Reserva uma vaga se a concorrência estiver abaixo do limite
+     * @return false se a requisição deve ser rejeitada
+     */
+    boolean tentarAdquirir() {
+        while (true) {
+            int atual = emVoo.get();
+            if (atual >= limite) {
+                rejeitadas.increment();
+                return false;
+            }
+            if (emVoo.compareAndSet(atual, atual + 1)) {
+                maximoEmVoo.accumulateAndGet(atual + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e registra a latência da requisição
+     * @param latenciaNanos Duração da requisição
+     * @param falhou true para erro de servidor (5xx ou exceção)
+     * @param agora Instante atual em nanossegundos (System.nanoTime)
+     */
+    void liberar(long latenciaNanos, boolean falhou, long agora) {
+        emVoo.decrementAndGet();
+        somaLatenciaNanos.add(latenciaNanos);
+        amostras.increment();
+        if (falhou) {
+            falhas.increment();
+        }
+        if (agora - inicioJanela >= janelaNanos && trava.tryLock()) {
+            try {
+                if (agora - inicioJanela >= janelaNanos) {
+                    fecharJanela(agora);
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    private void fecharJanela(long agora) {
+        long quantidade = amostras.sum();
+        if (quantidade < amostrasMinimas) {
+            return;
+        }
+        // As somas podem receber amostras entre as leituras; a diferença entra na próxima janela
+        long soma = somaLatenciaNanos.sumThenReset();
+        amostras.add(-quantidade);
+        long falhasNaJanela = falhas.sumThenReset();
+        int pico = maximoEmVoo.getAndSet(emVoo.get());
+        inicioJanela = agora;
+
+        double latenciaCurta = Math.max(1.0, (double) soma / quantidade);
+        if (latenciaLongaNanos == 0.0) {
+            latenciaLongaNanos = latenciaCurta;
+        } else {
+            latenciaLongaNanos += (latenciaCurta - latenciaLongaNanos) / JANELAS_LONGAS;
+            // Depois de uma degradação, a média longa volta mais rápido ao novo patamar
+            if (latenciaLongaNanos > 2 * latenciaCurta) {
+                latenciaLongaNanos *= 0.95;
+            }
+        }
+
+        double novo;
+        if ((double) falhasNaJanela / quantidade > taxaFalhasMaxima) {
+            novo = limiteEstimado * fatorReducao;
+        } else {
+            double gradiente = Math.max(0.5, Math.min(1.0, tolerancia * latenciaLongaNanos / latenciaCurta));
+            boolean ocioso = gradiente >= 1.0 && pico < limiteEstimado / 2;
+            if (ocioso && limiteEstimado >= limiteInicial) {
+                return;
+            }
+            novo = limiteEstimado * gradiente + Math.sqrt(limiteEstimado);
+            novo = limiteEstimado * (1 - suavizacao) + novo * suavizacao;
+            if (ocioso) {
+                novo = Math.min(limiteInicial, novo);
+            }
+        }
+        limiteEstimado = Math.max(limiteMinimo, Math.min(limiteMaximo, novo));
+        limite = (int) limiteEstimado;
+    }
+
+    int getLimite() {
+        return limite;
+    }
+
+    int getEmVoo() {
+        return emVoo.get();
+    }
+
+    long getRejeitadas() {
+        return rejeitadas.sum();
+    }
+}
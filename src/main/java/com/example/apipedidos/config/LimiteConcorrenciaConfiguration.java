@@ -0,0 +1,92 @@
+package com.example.apipedidos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Com {@code app.concorrencia.enabled=true}, registra o {@link LimiteConcorrenciaFilter}
+ * em /api/* a partir das propriedades {@code app.concorrencia.*}, com as métricas
+ * {@code pedidos.concorrencia.*} por grupo de endpoints.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concorrencia.enabled", havingValue = "true")
+public class LimiteConcorrenciaConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(LimiteConcorrenciaConfiguration.class);
+
+    @Value("${app.concorrencia.limite-inicial:20}")
+    private int limiteInicial;
+
+    @Value("${app.concorrencia.limite-minimo:4}")
+    private int limiteMinimo;
+
+    @Value("${app.concorrencia.limite-maximo:200}")
+    private int limiteMaximo;
+
+    @Value("${app.concorrencia.tolerancia:1.5}")
+    private double tolerancia;
+
+    @Value("${app.concorrencia.suavizacao:0.2}")
+    private double suavizacao;
+
+    @Value("${app.concorrencia.fator-reducao:0.9}")
+    private double fatorReducao;
+
+    @Value("${app.concorrencia.taxa-falhas:0.05}")
+    private double taxaFalhas;
+
+    @Value("${app.concorrencia.janela-ms:500}")
+    private long janelaMs;
+
+    @Value("${app.concorrencia.amostras-minimas:10}")
+    private int amostrasMinimas;
+
+    @Value("${app.concorrencia.retry-after-s:1}")
+    private int retryAfterSegundos;
+
+    @Bean
+    public LimiteConcorrenciaFilter limiteConcorrenciaFilter(ObjectMapper objectMapper) {
+        log.info("Limite adaptativo de concorrência ativo: inicial {}, mínimo {}, máximo {} por grupo",
+                limiteInicial, limiteMinimo, limiteMaximo);
+        return new LimiteConcorrenciaFilter(() -> new LimiteAdaptativo(limiteInicial, limiteMinimo, limiteMaximo,
+                tolerancia, suavizacao, fatorReducao, taxaFalhas, janelaMs, amostrasMinimas), objectMapper, retryAfterSegundos);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LimiteConcorrenciaFilter> limiteConcorrenciaFilterRegistration(
+            LimiteConcorrenciaFilter filter) {
+        FilterRegistrationBean<LimiteConcorrenciaFilter> registro = new FilterRegistrationBean<>(filter);
+        registro.addUrlPatterns("/api/*");
+        // Logo após o filtro de encoding: a rejeição não deve pagar pelo restante da cadeia
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registro;
+    }
+
+    @Bean
+    public MeterBinder limiteConcorrenciaMetrics(LimiteConcorrenciaFilter filter) {
+        return registry -> filter.getLimites().forEach((grupo, limite) -> {
+            Gauge.builder("pedidos.concorrencia.limite", limite, LimiteAdaptativo::getLimite)
+                    .description("Requisições simultâneas admitidas no grupo")
+                    .tag("grupo", grupo)
+                    .register(registry);
+            Gauge.builder("pedidos.concorrencia.em-voo", limite, LimiteAdaptativo::getEmVoo)
+                    .description("Requisições em andamento no grupo")
+                    .tag("grupo", grupo)
+                    .register(registry);
+            FunctionCounter.builder("pedidos.concorrencia.rejeitadas", limite, LimiteAdaptativo::getRejeitadas)
+                    .description("Requisições recusadas com 503 pelo limite de concorrência")
+                    .tag("grupo", grupo)
+                    .register(registry);
+        });
+    }
+}
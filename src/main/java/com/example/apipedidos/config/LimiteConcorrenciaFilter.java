@@ -0,0 +1,114 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Filtro que aplica um limite adaptativo de concorrência por grupo de endpoints
+ *
+ * Grupos: {@code fila} (/api/pedidos/fila/**), {@code leitura} (demais GET) e
+ * {@code escrita} (demais métodos). Acima do limite a requisição é recusada na hora
+ * com 503 e Retry-After, em vez de esperar por threads do Tomcat e conexões do pool
+ * enquanto o banco está lento.
+ */
+public class LimiteConcorrenciaFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(LimiteConcorrenciaFilter.class);
+
+    static final String GRUPO_FILA = "fila";
+    static final String GRUPO_LEITURA = "leitura";
+    static final String GRUPO_ESCRITA = "escrita";
+
+    private final Map<String, LimiteAdaptativo> limites;
+    private final ObjectMapper objectMapper;
+    private final int retryAfterSegundos;
+
+    public LimiteConcorrenciaFilter(Supplier<LimiteAdaptativo> fabrica, ObjectMapper objectMapper,
+                                    int retryAfterSegundos) {
+        Map<String, LimiteAdaptativo> porGrupo = new LinkedHashMap<>();
+        porGrupo.put(GRUPO_LEITURA, fabrica.get());
+        porGrupo.put(GRUPO_ESCRITA, fabrica.get());
+        porGrupo.put(GRUPO_FILA, fabrica.get());
+        this.limites = Collections.unmodifiableMap(porGrupo);
+        this.objectMapper = objectMapper;
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String grupo = grupo(request);
+        LimiteAdaptativo limite = limites.get(grupo);
+        if (!limite.tentarAdquirir()) {
+            rejeitar(request, response, grupo, limite);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        boolean falhou = true;
+        try {
+            chain.doFilter(request, response);
+            // 503 já é rejeição por carga (fila cheia), não sinal de lentidão do servidor
+            int status = response.getStatus();
+            falhou = status >= HttpStatus.INTERNAL_SERVER_ERROR.value()
+                    && status != HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            long agora = System.nanoTime();
+            limite.liberar(agora - inicio, falhou, agora);
+        }
+    }
+
+    static String grupo(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/pedidos/fila/") || uri.equals("/api/pedidos/fila")) {
+            return GRUPO_FILA;
+        }
+        return "GET".equals(request.getMethod()) ? GRUPO_LEITURA : GRUPO_ESCRITA;
+    }
+
+    private void rejeitar(HttpServletRequest request, HttpServletResponse response, String grupo,
+                          LimiteAdaptativo limite) throws IOException {
+        log.debug("Requisição rejeitada por limite de concorrência - URI: {}, Grupo: {}, Limite: {}",
+                request.getRequestURI(), grupo, limite.getLimite());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+            "Servidor sobrecarregado, tente novamente em instantes",
+            request.getRequestURI(),
+            new ArrayList<>()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSegundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Limite de cada grupo, na ordem leitura, escrita, fila
+     */
+    Map<String, LimiteAdaptativo> getLimites() {
+        return limites;
+    }
+}
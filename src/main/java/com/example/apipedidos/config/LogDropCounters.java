@@ -0,0 +1,53 @@
+package com.example.apipedidos.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de eventos de log descartados pelo pipeline de logging
+ *
+ * Os filtros e appenders do Logback são instanciados fora do contexto Spring,
+ * por isso os contadores ficam em um registro estático compartilhado.
+ */
+public final class LogDropCounters {
+
+    private static final ConcurrentMap<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    private LogDropCounters() {
+    }
+
+    /**
+     * Obtém (ou cria) o contador associado a uma origem de descarte
+     * @param name Nome da origem (ex.: "ASYNC_AUDIT.overflow")
+     * @return Contador da origem
+     */
+    public static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Retorna uma cópia ordenada dos totais de descarte por origem
+     * @return Mapa imutável origem -> eventos descartados
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Soma de todos os eventos descartados
+     * @return Total de eventos descartados
+     */
+    public static long total() {
+        long total = 0;
+        for (LongAdder counter : COUNTERS.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+}
@@ -1,18 +1,25 @@
 package com.example.apipedidos.config;
 
+import com.example.apipedidos.audit.BinaryAuditWriter;
+import com.example.apipedidos.exception.FilaCheiaException;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 
 /**
  * Aspecto para logging de auditoria e performance
@@ -25,6 +32,33 @@ public class LoggingAspect {
     private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
     private static final Logger performanceLogger = LoggerFactory.getLogger("PERFORMANCE");
     
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("password=[^,\\]]+");
+    private static final Pattern SENHA_PATTERN = Pattern.compile("senha=[^,\\]]+");
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("token=[^,\\]]+");
+    
+    /**
+     * Decisão de amostragem (head sampling) da requisição corrente
+     */
+    private static final ThreadLocal<Boolean> sampledRequest = new ThreadLocal<>();
+    
+    /**
+     * Fração das requisições registradas integralmente (0.0 a 1.0)
+     */
+    @Value("${app.logging.sampling.head-rate:1.0}")
+    private double headSampleRate = 1.0;
+    
+    /**
+     * Execuções a partir deste tempo são sempre registradas (tail sampling)
+     */
+    @Value("${app.logging.sampling.slow-threshold-ms:500}")
+    private long slowThresholdMs = 500;
+    
+    /**
+     * Sink binário de auditoria (presente quando app.audit.binary.enabled=true)
+     */
+    @Autowired(required = false)
+    private BinaryAuditWriter binaryAuditWriter;
+    
     /**
      * Pointcut para todos os métodos dos controllers
      */
@@ -56,6 +90,8 @@ public class LoggingAspect {
         String methodName = joinPoint.getSignature().getName();
         String className = joinPoint.getTarget().getClass().getSimpleName();
         String requestId = generateRequestId();
+        boolean sampled = shouldSample();
+        sampledRequest.set(sampled);
         
         // Adicionar informações ao MDC
         MDC.put("requestId", requestId);
@@ -71,19 +107,27 @@ public class LoggingAspect {
                 MDC.put("remoteAddr", getClientIpAddress(request));
             }
             
-            log.info("Iniciando execução do endpoint: {}.{}", className, methodName);
+            if (sampled) {
+                log.info("Iniciando execução do endpoint: {}.{}", className, methodName);
+            }
             
             Object result = joinPoint.proceed();
             
             long executionTime = System.currentTimeMillis() - startTime;
             
-            performanceLogger.info("ENDPOINT_PERFORMANCE - Class: {}, Method: {}, ExecutionTime: {}ms, RequestId: {}", 
-                    className, methodName, executionTime, requestId);
-            
-            log.info("Endpoint executado com sucesso: {}.{} em {}ms", className, methodName, executionTime);
+            // Tail sampling: execuções lentas são registradas mesmo fora da amostra
+            if (sampled || executionTime >= slowThresholdMs) {
+                performanceLogger.info("ENDPOINT_PERFORMANCE - Class: {}, Method: {}, ExecutionTime: {}ms, RequestId: {}", 
+                        className, methodName, executionTime, requestId);
+                
+                log.info("Endpoint executado com sucesso: {}.{} em {}ms", className, methodName, executionTime);
+            }
             
             return result;
             
+        } catch (FilaCheiaException e) {
+            // Descarte de carga esperado: o GlobalExceptionHandler registra a rejeição uma vez
+            throw e;
         } catch (Exception e) {
             long executionTime = System.currentTimeMillis() - startTime;
             
@@ -94,6 +138,7 @@ public class LoggingAspect {
             
             throw e;
         } finally {
+            sampledRequest.remove();
             MDC.clear();
         }
     }
@@ -103,24 +148,37 @@ public class LoggingAspect {
      */
     @Around("crudOperations()")
     public Object logCrudOperations(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (binaryAuditWriter != null) {
+            return auditCrudOperationBinary(joinPoint);
+        }
+        
         String methodName = joinPoint.getSignature().getName();
         String className = joinPoint.getTarget().getClass().getSimpleName();
         Object[] args = joinPoint.getArgs();
         String requestId = MDC.get("requestId");
+        Boolean requestSampled = sampledRequest.get();
+        boolean sampled = requestSampled != null ? requestSampled : shouldSample();
+        long startTime = System.currentTimeMillis();
         
         // Log de auditoria antes da operação
-        auditLogger.info("CRUD_OPERATION_START - Class: {}, Method: {}, Args: {}, RequestId: {}", 
-                className, methodName, sanitizeArgs(args), requestId);
+        if (sampled && auditLogger.isInfoEnabled()) {
+            auditLogger.info("CRUD_OPERATION_START - Class: {}, Method: {}, Args: {}, RequestId: {}", 
+                    className, methodName, sanitizeArgs(args), requestId);
+        }
         
         try {
             Object result = joinPoint.proceed();
             
             // Log de auditoria após sucesso
-            auditLogger.info("CRUD_OPERATION_SUCCESS - Class: {}, Method: {}, RequestId: {}", 
-                    className, methodName, requestId);
+            if (sampled || System.currentTimeMillis() - startTime >= slowThresholdMs) {
+                auditLogger.info("CRUD_OPERATION_SUCCESS - Class: {}, Method: {}, RequestId: {}", 
+                        className, methodName, requestId);
+            }
             
             return result;
             
+        } catch (FilaCheiaException e) {
+            throw e;
         } catch (Exception e) {
             // Log de auditoria em caso de erro
             auditLogger.error("CRUD_OPERATION_ERROR - Class: {}, Method: {}, Error: {}, RequestId: {}", 
@@ -130,11 +188,56 @@ public class LoggingAspect {
         }
     }
     
+    /**
+     * Auditoria completa (sem amostragem) no sink binário; o log texto recebe os erros e os
+     * eventos que o sink não conseguiu gravar
+     */
+    private Object auditCrudOperationBinary(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        Object[] args = joinPoint.getArgs();
+        String requestId = MDC.get("requestId");
+        long startTime = System.nanoTime();
+        
+        // Se o sink binário falhar, o evento vai para o log texto em vez de falhar a operação
+        if (!binaryAuditWriter.record(BinaryAuditWriter.PHASE_START, method, className, requestId, 0L, args, null)) {
+            auditLogger.info("CRUD_OPERATION_START - Class: {}, Method: {}, Args: {}, RequestId: {}", 
+                    className, method.getName(), sanitizeArgs(args), requestId);
+        }
+        
+        try {
+            Object result = joinPoint.proceed();
+            
+            if (!binaryAuditWriter.record(BinaryAuditWriter.PHASE_SUCCESS, method, className, requestId,
+                    System.nanoTime() - startTime, null, null)) {
+                auditLogger.info("CRUD_OPERATION_SUCCESS - Class: {}, Method: {}, RequestId: {}", 
+                        className, method.getName(), requestId);
+            }
+            
+            return result;
+            
+        } catch (Exception e) {
+            binaryAuditWriter.record(BinaryAuditWriter.PHASE_ERROR, method, className, requestId,
+                    System.nanoTime() - startTime, null, e);
+            
+            if (e instanceof FilaCheiaException) {
+                throw e;
+            }
+            auditLogger.error("CRUD_OPERATION_ERROR - Class: {}, Method: {}, Error: {}, RequestId: {}", 
+                    className, method.getName(), e.getMessage(), requestId);
+            
+            throw e;
+        }
+    }
+    
     /**
      * After throwing advice para logging detalhado de erros
      */
     @AfterThrowing(pointcut = "controllerMethods() || serviceMethods()", throwing = "exception")
     public void logException(JoinPoint joinPoint, Throwable exception) {
+        if (exception instanceof FilaCheiaException) {
+            return;
+        }
         String methodName = joinPoint.getSignature().getName();
         String className = joinPoint.getTarget().getClass().getSimpleName();
         String requestId = MDC.get("requestId");
@@ -152,7 +255,17 @@ public class LoggingAspect {
      * Gera um ID único para a requisição
      */
     private String generateRequestId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        // Evita o SecureRandom do UUID.randomUUID() no caminho da requisição
+        String hex = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+        return hex.length() == 8 ? hex : "00000000".substring(hex.length()) + hex;
+    }
+    
+    /**
+     * Decide se a requisição entra na amostra de logging (head sampling)
+     */
+    private boolean shouldSample() {
+        return headSampleRate >= 1.0
+                || (headSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < headSampleRate);
     }
     
     /**
@@ -192,9 +305,9 @@ public class LoggingAspect {
             return "[]";
         }
         
-        return Arrays.toString(args)
-                .replaceAll("password=[^,\\]]+", "password=***")
-                .replaceAll("senha=[^,\\]]+", "senha=***")
-                .replaceAll("token=[^,\\]]+", "token=***");
+        String sanitized = Arrays.toString(args);
+        sanitized = PASSWORD_PATTERN.matcher(sanitized).replaceAll("password=***");
+        sanitized = SENHA_PATTERN.matcher(sanitized).replaceAll("senha=***");
+        return TOKEN_PATTERN.matcher(sanitized).replaceAll("token=***");
     }
 }
\ No newline at end of file
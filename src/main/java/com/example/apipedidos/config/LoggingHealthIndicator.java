@@ -1,72 +1,184 @@
 package com.example.apipedidos.config;
 
-import org.slf4j.Logger;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Indicador de saúde do sistema de logging
+ *
+ * As verificações de sistema de arquivos rodam em um thread de fundo a cada
+ * {@code app.logging.health.refresh-interval-ms}; {@link #health()} apenas devolve
+ * o último snapshot, sem syscalls no thread da requisição. Se o snapshot ficar
+ * mais velho que {@code stale-after-ms} (ex.: montagem NFS travada), o status passa
+ * a UNKNOWN em vez de derrubar o health agregado.
  */
 @Component
 public class LoggingHealthIndicator implements HealthIndicator {
-    
-    private static final Logger log = LoggerFactory.getLogger(LoggingHealthIndicator.class);
-    
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(LoggingHealthIndicator.class);
+
+    private final long refreshIntervalMs;
+    private final long staleAfterMs;
+
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService scheduler;
+
+    public LoggingHealthIndicator(@Value("${app.logging.health.refresh-interval-ms:15000}") long refreshIntervalMs,
+                                  @Value("${app.logging.health.stale-after-ms:60000}") long staleAfterMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.staleAfterMs = staleAfterMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        // Primeiro snapshot síncrono: o health já responde completo após o startup
+        refresh();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "logging-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
     @Override
     public Health health() {
+        Snapshot atual = snapshot;
+        if (atual == null) {
+            return Health.unknown().withDetail("error", "Verificação de logging ainda não executada").build();
+        }
+
+        long idadeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - atual.capturadoEmNanos);
+        boolean atrasado = idadeMs > staleAfterMs;
+        Health.Builder builder = Health.status(atrasado ? Status.UNKNOWN : atual.health.getStatus())
+                .withDetails(atual.health.getDetails());
+        if (atrasado) {
+            builder.withDetail("error", "Verificação de logging atrasada");
+        }
+        return builder
+                .withDetail("snapshotAgeMs", idadeMs)
+                .build();
+    }
+
+    /**
+     * Recalcula o snapshot de saúde; executado no thread de fundo
+     */
+    void refresh() {
         try {
-            Health.Builder healthBuilder = Health.up();
-            
-            // Verificar se o diretório de logs existe e é acessível
-            String logPath = System.getProperty("LOG_FILE_PATH", "./logs");
-            Path logsDir = Paths.get(logPath).getParent();
-            
-            if (logsDir != null) {
-                if (!Files.exists(logsDir)) {
-                    Files.createDirectories(logsDir);
-                    log.info("Diretório de logs criado: {}", logsDir.toAbsolutePath());
-                }
-                
-                if (Files.isWritable(logsDir)) {
-                    healthBuilder.withDetail("logsDirectory", logsDir.toAbsolutePath().toString())
-                              .withDetail("logsDirectoryWritable", true);
-                } else {
-                    healthBuilder.down()
-                              .withDetail("logsDirectory", logsDir.toAbsolutePath().toString())
-                              .withDetail("logsDirectoryWritable", false)
-                              .withDetail("error", "Diretório de logs não é gravável");
+            snapshot = new Snapshot(verificar(), System.nanoTime());
+        } catch (Throwable e) {
+            log.error("Erro ao verificar saúde do sistema de logging", e);
+            snapshot = new Snapshot(Health.down().withDetail("error", String.valueOf(e.getMessage())).build(),
+                    System.nanoTime());
+        }
+    }
+
+    private Health verificar() throws Exception {
+        Health.Builder healthBuilder = Health.up();
+
+        // Verificar se o diretório de logs existe e é acessível
+        String logPath = System.getProperty("LOG_FILE_PATH", "./logs");
+        Path logsDir = Paths.get(logPath).getParent();
+
+        if (logsDir != null) {
+            if (!Files.exists(logsDir)) {
+                Files.createDirectories(logsDir);
+                log.info("Diretório de logs criado: {}", logsDir.toAbsolutePath());
+            }
+
+            if (Files.isWritable(logsDir)) {
+                healthBuilder.withDetail("logsDirectory", logsDir.toAbsolutePath().toString())
+                          .withDetail("logsDirectoryWritable", true);
+            } else {
+                healthBuilder.down()
+                          .withDetail("logsDirectory", logsDir.toAbsolutePath().toString())
+                          .withDetail("logsDirectoryWritable", false)
+                          .withDetail("error", "Diretório de logs não é gravável");
+            }
+        }
+
+        // Verificar arquivos de log existentes
+        File logFile = new File(logPath + ".log");
+        File auditLogFile = new File(logPath + "-audit.log");
+        File performanceLogFile = new File(logPath + "-performance.log");
+
+        healthBuilder.withDetail("mainLogFile", logFile.exists() ? logFile.getAbsolutePath() : "Não criado ainda")
+                    .withDetail("auditLogFile", auditLogFile.exists() ? auditLogFile.getAbsolutePath() : "Não criado ainda")
+                    .withDetail("performanceLogFile", performanceLogFile.exists() ? performanceLogFile.getAbsolutePath() : "Não criado ainda");
+
+        // Profundidade das filas dos appenders assíncronos e eventos descartados
+        healthBuilder.withDetail("asyncAppenders", filasAppenders())
+                    .withDetail("droppedEvents", LogDropCounters.snapshot())
+                    .withDetail("droppedEventsTotal", LogDropCounters.total());
+
+        // Verificar configuração de logging
+        healthBuilder.withDetail("activeProfile", System.getProperty("spring.profiles.active", "default"))
+                    .withDetail("logLevel", System.getProperty("LOG_LEVEL", "INFO"))
+                    .withDetail("aspectsEnabled", true);
+
+        return healthBuilder.build();
+    }
+
+    private static Map<String, Map<String, Integer>> filasAppenders() {
+        Map<String, Map<String, Integer>> filas = new TreeMap<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext)) {
+            return filas;
+        }
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                Appender<ILoggingEvent> appender = appenders.next();
+                if (appender instanceof AsyncAppenderBase && !filas.containsKey(appender.getName())) {
+                    AsyncAppenderBase<?> async = (AsyncAppenderBase<?>) appender;
+                    Map<String, Integer> fila = new LinkedHashMap<>();
+                    fila.put("queueDepth", async.getNumberOfElementsInQueue());
+                    fila.put("queueCapacity", async.getQueueSize());
+                    filas.put(appender.getName(), fila);
                 }
             }
-            
-            // Verificar arquivos de log existentes
-            File logFile = new File(logPath + ".log");
-            File auditLogFile = new File(logPath + "-audit.log");
-            File performanceLogFile = new File(logPath + "-performance.log");
-            
-            healthBuilder.withDetail("mainLogFile", logFile.exists() ? logFile.getAbsolutePath() : "Não criado ainda")
-                        .withDetail("auditLogFile", auditLogFile.exists() ? auditLogFile.getAbsolutePath() : "Não criado ainda")
-                        .withDetail("performanceLogFile", performanceLogFile.exists() ? performanceLogFile.getAbsolutePath() : "Não criado ainda");
-            
-            // Verificar configuração de logging
-            healthBuilder.withDetail("activeProfile", System.getProperty("spring.profiles.active", "default"))
-                        .withDetail("logLevel", System.getProperty("LOG_LEVEL", "INFO"))
-                        .withDetail("aspectsEnabled", true);
-            
-            return healthBuilder.build();
-            
-        } catch (Exception e) {
-            log.error("Erro ao verificar saúde do sistema de logging", e);
-            return Health.down()
-                    .withDetail("error", e.getMessage())
-                    .withException(e)
-                    .build();
+        }
+        return filas;
+    }
+
+    private static final class Snapshot {
+        private final Health health;
+        private final long capturadoEmNanos;
+
+        private Snapshot(Health health, long capturadoEmNanos) {
+            this.health = health;
+            this.capturadoEmNanos = capturadoEmNanos;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.example.apipedidos.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender que nunca bloqueia o thread chamador
+ *
+ * Com a fila cheia o evento é descartado em vez de esperar o disco, e o descarte
+ * é contabilizado em {@link LogDropCounters} ("NOME.overflow"). O descarte por
+ * discardingThreshold não é usado: as configurações mantêm o limiar em 0.
+ */
+public class NonBlockingAsyncAppender extends AsyncAppender {
+
+    private LongAdder overflow;
+
+    public NonBlockingAsyncAppender() {
+        setNeverBlock(true);
+    }
+
+    @Override
+    public void start() {
+        overflow = LogDropCounters.counter(getName() + ".overflow");
+        super.start();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Aproximação: a fila pode esvaziar entre a verificação e o offer
+        if (getRemainingCapacity() == 0) {
+            overflow.increment();
+        }
+        super.append(event);
+    }
+
+    @Override
+    public void setNeverBlock(boolean neverBlock) {
+        if (!neverBlock) {
+            addWarn("NonBlockingAsyncAppender ignora neverBlock=false");
+        }
+        super.setNeverBlock(true);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.apipedidos.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Acesso às threads virtuais (Java 21+) por reflexão, mantendo o código compilável em Java 8
+ *
+ * Em JDKs anteriores ao 21, {@link #disponiveis()} devolve false e quem chama mantém as
+ * threads de plataforma. O 19 e o 20 já têm {@code Thread.ofVirtual()}, mas como API em
+ * preview que lança UnsupportedOperationException sem {@code --enable-preview}.
+ */
+public final class ThreadsVirtuais {
+
+    private static final int VERSAO_MINIMA = 21;
+
+    private static final Method OF_VIRTUAL = localizarOfVirtual();
+
+    private ThreadsVirtuais() {
+    }
+
+    public static boolean disponiveis() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Fábrica de threads virtuais nomeadas {@code prefixo0}, {@code prefixo1}, ...
+     * @throws IllegalStateException se o JDK não tiver threads virtuais
+     */
+    public static ThreadFactory fabrica(String prefixo) {
+        if (!disponiveis()) {
+            throw new IllegalStateException("Threads virtuais requerem Java 21 ou superior; JDK atual: "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> tipoBuilder = Class.forName("java.lang.Thread$Builder");
+            builder = tipoBuilder.getMethod("name", String.class, long.class).invoke(builder, prefixo, 0L);
+            return (ThreadFactory) tipoBuilder.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Falha ao criar fábrica de threads virtuais", e);
+        }
+    }
+
+    /**
+     * Executor que inicia uma thread virtual por tarefa, sem fila nem limite de threads
+     * @throws IllegalStateException se o JDK não tiver threads virtuais
+     */
+    public static ExecutorService executorPorTarefa(String prefixo) {
+        ThreadFactory fabrica = fabrica(prefixo);
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, fabrica);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Falha ao criar executor de threads virtuais", e);
+        }
+    }
+
+    private static Method localizarOfVirtual() {
+        if (versao(System.getProperty("java.specification.version")) < VERSAO_MINIMA) {
+            return null;
+        }
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            // Garante que a API pode ser usada neste runtime, e não só que existe
+            ofVirtual.invoke(null);
+            return ofVirtual;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Versão da especificação Java ("1.8" -> 8, "21" -> 21); 0 se não reconhecida
+     */
+    static int versao(String especificacao) {
+        if (especificacao == null) {
+            return 0;
+        }
+        String numero = especificacao.startsWith("1.") ? especificacao.substring(2) : especificacao;
+        int ponto = numero.indexOf('.');
+        try {
+            return Integer.parseInt(ponto < 0 ? numero : numero.substring(0, ponto));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.apipedidos.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro Logback que limita a taxa de eventos por appender usando token bucket
+ *
+ * Implementado como GCRA (generic cell rate algorithm): o estado é um único
+ * instante teórico de chegada atualizado por CAS, sem locks no thread da requisição.
+ * Eventos com nível igual ou superior a {@code alwaysAllowLevel} nunca são descartados.
+ */
+public class TokenBucketFilter extends Filter<ILoggingEvent> {
+
+    private double permitsPerSecond = 1000;
+    private int burst = 100;
+    private Level alwaysAllowLevel = Level.WARN;
+
+    private final AtomicLong theoreticalArrival = new AtomicLong();
+    private long intervalNanos;
+    private long burstNanos;
+    private LongAdder dropped;
+
+    @Override
+    public void start() {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            addError("permitsPerSecond deve ser positivo e burst maior ou igual a 1");
+            return;
+        }
+        intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        burstNanos = intervalNanos * burst;
+        theoreticalArrival.set(System.nanoTime());
+        dropped = LogDropCounters.counter((getName() != null ? getName() : "rateLimit") + ".rateLimited");
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!isStarted() || event.getLevel().isGreaterOrEqual(alwaysAllowLevel)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (tryAcquire(System.nanoTime())) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Tenta consumir um token no instante informado
+     * @param now Instante atual em nanossegundos (System.nanoTime)
+     * @return true se havia token disponível
+     */
+    boolean tryAcquire(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public void setAlwaysAllowLevel(String alwaysAllowLevel) {
+        this.alwaysAllowLevel = Level.toLevel(alwaysAllowLevel, Level.WARN);
+    }
+}
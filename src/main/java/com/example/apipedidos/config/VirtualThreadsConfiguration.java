@@ -0,0 +1,76 @@
+package com.example.apipedidos.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Execução em threads virtuais com {@code app.threads.virtuais=true} (requer Java 21+)
+ *
+ * O Tomcat passa a atender cada requisição em uma thread virtual, e o executor de
+ * tarefas da aplicação (requisições assíncronas do Spring MVC, {@code @Async}) usa o
+ * mesmo executor. {@code server.tomcat.threads.max} deixa de limitar a concorrência:
+ * o limite passa a ser {@code server.tomcat.max-connections} e o pool do Hikari. Em um
+ * JDK sem threads virtuais a propriedade é ignorada com um aviso.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtuais", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @PostConstruct
+    public void verificar() {
+        if (ThreadsVirtuais.disponiveis()) {
+            log.info("Threads virtuais habilitadas para o Tomcat e o executor de tarefas");
+        } else {
+            log.warn("app.threads.virtuais=true ignorado: threads virtuais requerem Java 21+ (JDK atual {})",
+                    System.getProperty("java.version"));
+        }
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @Conditional(Disponiveis.class)
+    public ExecutorService executorThreadsVirtuais() {
+        return ThreadsVirtuais.executorPorTarefa("virtual-");
+    }
+
+    @Bean
+    @Conditional(Disponiveis.class)
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> tomcatThreadsVirtuais(ExecutorService executorThreadsVirtuais) {
+        return protocolHandler -> protocolHandler.setExecutor(executorThreadsVirtuais);
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @Conditional(Disponiveis.class)
+    public AsyncTaskExecutor executorTarefasVirtual(ExecutorService executorThreadsVirtuais) {
+        return new TaskExecutorAdapter(executorThreadsVirtuais);
+    }
+
+    static class Disponiveis extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return ThreadsVirtuais.disponiveis()
+                    ? ConditionOutcome.match("Thread.ofVirtual() disponível")
+                    : ConditionOutcome.noMatch("Thread.ofVirtual() indisponível no JDK " + System.getProperty("java.version"));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.service.PedidoService;
+import com.example.apipedidos.service.VooUnico;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas da coalescência de leituras do PedidoService
+ *
+ * A razão coalescidas / (cargas + coalescidas) mostra quanto da carga de leitura
+ * deixou de chegar ao banco durante picos de requisições idênticas.
+ */
+@Component
+public class VooUnicoMetrics implements MeterBinder {
+
+    private final PedidoService pedidoService;
+
+    public VooUnicoMetrics(PedidoService pedidoService) {
+        this.pedidoService = pedidoService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrar(registry, "buscar", pedidoService.getBuscasEmVoo());
+        registrar(registry, "listar", pedidoService.getListagensEmVoo());
+    }
+
+    private static void registrar(MeterRegistry registry, String operacao, VooUnico<?, ?> vooUnico) {
+        FunctionCounter.builder("pedidos.leitura.cargas", vooUnico, VooUnico::getTotalCargas)
+                .description("Leituras executadas no banco")
+                .tag("operacao", operacao)
+                .register(registry);
+        FunctionCounter.builder("pedidos.leitura.coalescidas", vooUnico, VooUnico::getTotalCompartilhadas)
+                .description("Leituras atendidas pela consulta em voo de outra requisição")
+                .tag("operacao", operacao)
+                .register(registry);
+        Gauge.builder("pedidos.leitura.em-voo", vooUnico, VooUnico::getEmVoo)
+                .description("Consultas em andamento compartilháveis")
+                .tag("operacao", operacao)
+                .register(registry);
+    }
+}
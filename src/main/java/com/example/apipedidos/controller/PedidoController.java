@@ -5,6 +5,7 @@ import com.example.apipedidos.dto.PedidoRequestDTO;
 import com.example.apipedidos.dto.PedidoResponseDTO;
 import com.example.apipedidos.service.PedidoService;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +16,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Controller REST para gerenciamento de pedidos
@@ -27,6 +29,11 @@ public class PedidoController {
     
     private static final Logger log = LoggerFactory.getLogger(PedidoController.class);
     
+    static final String HEADER_UTILIZACAO_FILA = "X-Fila-Utilizacao";
+    static final String HEADER_TOTAL = "X-Total-Count";
+    static final int LIMITE_PADRAO_PAGINA = 100;
+    static final int LIMITE_MAXIMO_PAGINA = 1000;
+    
     @Autowired
     private PedidoService pedidoService;
     
@@ -34,7 +41,8 @@ public class PedidoController {
      * Endpoint para criar um novo pedido
      * 
      * @param request DTO com os dados do pedido a ser criado
-     * @return ResponseEntity com o pedido criado e status 201 Created
+     * @return ResponseEntity com o pedido criado e status 201 Created; com a fila limitada,
+     *         o header X-Fila-Utilizacao informa a fração da capacidade ocupada
      */
     @PostMapping
     public ResponseEntity<PedidoResponseDTO> criarPedido(@Valid @RequestBody PedidoRequestDTO request) {
@@ -44,7 +52,12 @@ public class PedidoController {
         
         log.info("Pedido criado com sucesso. ID: {}", pedidoCriado.getId());
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(pedidoCriado);
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.status(HttpStatus.CREATED);
+        Double utilizacao = pedidoService.getUtilizacaoDaFila();
+        if (utilizacao != null) {
+            resposta.header(HEADER_UTILIZACAO_FILA, String.format(Locale.ROOT, "%.3f", utilizacao));
+        }
+        return resposta.body(pedidoCriado);
     }
     
     /**
@@ -102,6 +115,38 @@ public class PedidoController {
         return ResponseEntity.ok(pedido);
     }
     
+    /**
+     * Endpoint para confirmar o processamento de um pedido entregue pela fila
+     * (app.fila.confirmacao.enabled); sem confirmação dentro do prazo, o pedido volta à fila
+     * 
+     * @param id ID do pedido entregue (deve ser maior que 0)
+     * @return ResponseEntity com status 204 No Content, ou 404 se não houver entrega pendente
+     */
+    @PostMapping("/fila/{id}/ack")
+    public ResponseEntity<Void> confirmarPedido(
+            @PathVariable @Min(value = 1, message = "ID deve ser maior que zero") Long id) {
+        log.info("Recebida requisição POST para confirmar pedido da fila com ID: {}", id);
+        
+        pedidoService.confirmarPedidoDaFila(id);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Endpoint para listar os pedidos descartados após esgotar as entregas sem confirmação
+     * 
+     * @return ResponseEntity com os pedidos mortos (do mais recente ao mais antigo) e status 200 OK
+     */
+    @GetMapping("/fila/mortos")
+    public ResponseEntity<List<PedidoResponseDTO>> listarPedidosMortos() {
+        log.info("Recebida requisição GET para listar pedidos mortos da fila");
+        
+        List<PedidoResponseDTO> mortos = pedidoService.listarPedidosMortosDaFila();
+        
+        log.info("Retornando {} pedidos mortos da fila", mortos.size());
+        return ResponseEntity.ok(mortos);
+    }
+    
     /**
      * Endpoint para visualizar o próximo pedido da fila (sem remover)
      * 
@@ -135,24 +180,43 @@ public class PedidoController {
         boolean vazia = pedidoService.isFilaVazia();
         
         FilaStatusDTO status = new FilaStatusDTO(tamanho,vazia);
+        status.setCapacidade(pedidoService.getCapacidadeDaFila());
+        status.setUtilizacao(pedidoService.getUtilizacaoDaFila());
+        status.setArmazenamento(pedidoService.getArmazenamentoDaFila());
+        status.setEmProcessamento(pedidoService.getEmProcessamentoDaFila());
+        status.setMortos(pedidoService.getMortosDaFila());
         
         log.info("Status da fila - Tamanho: {}, Vazia: {}", tamanho, vazia);
         return ResponseEntity.ok(status);
     }
     
     /**
-     * Endpoint para listar todas as mensagens (pedidos) atualmente na fila
+     * Endpoint para listar as mensagens (pedidos) atualmente na fila
+     * 
+     * Com {@code offset} e/ou {@code limit}, devolve apenas uma página (visão fracamente
+     * consistente, sem bloquear a fila); sem parâmetros, devolve a fila inteira. O header
+     * X-Total-Count traz o tamanho atual da fila (leitura O(1)).
      * 
-     * @return ResponseEntity com a lista de pedidos na fila e status 200 OK
+     * @param offset Pedidos a pular a partir da base da pilha (padrão 0)
+     * @param limit Máximo de pedidos na página (padrão 100, máximo 1000)
+     * @return ResponseEntity com os pedidos (da base para o topo) e status 200 OK
      */
     @GetMapping("/fila/mensagens")
-    public ResponseEntity<List<PedidoResponseDTO>> listarMensagensDaFila() {
-        log.info("Recebida requisição GET para listar mensagens da fila");
+    public ResponseEntity<List<PedidoResponseDTO>> listarMensagensDaFila(
+            @RequestParam(required = false) @Min(value = 0, message = "offset deve ser maior ou igual a zero") Integer offset,
+            @RequestParam(required = false) @Min(value = 1, message = "limit deve ser maior que zero")
+            @Max(value = LIMITE_MAXIMO_PAGINA, message = "limit deve ser no máximo 1000") Integer limit) {
+        log.info("Recebida requisição GET para listar mensagens da fila (offset: {}, limit: {})", offset, limit);
 
-        List<PedidoResponseDTO> mensagens = pedidoService.obterTodasAsMensagens();
+        List<PedidoResponseDTO> mensagens = offset == null && limit == null
+                ? pedidoService.obterTodasAsMensagens()
+                : pedidoService.obterPaginaDeMensagens(offset != null ? offset : 0,
+                        limit != null ? limit : LIMITE_PADRAO_PAGINA);
         
         log.info("Retornando {} mensagens da fila", mensagens.size());
-        return ResponseEntity.ok(mensagens);
+        return ResponseEntity.ok()
+                .header(HEADER_TOTAL, String.valueOf(pedidoService.getTamanhoDaFila()))
+                .body(mensagens);
     }
    
 }
\ No newline at end of file
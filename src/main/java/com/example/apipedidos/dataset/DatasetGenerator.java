@@ -0,0 +1,313 @@
+package com.example.apipedidos.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de massa de dados sintética para a tabela pedidos
+ *
+ * Distribuições:
+ * <ul>
+ *   <li>nomeCliente: Zipf sobre {@code clientes} nomes (poucos clientes concentram a maioria dos pedidos)</li>
+ *   <li>valor: log-normal em centavos, limitada à faixa aceita pela coluna DECIMAL(10,2)</li>
+ *   <li>dataPedido: dias com sazonalidade semanal e horários concentrados em picos de almoço e noite</li>
+ * </ul>
+ *
+ * As linhas são geradas em blocos de {@code lote} com uma semente derivada do índice do bloco,
+ * por isso o resultado não depende do número de threads. No PostgreSQL os blocos são enviados
+ * com COPY; nos demais bancos com batch JDBC.
+ */
+public class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO pedidos (nome_cliente, descricao, valor, data_pedido) VALUES (?, ?, ?, ?)";
+    private static final String COPY_SQL =
+            "COPY pedidos (nome_cliente, descricao, valor, data_pedido) FROM STDIN WITH (FORMAT csv)";
+
+    private static final long VALOR_MAXIMO_CENTAVOS = 9_999_999_999L;
+
+    private static final String[] NOMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Henrique", "Isabela", "João",
+            "Karina", "Lucas", "Mariana", "Nicolas", "Olívia", "Pedro", "Quésia", "Rafael", "Sofia", "Thiago",
+            "Úrsula", "Vinícius", "Wesley", "Yasmin", "Zeca"};
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"};
+    private static final String[] PRODUTOS = {
+            "Notebook", "Smartphone", "Monitor", "Teclado", "Mouse", "Cadeira", "Mesa", "Headset", "Impressora",
+            "Tablet", "Webcam", "Roteador", "SSD", "Memória RAM", "Placa de vídeo", "Livro", "Cafeteira", "Mochila"};
+
+    /** Peso relativo de cada dia da semana (segunda a domingo) */
+    private static final double[] PESO_DIA_SEMANA = {1.0, 1.0, 1.0, 1.0, 1.1, 0.6, 0.4};
+
+    private final DatasetSpec spec;
+    private final double[] cdfZipf;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        if (spec.getLinhas() < 0 || spec.getClientes() <= 0 || spec.getLote() <= 0 || spec.getDias() <= 0) {
+            throw new IllegalArgumentException("Parâmetros inválidos para a massa de dados: " + spec);
+        }
+        this.spec = spec;
+        this.cdfZipf = cdfZipf(spec.getClientes(), spec.getExpoenteZipf());
+    }
+
+    /**
+     * Gera e insere os pedidos na tabela pedidos do DataSource
+     * @param dataSource DataSource com ao menos {@code threads} conexões disponíveis
+     * @return Quantidade de linhas inseridas
+     */
+    public long gerar(DataSource dataSource) throws SQLException, InterruptedException {
+        boolean postgres;
+        try (Connection connection = dataSource.getConnection()) {
+            verificarTabela(connection.getMetaData());
+            postgres = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres");
+            if (spec.isLimpar()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("TRUNCATE TABLE pedidos");
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            }
+        }
+
+        long inicio = System.nanoTime();
+        long totalBlocos = (spec.getLinhas() + spec.getLote() - 1) / spec.getLote();
+        AtomicLong proximoBloco = new AtomicLong();
+        AtomicLong inseridas = new AtomicLong();
+        int threads = (int) Math.max(1, Math.min(spec.getThreads(), totalBlocos));
+
+        log.info("Gerando {} pedidos ({} clientes, {} threads, {})", spec.getLinhas(), spec.getClientes(), threads,
+                postgres ? "COPY" : "batch JDBC");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> tarefas = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                tarefas.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        long bloco;
+                        while ((bloco = proximoBloco.getAndIncrement()) < totalBlocos) {
+                            int linhas = inserirBloco(connection, bloco, postgres);
+                            long total = inseridas.addAndGet(linhas);
+                            if (bloco % 200 == 0) {
+                                log.info("Massa de dados: {}/{} pedidos inseridos", total, spec.getLinhas());
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof SQLException) {
+                throw (SQLException) causa;
+            }
+            throw new IllegalStateException("Falha ao gerar massa de dados", causa);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        log.info("Massa de dados gerada: {} pedidos em {} s ({} linhas/s)", inseridas.get(),
+                String.format(Locale.ROOT, "%.1f", segundos), Math.round(inseridas.get() / Math.max(segundos, 1e-3)));
+        return inseridas.get();
+    }
+
+    /**
+     * Gera as linhas de um bloco sem acessar o banco (determinístico por semente e índice)
+     * @param bloco Índice do bloco
+     * @return Linhas do bloco
+     */
+    List<Linha> gerarBloco(long bloco) {
+        long primeira = bloco * spec.getLote();
+        int quantidade = (int) Math.min(spec.getLote(), spec.getLinhas() - primeira);
+        SplittableRandom random = new SplittableRandom(spec.getSemente() * 0x9E3779B97F4A7C15L + bloco);
+
+        List<Linha> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int cliente = amostrarZipf(random);
+            String descricao = PRODUTOS[random.nextInt(PRODUTOS.length)] + " x" + (1 + random.nextInt(5))
+                    + " - pedido " + (primeira + i + 1);
+            linhas.add(new Linha(nomeCliente(cliente), descricao, amostrarValorCentavos(random), amostrarData(random)));
+        }
+        return linhas;
+    }
+
+    private int inserirBloco(Connection connection, long bloco, boolean postgres) throws SQLException {
+        List<Linha> linhas = gerarBloco(bloco);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (postgres) {
+                copiar(connection, linhas);
+            } else {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                    for (Linha linha : linhas) {
+                        statement.setString(1, linha.nomeCliente);
+                        statement.setString(2, linha.descricao);
+                        statement.setBigDecimal(3, BigDecimal.valueOf(linha.valorCentavos, 2));
+                        statement.setTimestamp(4, Timestamp.valueOf(linha.dataPedido));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return linhas.size();
+    }
+
+    /**
+     * Envia o bloco via COPY ... FROM STDIN usando o CopyManager do driver PostgreSQL
+     * (acessado por reflexão: o driver é dependência apenas de runtime)
+     */
+    private static void copiar(Connection connection, List<Linha> linhas) throws SQLException {
+        StringBuilder csv = new StringBuilder(linhas.size() * 96);
+        for (Linha linha : linhas) {
+            csv.append(csvQuote(linha.nomeCliente)).append(',')
+               .append(csvQuote(linha.descricao)).append(',')
+               .append(BigDecimal.valueOf(linha.valorCentavos, 2).toPlainString()).append(',')
+               .append(Timestamp.valueOf(linha.dataPedido)).append('\n');
+        }
+        try {
+            Class<?> pgConnection = Class.forName("org.postgresql.PGConnection");
+            Object copyManager = pgConnection.getMethod("getCopyAPI").invoke(connection.unwrap(pgConnection));
+            Method copyIn = copyManager.getClass().getMethod("copyIn", String.class, Reader.class);
+            copyIn.invoke(copyManager, COPY_SQL, new StringReader(csv.toString()));
+        } catch (java.lang.reflect.InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Falha no COPY de pedidos", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Driver PostgreSQL sem suporte a COPY", e);
+        }
+    }
+
+    private static String csvQuote(String valor) {
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    private static void verificarTabela(DatabaseMetaData metaData) throws SQLException {
+        for (String nome : Arrays.asList("pedidos", "PEDIDOS")) {
+            try (ResultSet tabelas = metaData.getTables(null, null, nome, new String[]{"TABLE"})) {
+                if (tabelas.next()) {
+                    return;
+                }
+            }
+        }
+        throw new IllegalStateException("Tabela pedidos não encontrada; inicie a aplicação uma vez "
+                + "(ddl-auto) ou aplique schema-postgresql.sql antes de gerar a massa de dados");
+    }
+
+    private int amostrarZipf(SplittableRandom random) {
+        int indice = Arrays.binarySearch(cdfZipf, random.nextDouble());
+        return Math.min(indice >= 0 ? indice : -indice - 1, cdfZipf.length - 1);
+    }
+
+    private long amostrarValorCentavos(SplittableRandom random) {
+        double valor = Math.exp(Math.log(spec.getValorMediana()) + spec.getValorSigma() * gaussiana(random));
+        return Math.max(1L, Math.min(VALOR_MAXIMO_CENTAVOS, Math.round(valor * 100)));
+    }
+
+    private LocalDateTime amostrarData(SplittableRandom random) {
+        // Dia: uniforme na janela com rejeição pelo peso do dia da semana
+        LocalDate dia;
+        do {
+            dia = spec.getDataFinal().minusDays(random.nextInt(spec.getDias()));
+        } while (random.nextDouble() * 1.1 > PESO_DIA_SEMANA[dia.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()]);
+
+        // Horário: mistura de picos (almoço e noite) com um fundo uniforme
+        double sorteio = random.nextDouble();
+        double hora;
+        if (sorteio < 0.40) {
+            hora = 12.0 + 1.5 * gaussiana(random);
+        } else if (sorteio < 0.85) {
+            hora = 20.0 + 2.0 * gaussiana(random);
+        } else {
+            hora = 24.0 * random.nextDouble();
+        }
+        long segundo = Math.floorMod((long) (hora * 3600), 86_400L);
+        return dia.atStartOfDay().plusSeconds(segundo);
+    }
+
+    private static double gaussiana(SplittableRandom random) {
+        // Box-Muller (SplittableRandom não oferece nextGaussian no Java 8)
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static String nomeCliente(int rank) {
+        String nome = NOMES[rank % NOMES.length] + " " + SOBRENOMES[(rank / NOMES.length) % SOBRENOMES.length];
+        int combinacoes = NOMES.length * SOBRENOMES.length;
+        return rank < combinacoes ? nome : nome + " " + (rank / combinacoes + 1);
+    }
+
+    private static double[] cdfZipf(int clientes, double expoente) {
+        double[] cdf = new double[clientes];
+        double soma = 0;
+        for (int k = 0; k < clientes; k++) {
+            soma += 1.0 / Math.pow(k + 1, expoente);
+            cdf[k] = soma;
+        }
+        for (int k = 0; k < clientes; k++) {
+            cdf[k] /= soma;
+        }
+        return cdf;
+    }
+
+    /**
+     * Pedido gerado, antes da inserção
+     */
+    static final class Linha {
+        final String nomeCliente;
+        final String descricao;
+        final long valorCentavos;
+        final LocalDateTime dataPedido;
+
+        Linha(String nomeCliente, String descricao, long valorCentavos, LocalDateTime dataPedido) {
+            this.nomeCliente = nomeCliente;
+            this.descricao = descricao;
+            this.valorCentavos = valorCentavos;
+            this.dataPedido = dataPedido;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.apipedidos.dataset;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.time.LocalDate;
+
+/**
+ * Linha de comando do gerador de massa de dados, sem subir o contexto Spring
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.example.apipedidos.dataset.DatasetGeneratorMain \
+ *     -Dexec.args="--url=jdbc:postgresql://localhost:5432/pedidos --usuario=postgres --senha=postgres --linhas=10000000"
+ * </pre>
+ *
+ * Argumentos: url, usuario, senha, linhas, clientes, expoente-zipf, valor-mediana, valor-sigma,
+ * dias, data-final, semente, lote, threads, limpar.
+ */
+public class DatasetGeneratorMain {
+
+    public static void main(String[] args) throws Exception {
+        DatasetSpec spec = new DatasetSpec();
+        HikariConfig hikari = new HikariConfig();
+        hikari.setUsername("sa");
+        hikari.setPassword("");
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido (use --chave=valor): " + arg);
+            }
+            String chave = arg.substring(2, arg.indexOf('='));
+            String valor = arg.substring(arg.indexOf('=') + 1);
+            switch (chave) {
+                case "url": hikari.setJdbcUrl(valor); break;
+                case "usuario": hikari.setUsername(valor); break;
+                case "senha": hikari.setPassword(valor); break;
+                case "linhas": spec.setLinhas(Long.parseLong(valor)); break;
+                case "clientes": spec.setClientes(Integer.parseInt(valor)); break;
+                case "expoente-zipf": spec.setExpoenteZipf(Double.parseDouble(valor)); break;
+                case "valor-mediana": spec.setValorMediana(Double.parseDouble(valor)); break;
+                case "valor-sigma": spec.setValorSigma(Double.parseDouble(valor)); break;
+                case "dias": spec.setDias(Integer.parseInt(valor)); break;
+                case "data-final": spec.setDataFinal(LocalDate.parse(valor)); break;
+                case "semente": spec.setSemente(Long.parseLong(valor)); break;
+                case "lote": spec.setLote(Integer.parseInt(valor)); break;
+                case "threads": spec.setThreads(Integer.parseInt(valor)); break;
+                case "limpar": spec.setLimpar(Boolean.parseBoolean(valor)); break;
+                default: throw new IllegalArgumentException("Argumento desconhecido: " + chave);
+            }
+        }
+        if (hikari.getJdbcUrl() == null) {
+            throw new IllegalArgumentException("Informe --url=<jdbc url>");
+        }
+        hikari.setMaximumPoolSize(spec.getThreads() + 1);
+        hikari.setPoolName("dataset-generator");
+
+        try (HikariDataSource dataSource = new HikariDataSource(hikari)) {
+            long inseridas = new DatasetGenerator(spec).gerar(dataSource);
+            System.out.println("Pedidos inseridos: " + inseridas);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.apipedidos.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+/**
+ * Gera a massa de dados sintética na inicialização quando o perfil "dataset" está ativo
+ *
+ * Exemplo: {@code java -jar app.jar --spring.profiles.active=dev,dataset --app.dataset.linhas=2000000}
+ */
+@Component
+@Profile("dataset")
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGeneratorRunner.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${app.dataset.linhas:1000000}")
+    private long linhas;
+
+    @Value("${app.dataset.clientes:10000}")
+    private int clientes;
+
+    @Value("${app.dataset.expoente-zipf:1.1}")
+    private double expoenteZipf;
+
+    @Value("${app.dataset.valor-mediana:120.0}")
+    private double valorMediana;
+
+    @Value("${app.dataset.valor-sigma:1.0}")
+    private double valorSigma;
+
+    @Value("${app.dataset.dias:365}")
+    private int dias;
+
+    @Value("${app.dataset.data-final:2024-12-31}")
+    private String dataFinal;
+
+    @Value("${app.dataset.semente:42}")
+    private long semente;
+
+    @Value("${app.dataset.lote:5000}")
+    private int lote;
+
+    @Value("${app.dataset.threads:0}")
+    private int threads;
+
+    @Value("${app.dataset.limpar:false}")
+    private boolean limpar;
+
+    /**
+     * Encerra a aplicação após a geração (útil para popular um PostgreSQL e sair)
+     */
+    @Value("${app.dataset.encerrar-apos-gerar:false}")
+    private boolean encerrarAposGerar;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setLinhas(linhas);
+        spec.setClientes(clientes);
+        spec.setExpoenteZipf(expoenteZipf);
+        spec.setValorMediana(valorMediana);
+        spec.setValorSigma(valorSigma);
+        spec.setDias(dias);
+        spec.setDataFinal(LocalDate.parse(dataFinal));
+        spec.setSemente(semente);
+        spec.setLote(lote);
+        if (threads > 0) {
+            spec.setThreads(threads);
+        }
+        spec.setLimpar(limpar);
+
+        log.info("Perfil dataset ativo: {}", spec);
+        new DatasetGenerator(spec).gerar(dataSource);
+
+        if (encerrarAposGerar) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.apipedidos.dataset;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Parâmetros da massa de dados sintética de pedidos
+ *
+ * A mesma especificação (incluindo a semente) gera sempre os mesmos pedidos,
+ * independentemente do número de threads.
+ */
+@Data
+public class DatasetSpec {
+
+    /** Quantidade de pedidos a gerar */
+    private long linhas = 1_000_000;
+
+    /** Quantidade de clientes distintos (universo da distribuição Zipf) */
+    private int clientes = 10_000;
+
+    /** Expoente da distribuição Zipf de nomeCliente (maior = mais concentrado) */
+    private double expoenteZipf = 1.1;
+
+    /** Mediana da distribuição log-normal de valor */
+    private double valorMediana = 120.0;
+
+    /** Desvio padrão (em escala logarítmica) da distribuição de valor */
+    private double valorSigma = 1.0;
+
+    /** Janela de datas dos pedidos, em dias até {@link #dataFinal} */
+    private int dias = 365;
+
+    /** Último dia da janela de datas */
+    private LocalDate dataFinal = LocalDate.of(2024, 12, 31);
+
+    /** Semente do gerador pseudoaleatório */
+    private long semente = 42L;
+
+    /** Linhas por lote de inserção (batch JDBC ou bloco COPY) */
+    private int lote = 5_000;
+
+    /** Threads de inserção em paralelo */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /** Remove os pedidos existentes antes de gerar */
+    private boolean limpar = false;
+}
@@ -0,0 +1,32 @@
+package com.example.apipedidos.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o uso do armazenamento da fila (memória direta e spill em disco, ou profundidade por partição)
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FilaArmazenamentoDTO {
+
+    private String tipo;
+    private Long bytesUsados;
+    private Long bytesReservados;
+    private Long capacidadeBytes;
+    private Long bytesEmDisco;
+    private Integer segmentos;
+    private Integer segmentosEmDisco;
+    private Integer segmentosLivres;
+
+    /** Pedidos em cada partição, na ordem das partições (modo particionado) */
+    private List<Integer> profundidadeParticoes;
+
+    public FilaArmazenamentoDTO(String tipo) {
+        this.tipo = tipo;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.apipedidos.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -13,6 +14,33 @@ public class FilaStatusDTO {
         private int tamanho;
         private boolean vazia;
 
+        /**
+         * Capacidade e fração ocupada; presentes apenas com app.fila.limite.capacidade > 0
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer capacidade;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double utilizacao;
+
+        /**
+         * Uso de memória direta e disco; presente apenas no armazenamento off-heap
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private FilaArmazenamentoDTO armazenamento;
+
+        /**
+         * Pedidos entregues aguardando confirmação; presente apenas com app.fila.confirmacao.enabled
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer emProcessamento;
+
+        /**
+         * Pedidos descartados após esgotar as entregas; presente apenas com app.fila.confirmacao.enabled
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer mortos;
+
         public FilaStatusDTO(int tamanho, boolean vazia) {
                 this.tamanho = tamanho;
                 this.vazia = vazia;
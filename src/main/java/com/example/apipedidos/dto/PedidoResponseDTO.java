@@ -1,6 +1,7 @@
 package com.example.apipedidos.dto;
 
-import lombok.AllArgsConstructor;
+import com.example.apipedidos.model.Valor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -9,14 +10,21 @@ import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class PedidoResponseDTO {
     private Long id;
     private String nomeCliente;
     private String descricao;
-    private BigDecimal valor;
+    private Valor valor;
     private LocalDateTime dataPedido;
     
+    public PedidoResponseDTO(Long id, String nomeCliente, String descricao, BigDecimal valor, LocalDateTime dataPedido) {
+        this.id = id;
+        this.nomeCliente = nomeCliente;
+        this.descricao = descricao;
+        this.valor = Valor.de(valor);
+        this.dataPedido = dataPedido;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -43,10 +51,20 @@ public class PedidoResponseDTO {
     }
     
     public BigDecimal getValor() {
-        return valor;
+        return Valor.toBigDecimal(valor);
     }
     
     public void setValor(BigDecimal valor) {
+        this.valor = Valor.de(valor);
+    }
+    
+    @JsonIgnore
+    public Valor getValorMonetario() {
+        return valor;
+    }
+    
+    @JsonIgnore
+    public void setValorMonetario(Valor valor) {
         this.valor = valor;
     }
     
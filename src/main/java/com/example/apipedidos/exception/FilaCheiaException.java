@@ -0,0 +1,26 @@
+package com.example.apipedidos.exception;
+
+/**
+ * Exceção lançada quando a fila de pedidos atingiu a capacidade e não aceita novos pedidos
+ *
+ * Mapeada para 429 (ou 503, conforme {@code app.fila.limite.status-rejeicao}) com o
+ * header {@code Retry-After}.
+ */
+public class FilaCheiaException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    /**
+     * @param capacidade Capacidade configurada da fila
+     * @param retryAfterSegundos Tempo sugerido para o produtor tentar novamente
+     */
+    public FilaCheiaException(int capacidade, long retryAfterSegundos) {
+        super("Fila de pedidos cheia (capacidade " + capacidade + "); tente novamente em "
+                + retryAfterSegundos + " segundos");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
@@ -5,7 +5,11 @@ import javax.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,6 +20,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @ControllerAdvice
@@ -24,6 +29,14 @@ public class GlobalExceptionHandler {
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
 
+    // Formatos que representam ErrorResponse (o binário de pedidos não representa)
+    private static final List<MediaType> FORMATOS_ERRO = Arrays.asList(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
+    // 429 (padrão) ou 503 para pedidos rejeitados por fila cheia
+    @Value("${app.fila.limite.status-rejeicao:429}")
+    private int statusFilaCheia = HttpStatus.TOO_MANY_REQUESTS.value();
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex, WebRequest request) {
@@ -58,7 +71,7 @@ public class GlobalExceptionHandler {
             details
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return responder(ResponseEntity.status(HttpStatus.BAD_REQUEST), errorResponse, request);
     }
 
     @ExceptionHandler(PedidoNotFoundException.class)
@@ -81,7 +94,32 @@ public class GlobalExceptionHandler {
             new ArrayList<>()
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return responder(ResponseEntity.status(HttpStatus.NOT_FOUND), errorResponse, request);
+    }
+
+    @ExceptionHandler(FilaCheiaException.class)
+    public ResponseEntity<ErrorResponse> handleFilaCheiaException(
+            FilaCheiaException ex, WebRequest request) {
+        
+        String requestId = MDC.get("requestId");
+        String uri = request.getDescription(false).replace("uri=", "");
+        HttpStatus status = HttpStatus.valueOf(statusFilaCheia);
+        
+        // Rejeição por fila cheia é descarte de carga esperado: um único WARN, no log de auditoria
+        log.debug("Fila cheia - URI: {}, RequestId: {}, Mensagem: {}", uri, requestId, ex.getMessage());
+        auditLogger.warn("QUEUE_FULL - URI: {}, RequestId: {}, Message: {}", uri, requestId, ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            status.value(),
+            status.getReasonPhrase(),
+            ex.getMessage(),
+            uri,
+            new ArrayList<>()
+        );
+        
+        return responder(ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos())), errorResponse, request);
     }
 
     @ExceptionHandler(DadosInvalidosException.class)
@@ -104,7 +142,7 @@ public class GlobalExceptionHandler {
             new ArrayList<>()
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return responder(ResponseEntity.status(HttpStatus.BAD_REQUEST), errorResponse, request);
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
@@ -141,7 +179,7 @@ public class GlobalExceptionHandler {
             details
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return responder(ResponseEntity.status(HttpStatus.BAD_REQUEST), errorResponse, request);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -168,7 +206,7 @@ public class GlobalExceptionHandler {
             new ArrayList<>()
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return responder(ResponseEntity.status(HttpStatus.BAD_REQUEST), errorResponse, request);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -191,7 +229,7 @@ public class GlobalExceptionHandler {
             new ArrayList<>()
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return responder(ResponseEntity.status(HttpStatus.BAD_REQUEST), errorResponse, request);
     }
 
     @ExceptionHandler(Exception.class)
@@ -216,6 +254,36 @@ public class GlobalExceptionHandler {
             new ArrayList<>()
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return responder(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR), errorResponse, request);
+    }
+
+    /**
+     * Erros não têm representação no formato binário de pedidos: se o Accept não admite
+     * JSON, CBOR nem Smile, a resposta sai em JSON em vez de falhar a negociação com 500
+     */
+    private static ResponseEntity<ErrorResponse> responder(ResponseEntity.BodyBuilder resposta,
+                                                           ErrorResponse errorResponse, WebRequest request) {
+        if (!aceitaFormatoDeErro(request.getHeader(HttpHeaders.ACCEPT))) {
+            resposta.contentType(MediaType.APPLICATION_JSON);
+        }
+        return resposta.body(errorResponse);
+    }
+
+    private static boolean aceitaFormatoDeErro(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return true;
+        }
+        try {
+            for (MediaType aceito : MediaType.parseMediaTypes(accept)) {
+                for (MediaType formato : FORMATOS_ERRO) {
+                    if (aceito.isCompatibleWith(formato)) {
+                        return true;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
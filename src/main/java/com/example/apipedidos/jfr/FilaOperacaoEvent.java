@@ -0,0 +1,33 @@
+package com.example.apipedidos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de operação na fila de pedidos (push/pop)
+ */
+@Name("com.example.apipedidos.FilaOperacao")
+@Label("Operação na Fila")
+@Description("Inclusão ou retirada de pedido da fila com a profundidade resultante")
+@Category({"API Pedidos", "Fila"})
+@StackTrace(false)
+@Threshold("0 ms")
+public class FilaOperacaoEvent extends Event {
+
+    public static final String PUSH = "push";
+    public static final String POP = "pop";
+
+    @Label("Operação")
+    public String operacao;
+
+    @Label("Pedido")
+    public long pedidoId;
+
+    @Label("Profundidade da Fila")
+    public int profundidade;
+}
@@ -0,0 +1,33 @@
+package com.example.apipedidos.jfr;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disponibilidade da API de eventos do JDK Flight Recorder no runtime
+ *
+ * O projeto compila para Java 8, mas {@code jdk.jfr} só existe no OpenJDK 8 a partir do
+ * 8u262 (e no 11+). Em runtimes sem a API, instanciar um evento falharia com
+ * NoClassDefFoundError; quem emite eventos consulta {@link #DISPONIVEL} antes de tocar
+ * nas classes de {@code com.example.apipedidos.jfr}, e a aplicação segue sem eles.
+ */
+public final class Jfr {
+
+    private static final Logger log = LoggerFactory.getLogger(Jfr.class);
+
+    public static final boolean DISPONIVEL = verificar();
+
+    private Jfr() {
+    }
+
+    private static boolean verificar() {
+        try {
+            Class.forName("jdk.jfr.Event", false, Jfr.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.info("API do JDK Flight Recorder indisponível neste runtime ({}); eventos JFR desabilitados",
+                    System.getProperty("java.version"));
+            return false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.apipedidos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR emitido a cada criação de pedido (PedidoService.criarPedido)
+ */
+@Name("com.example.apipedidos.PedidoCriado")
+@Label("Pedido Criado")
+@Description("Criação de pedido: validação, persistência e inclusão na fila")
+@Category({"API Pedidos", "Pedidos"})
+@StackTrace(false)
+@Threshold("0 ms")
+public class PedidoCriadoEvent extends Event {
+
+    @Label("Pedido")
+    public long pedidoId;
+
+    @Label("Sucesso")
+    public boolean sucesso;
+}
@@ -0,0 +1,33 @@
+package com.example.apipedidos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de chamada ao PedidoRepository
+ */
+@Name("com.example.apipedidos.RepositorioConsulta")
+@Label("Consulta ao Repositório")
+@Description("Chamada a método do PedidoRepository")
+@Category({"API Pedidos", "Repositório"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class RepositorioConsultaEvent extends Event {
+
+    @Label("Método")
+    public String metodo;
+
+    @Label("Pedido")
+    public long pedidoId;
+
+    @Label("Resultados")
+    public int resultados;
+
+    @Label("Sucesso")
+    public boolean sucesso;
+}
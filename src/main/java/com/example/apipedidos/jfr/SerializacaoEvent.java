@@ -0,0 +1,35 @@
+package com.example.apipedidos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de serialização de resposta HTTP
+ */
+@Name("com.example.apipedidos.Serializacao")
+@Label("Serialização de Resposta")
+@Description("Escrita do corpo da resposta pelo HttpMessageConverter")
+@Category({"API Pedidos", "HTTP"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class SerializacaoEvent extends Event {
+
+    @Label("Tipo")
+    public String tipo;
+
+    @Label("Elementos")
+    public int elementos;
+
+    @Label("Content-Type")
+    public String contentType;
+
+    @Label("Tamanho")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,30 @@
+package com.example.apipedidos.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR delimitando cada chamada a PedidoService
+ *
+ * Permite correlacionar pausas de GC e contenção de locks da mesma thread
+ * com a operação de negócio em andamento.
+ */
+@Name("com.example.apipedidos.ServicoChamada")
+@Label("Chamada de Serviço")
+@Description("Execução de método do PedidoService")
+@Category({"API Pedidos", "Serviço"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class ServicoChamadaEvent extends Event {
+
+    @Label("Método")
+    public String metodo;
+
+    @Label("Sucesso")
+    public boolean sucesso;
+}
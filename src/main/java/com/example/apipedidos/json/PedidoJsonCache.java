@@ -0,0 +1,119 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+/**
+ * Cache de fragmentos JSON (UTF-8) de pedidos, indexado pelo ID
+ *
+ * Pedidos não mudam depois de criados, então o JSON de cada um é serializado uma
+ * única vez e reaproveitado por buscas, listagens e pela fila. Cada fragmento guarda
+ * uma cópia do DTO que o originou: se o pedido recebido for diferente (ex.: atualização
+ * futura), o fragmento é regerado. O cache é limitado pelo total de bytes estimado de
+ * cada entrada: o JSON, as strings da cópia (2 bytes por caractere, o pior caso) e um
+ * valor fixo para os objetos e o nó do cache.
+ */
+public class PedidoJsonCache {
+
+    private static final byte ABRE_LISTA = '[';
+    private static final byte FECHA_LISTA = ']';
+    private static final byte SEPARADOR = ',';
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    // Fragmento, DTO, Valor, LocalDateTime, cabeçalhos das strings e do array, nó do Caffeine
+    private static final int SOBRECARGA_ENTRADA_BYTES = 320;
+
+    private final ObjectWriter writer;
+    private final Cache<Long, Fragmento> cache;
+
+    public PedidoJsonCache(ObjectMapper objectMapper, long tamanhoMaximoBytes) {
+        this.writer = objectMapper.writerFor(PedidoResponseDTO.class);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(tamanhoMaximoBytes)
+                .weigher((Long id, Fragmento fragmento) -> fragmento.peso())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retorna o JSON do pedido, serializando apenas na primeira vez
+     * @param pedido DTO do pedido
+     * @return Bytes UTF-8 do objeto JSON (não devem ser modificados)
+     */
+    public byte[] fragmento(PedidoResponseDTO pedido) throws IOException {
+        if (pedido.getId() == null) {
+            return writer.writeValueAsBytes(pedido);
+        }
+        Fragmento fragmento = cache.getIfPresent(pedido.getId());
+        if (fragmento != null && fragmento.pedido.equals(pedido)) {
+            return fragmento.json;
+        }
+        byte[] json = writer.writeValueAsBytes(pedido);
+        cache.put(pedido.getId(), new Fragmento(copia(pedido), json));
+        return json;
+    }
+
+    public void escrever(PedidoResponseDTO pedido, OutputStream out) throws IOException {
+        out.write(fragmento(pedido));
+    }
+
+    /**
+     * Escreve um array JSON concatenando os fragmentos dos pedidos
+     * @param pedidos Pedidos na ordem da resposta
+     * @param out Stream de saída
+     */
+    public void escreverLista(Collection<?> pedidos, OutputStream out) throws IOException {
+        out.write(ABRE_LISTA);
+        boolean primeiro = true;
+        for (Object pedido : pedidos) {
+            if (!primeiro) {
+                out.write(SEPARADOR);
+            }
+            out.write(pedido == null ? NULL : fragmento((PedidoResponseDTO) pedido));
+            primeiro = false;
+        }
+        out.write(FECHA_LISTA);
+    }
+
+    public Cache<Long, ?> getCache() {
+        return cache;
+    }
+
+    private static PedidoResponseDTO copia(PedidoResponseDTO pedido) {
+        PedidoResponseDTO copia = new PedidoResponseDTO();
+        copia.setId(pedido.getId());
+        copia.setNomeCliente(pedido.getNomeCliente());
+        copia.setDescricao(pedido.getDescricao());
+        copia.setValorMonetario(pedido.getValorMonetario());
+        copia.setDataPedido(pedido.getDataPedido());
+        return copia;
+    }
+
+    /**
+     * JSON serializado junto com o DTO que o originou
+     */
+    static final class Fragmento {
+        private final PedidoResponseDTO pedido;
+        private final byte[] json;
+
+        private Fragmento(PedidoResponseDTO pedido, byte[] json) {
+            this.pedido = pedido;
+            this.json = json;
+        }
+
+        private int peso() {
+            return json.length + 2 * (tamanho(pedido.getNomeCliente()) + tamanho(pedido.getDescricao()))
+                    + SOBRECARGA_ENTRADA_BYTES;
+        }
+
+        private static int tamanho(String valor) {
+            return valor == null ? 0 : valor.length();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.config.JfrHttpMessageConverter;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Conversor JSON que monta respostas de pedidos a partir de fragmentos pré-serializados
+ *
+ * PedidoResponseDTO e coleções de PedidoResponseDTO são escritos concatenando os bytes
+ * do {@link PedidoJsonCache} direto no stream da resposta; os demais tipos (erros,
+ * status da fila, etc.) seguem pela serialização Jackson padrão.
+ */
+public class PedidoJsonHttpMessageConverter extends JfrHttpMessageConverter {
+
+    private final PedidoJsonCache cache;
+
+    public PedidoJsonHttpMessageConverter(ObjectMapper objectMapper, PedidoJsonCache cache) {
+        super(objectMapper);
+        this.cache = cache;
+    }
+
+    @Override
+    protected void writeBody(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!isUtf8(outputMessage.getHeaders().getContentType())) {
+            super.writeBody(object, type, outputMessage);
+        } else if (object instanceof PedidoResponseDTO) {
+            OutputStream body = outputMessage.getBody();
+            cache.escrever((PedidoResponseDTO) object, body);
+            body.flush();
+        } else if (object instanceof Collection && isColecaoDePedidos(type)) {
+            OutputStream body = outputMessage.getBody();
+            cache.escreverLista((Collection<?>) object, body);
+            body.flush();
+        } else {
+            super.writeBody(object, type, outputMessage);
+        }
+    }
+
+    private static boolean isColecaoDePedidos(Type type) {
+        if (type == null) {
+            return false;
+        }
+        Class<?> elemento = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        return elemento == PedidoResponseDTO.class;
+    }
+
+    private static boolean isUtf8(MediaType contentType) {
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        return charset == null || StandardCharsets.UTF_8.equals(charset);
+    }
+}
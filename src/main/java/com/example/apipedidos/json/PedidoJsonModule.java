@@ -0,0 +1,17 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Módulo Jackson com os (des)serializadores streaming dos DTOs de pedido
+ */
+public class PedidoJsonModule extends SimpleModule {
+
+    public PedidoJsonModule() {
+        super("PedidoJsonModule");
+        addSerializer(PedidoResponseDTO.class, new PedidoResponseSerializer());
+        addDeserializer(PedidoRequestDTO.class, new PedidoRequestDeserializer());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Desserializador streaming de PedidoRequestDTO
+ *
+ * Lê os três campos direto dos tokens do parser. Tokens fora do caso comum (valor
+ * como string, tipos inesperados) são repassados aos desserializadores padrão, para
+ * manter as mesmas coerções e mensagens de erro; campos desconhecidos são ignorados.
+ */
+public class PedidoRequestDeserializer extends StdDeserializer<PedidoRequestDTO> {
+
+    public PedidoRequestDeserializer() {
+        super(PedidoRequestDTO.class);
+    }
+
+    @Override
+    public PedidoRequestDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            return (PedidoRequestDTO) ctxt.handleUnexpectedToken(PedidoRequestDTO.class, p);
+        }
+
+        PedidoRequestDTO pedido = new PedidoRequestDTO();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String campo = p.getCurrentName();
+            JsonToken valor = p.nextToken();
+            switch (campo) {
+                case "nomeCliente":
+                    pedido.setNomeCliente(lerTexto(p, ctxt, valor));
+                    break;
+                case "descricao":
+                    pedido.setDescricao(lerTexto(p, ctxt, valor));
+                    break;
+                case "valor":
+                    pedido.setValor(lerValor(p, ctxt, valor));
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, pedido, campo);
+            }
+        }
+        return pedido;
+    }
+
+    private static String lerTexto(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);
+    }
+
+    private static BigDecimal lerValor(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getDecimalValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, BigDecimal.class);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.model.Valor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Serializador streaming de PedidoResponseDTO
+ *
+ * Escreve os campos na mesma ordem e formato do serializador por reflexão (datas em
+ * ISO_LOCAL_DATE_TIME, valores em notação decimal com 2 casas), mas sem introspecção de
+ * bean: nomes de campo pré-codificados e datas/centavos formatados direto em um buffer de chars.
+ */
+public class PedidoResponseSerializer extends StdSerializer<PedidoResponseDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NOME_CLIENTE = new SerializedString("nomeCliente");
+    private static final SerializedString DESCRICAO = new SerializedString("descricao");
+    private static final SerializedString VALOR = new SerializedString("valor");
+    private static final SerializedString DATA_PEDIDO = new SerializedString("dataPedido");
+
+    public PedidoResponseSerializer() {
+        super(PedidoResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(PedidoResponseDTO pedido, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(pedido);
+
+        gen.writeFieldName(ID);
+        if (pedido.getId() != null) {
+            gen.writeNumber(pedido.getId());
+        } else {
+            gen.writeNull();
+        }
+
+        gen.writeFieldName(NOME_CLIENTE);
+        gen.writeString(pedido.getNomeCliente());
+
+        gen.writeFieldName(DESCRICAO);
+        gen.writeString(pedido.getDescricao());
+
+        gen.writeFieldName(VALOR);
+        escreverValor(pedido.getValorMonetario(), gen);
+
+        gen.writeFieldName(DATA_PEDIDO);
+        escreverData(pedido.getDataPedido(), gen);
+
+        gen.writeEndObject();
+    }
+
+    /**
+     * Escreve o valor direto dos centavos, sem BigDecimal.toString()
+     *
+     * Geradores que não são JSON textual (CBOR/Smile gravariam o texto como string)
+     * recebem o BigDecimal equivalente.
+     */
+    static void escreverValor(Valor valor, JsonGenerator gen) throws IOException {
+        if (valor == null) {
+            gen.writeNull();
+            return;
+        }
+        if (!(gen instanceof JsonGeneratorImpl) || valor.getCentavos() == Long.MIN_VALUE) {
+            gen.writeNumber(valor.toBigDecimal());
+            return;
+        }
+
+        long centavos = valor.getCentavos();
+        long restante = Math.abs(centavos);
+        char[] buffer = new char[24];
+        int pos = buffer.length;
+        buffer[--pos] = (char) ('0' + restante % 10);
+        restante /= 10;
+        buffer[--pos] = (char) ('0' + restante % 10);
+        restante /= 10;
+        buffer[--pos] = '.';
+        do {
+            buffer[--pos] = (char) ('0' + restante % 10);
+            restante /= 10;
+        } while (restante > 0);
+        if (centavos < 0) {
+            buffer[--pos] = '-';
+        }
+        gen.writeNumber(buffer, pos, buffer.length - pos);
+    }
+
+    /**
+     * Escreve a data no formato ISO_LOCAL_DATE_TIME (ex.: 2024-01-15T10:30:45.123)
+     *
+     * LocalDateTime não tem fuso, então o spring.jackson.time-zone não altera a saída.
+     */
+    static void escreverData(LocalDateTime data, JsonGenerator gen) throws IOException {
+        if (data == null) {
+            gen.writeNull();
+            return;
+        }
+        int ano = data.getYear();
+        if (ano < 0 || ano > 9999) {
+            gen.writeString(data.toString());
+            return;
+        }
+
+        char[] buffer = new char[29];
+        escreverDigitos(buffer, 0, ano, 4);
+        buffer[4] = '-';
+        escreverDigitos(buffer, 5, data.getMonthValue(), 2);
+        buffer[7] = '-';
+        escreverDigitos(buffer, 8, data.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        escreverDigitos(buffer, 11, data.getHour(), 2);
+        buffer[13] = ':';
+        escreverDigitos(buffer, 14, data.getMinute(), 2);
+        buffer[16] = ':';
+        escreverDigitos(buffer, 17, data.getSecond(), 2);
+        int tamanho = 19;
+
+        int nano = data.getNano();
+        if (nano > 0) {
+            // Fração com o mínimo de dígitos, como o DateTimeFormatter
+            buffer[tamanho++] = '.';
+            int casas = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                casas--;
+            }
+            escreverDigitos(buffer, tamanho, nano, casas);
+            tamanho += casas;
+        }
+        gen.writeString(buffer, 0, tamanho);
+    }
+
+    private static void escreverDigitos(char[] buffer, int inicio, int valor, int casas) {
+        for (int i = inicio + casas - 1; i >= inicio; i--) {
+            buffer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+}
@@ -6,7 +6,6 @@ import javax.validation.constraints.Digits;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -17,7 +16,6 @@ import java.time.LocalDateTime;
 @Table(name = "pedidos")
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Pedido {
     
     @Id
@@ -34,15 +32,24 @@ public class Pedido {
     @Size(max = 500, message = "Descrição deve ter no máximo 500 caracteres")
     private String descricao;
     
+    /**
+     * Centavos em ponto fixo; as validações ficam no getter BigDecimal
+     */
     @Column(name = "valor", nullable = false, precision = 10, scale = 2)
-    @NotNull(message = "Valor é obrigatório")
-    @DecimalMin(value = "0.01", message = "Valor deve ser maior que zero")
-    @Digits(integer = 8, fraction = 2, message = "Valor deve ter no máximo 8 dígitos inteiros e 2 decimais")
-    private BigDecimal valor;
+    @Convert(converter = ValorConverter.class)
+    private Valor valor;
     
     @Column(name = "data_pedido", nullable = false)
     private LocalDateTime dataPedido;
     
+    public Pedido(Long id, String nomeCliente, String descricao, BigDecimal valor, LocalDateTime dataPedido) {
+        this.id = id;
+        this.nomeCliente = nomeCliente;
+        this.descricao = descricao;
+        this.valor = Valor.de(valor);
+        this.dataPedido = dataPedido;
+    }
+    
     @PrePersist
     protected void onCreate() {
         dataPedido = LocalDateTime.now();
@@ -73,11 +80,22 @@ public class Pedido {
         this.descricao = descricao;
     }
     
+    @NotNull(message = "Valor é obrigatório")
+    @DecimalMin(value = "0.01", message = "Valor deve ser maior que zero")
+    @Digits(integer = 8, fraction = 2, message = "Valor deve ter no máximo 8 dígitos inteiros e 2 decimais")
     public BigDecimal getValor() {
-        return valor;
+        return Valor.toBigDecimal(valor);
     }
     
     public void setValor(BigDecimal valor) {
+        this.valor = Valor.de(valor);
+    }
+    
+    public Valor getValorMonetario() {
+        return valor;
+    }
+    
+    public void setValorMonetario(Valor valor) {
         this.valor = valor;
     }
     
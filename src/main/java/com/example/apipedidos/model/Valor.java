@@ -0,0 +1,103 @@
+package com.example.apipedidos.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em ponto fixo (centavos em um long)
+ *
+ * Usado internamente no lugar de BigDecimal para evitar alocações e acelerar
+ * somas e comparações. A conversão a partir de BigDecimal é exata: valores com
+ * mais de 2 casas decimais ou fora do alcance de um long são rejeitados, nunca
+ * arredondados. No banco (ValorConverter) e no JSON o valor continua sendo um
+ * decimal com escala 2.
+ */
+public final class Valor implements Comparable<Valor>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final Valor ZERO = new Valor(0L);
+
+    private final long centavos;
+
+    private Valor(long centavos) {
+        this.centavos = centavos;
+    }
+
+    public static Valor deCentavos(long centavos) {
+        return centavos == 0L ? ZERO : new Valor(centavos);
+    }
+
+    /**
+     * Converte um BigDecimal sem arredondamento
+     * @param valor Decimal com no máximo 2 casas decimais, ou null
+     * @return Valor correspondente, ou null se o decimal for null
+     * @throws ArithmeticException se houver mais de 2 casas decimais ou estouro de long
+     */
+    @JsonCreator
+    public static Valor de(BigDecimal valor) {
+        if (valor == null) {
+            return null;
+        }
+        if (valor.scale() == 2 && valor.unscaledValue().bitLength() < 64) {
+            return deCentavos(valor.unscaledValue().longValue());
+        }
+        return deCentavos(valor.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public static BigDecimal toBigDecimal(Valor valor) {
+        return valor != null ? valor.toBigDecimal() : null;
+    }
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    public Valor somar(Valor outro) {
+        return deCentavos(Math.addExact(centavos, outro.centavos));
+    }
+
+    public Valor subtrair(Valor outro) {
+        return deCentavos(Math.subtractExact(centavos, outro.centavos));
+    }
+
+    public Valor multiplicar(long quantidade) {
+        return deCentavos(Math.multiplyExact(centavos, quantidade));
+    }
+
+    public boolean isPositivo() {
+        return centavos > 0;
+    }
+
+    @Override
+    public int compareTo(Valor outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Valor && ((Valor) o).centavos == centavos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    /**
+     * Representação decimal com 2 casas (ex.: 150.75, -0.05)
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.apipedidos.model;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.math.BigDecimal;
+
+/**
+ * Mapeia {@link Valor} para a coluna DECIMAL(10,2), mantendo o formato no banco
+ */
+@Converter
+public class ValorConverter implements AttributeConverter<Valor, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Valor valor) {
+        return Valor.toBigDecimal(valor);
+    }
+
+    @Override
+    public Valor convertToEntityAttribute(BigDecimal valor) {
+        return Valor.de(valor);
+    }
+}
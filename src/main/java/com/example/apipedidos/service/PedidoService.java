@@ -1,20 +1,26 @@
 package com.example.apipedidos.service;
 
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
 import com.example.apipedidos.dto.PedidoRequestDTO;
 import com.example.apipedidos.dto.PedidoResponseDTO;
 import com.example.apipedidos.exception.PedidoNotFoundException;
 import com.example.apipedidos.model.Pedido;
 import com.example.apipedidos.repository.PedidoRepository;
+import com.example.apipedidos.service.fila.ConfirmacaoFila;
+import com.example.apipedidos.service.fila.FilaPedidos;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Stack;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -29,15 +35,47 @@ public class PedidoService {
     @Autowired
     private PedidoRepository pedidoRepository;
     
-    // Stack para gerenciar fila de pedidos criados
-    private final Stack<PedidoResponseDTO> filaPedidos = new Stack<>();
+    // Fila de pedidos criados (Stack - LIFO, ou por prioridade com app.fila.modo)
+    @Autowired
+    private FilaPedidos filaPedidos;
+    
+    // Entregas com prazo de visibilidade e confirmação (app.fila.confirmacao.enabled)
+    @Autowired(required = false)
+    private ConfirmacaoFila confirmacaoFila;
+    
+    // Leituras idênticas simultâneas compartilham uma única consulta (app.leitura.voo-unico.enabled)
+    @Value("${app.leitura.voo-unico.enabled:true}")
+    private boolean vooUnico = true;
+    
+    private final VooUnico<Long, PedidoResponseDTO> buscasEmVoo = new VooUnico<>();
+    private final VooUnico<String, List<PedidoResponseDTO>> listagensEmVoo = new VooUnico<>();
+    
+    /**
+     * Permite à fila descartar descrições e recarregá-las pelo ID
+     * (app.fila.descricao-sob-demanda)
+     */
+    @PostConstruct
+    void configurarFila() {
+        filaPedidos.setCarregadorDescricoes(ids -> {
+            Map<Long, String> descricoes = new HashMap<>();
+            for (Pedido pedido : pedidoRepository.findAllById(ids)) {
+                descricoes.put(pedido.getId(), pedido.getDescricao());
+            }
+            return descricoes;
+        });
+    }
     
     /**
      * Cria um novo pedido no sistema
+     *
+     * A vaga na fila é reservada antes de gravar: com a fila cheia o pedido é recusado
+     * (ou aguarda, na política bloquear) sem INSERT e sem segurar transação ou conexão
+     * do pool. A gravação confirma na própria transação do repositório; se ela falhar,
+     * a vaga é devolvida.
      * @param request Dados do pedido a ser criado
      * @return DTO com os dados do pedido criado
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PedidoResponseDTO criarPedido(PedidoRequestDTO request) {
         log.info("Criando novo pedido para cliente: {}", request.getNomeCliente());
         
@@ -47,15 +85,24 @@ public class PedidoService {
         // Converter DTO para entidade
         Pedido pedido = convertToEntity(request);
         
-        // Salvar no banco de dados
-        Pedido pedidoSalvo = pedidoRepository.save(pedido);
-        
-        log.info("Pedido criado com sucesso. ID: {}", pedidoSalvo.getId());
+        // Reservar a vaga antes de tocar no banco (FilaCheiaException se não houver)
+        filaPedidos.reservarVaga();
         
-        // Converter entidade para DTO de resposta
-        PedidoResponseDTO pedidoResponse = convertToResponseDTO(pedidoSalvo);
+        PedidoResponseDTO pedidoResponse;
+        try {
+            // Salvar no banco de dados
+            Pedido pedidoSalvo = pedidoRepository.save(pedido);
+            
+            log.info("Pedido criado com sucesso. ID: {}", pedidoSalvo.getId());
+            
+            // Converter entidade para DTO de resposta
+            pedidoResponse = convertToResponseDTO(pedidoSalvo);
+        } catch (RuntimeException | Error e) {
+            filaPedidos.cancelarVaga();
+            throw e;
+        }
         
-        // Adicionar pedido à fila (Stack)
+        // Adicionar pedido à fila (Stack) na vaga reservada
         adicionarPedidoNaFila(pedidoResponse);
         
         return pedidoResponse;
@@ -63,31 +110,50 @@ public class PedidoService {
     
     /**
      * Lista todos os pedidos do sistema ordenados por data (mais recentes primeiro)
-     * @return Lista de DTOs com os dados dos pedidos
+     *
+     * Sem transação própria (SUPPORTS): chamadas coalescidas aguardam a consulta em voo
+     * sem segurar uma conexão do pool; a consulta abre a sua no repositório.
+     * @return Lista de DTOs com os dados dos pedidos, compartilhada entre chamadas coalescidas
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<PedidoResponseDTO> listarTodosPedidos() {
         log.info("Listando todos os pedidos");
         
-        List<Pedido> pedidos = pedidoRepository.findAllByOrderByDataPedidoDesc();
-        
-        log.info("Encontrados {} pedidos", pedidos.size());
-        
-        return pedidos.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        if (!vooUnico) {
+            return carregarTodosPedidos();
+        }
+        return listagensEmVoo.executar("todos", this::carregarTodosPedidos);
     }
     
     /**
      * Busca um pedido específico pelo seu ID
+     *
+     * Buscas simultâneas pelo mesmo ID compartilham uma única consulta ao banco.
      * @param id ID do pedido a ser buscado
      * @return DTO com os dados do pedido encontrado
      * @throws PedidoNotFoundException se o pedido não for encontrado
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PedidoResponseDTO buscarPedidoPorId(Long id) {
         log.info("Buscando pedido com ID: {}", id);
         
+        if (!vooUnico) {
+            return carregarPedido(id);
+        }
+        return buscasEmVoo.executar(id, () -> carregarPedido(id));
+    }
+    
+    private List<PedidoResponseDTO> carregarTodosPedidos() {
+        List<Pedido> pedidos = pedidoRepository.findAllByOrderByDataPedidoDesc();
+        
+        log.info("Encontrados {} pedidos", pedidos.size());
+        
+        return Collections.unmodifiableList(pedidos.stream()
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList()));
+    }
+    
+    private PedidoResponseDTO carregarPedido(Long id) {
         Pedido pedido = pedidoRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("Pedido não encontrado com ID: {}", id);
@@ -99,6 +165,14 @@ public class PedidoService {
         return convertToResponseDTO(pedido);
     }
     
+    public VooUnico<Long, PedidoResponseDTO> getBuscasEmVoo() {
+        return buscasEmVoo;
+    }
+    
+    public VooUnico<String, List<PedidoResponseDTO>> getListagensEmVoo() {
+        return listagensEmVoo;
+    }
+    
     /**
      * Valida os dados do pedido aplicando regras de negócio adicionais
      * @param request DTO com os dados do pedido a serem validados
@@ -125,7 +199,7 @@ public class PedidoService {
      * @param request DTO com os dados do pedido
      * @return Entidade Pedido
      */
-    private Pedido convertToEntity(PedidoRequestDTO request) {
+    Pedido convertToEntity(PedidoRequestDTO request) {
         Pedido pedido = new Pedido();
         pedido.setNomeCliente(request.getNomeCliente());
         pedido.setDescricao(request.getDescricao());
@@ -140,12 +214,12 @@ public class PedidoService {
      * @param pedido Entidade Pedido
      * @return DTO de response com os dados do pedido
      */
-    private PedidoResponseDTO convertToResponseDTO(Pedido pedido) {
+    PedidoResponseDTO convertToResponseDTO(Pedido pedido) {
         PedidoResponseDTO response = new PedidoResponseDTO();
         response.setId(pedido.getId());
         response.setNomeCliente(pedido.getNomeCliente());
         response.setDescricao(pedido.getDescricao());
-        response.setValor(pedido.getValor());
+        response.setValorMonetario(pedido.getValorMonetario());
         response.setDataPedido(pedido.getDataPedido());
         return response;
     }
@@ -155,38 +229,79 @@ public class PedidoService {
      * @param pedido DTO do pedido a ser adicionado à fila
      */
     private void adicionarPedidoNaFila(PedidoResponseDTO pedido) {
-        filaPedidos.push(pedido);
+        int tamanho = filaPedidos.enfileirarNaVaga(pedido);
         log.info("Pedido ID {} adicionado à fila. Total de pedidos na fila: {}", 
-                pedido.getId(), filaPedidos.size());
+                pedido.getId(), tamanho);
     }
     
     /**
-     * Remove e retorna o último pedido da fila (LIFO - Last In, First Out)
+     * Remove e retorna o próximo pedido da fila (LIFO - Last In, First Out, ou o de maior prioridade)
      * @return DTO do pedido removido da fila, ou null se a fila estiver vazia
      */
     public PedidoResponseDTO processarProximoPedidoDaFila() {
-        if (filaPedidos.isEmpty()) {
+        PedidoResponseDTO pedido = filaPedidos.desenfileirar();
+        if (pedido == null) {
             log.info("Fila de pedidos está vazia");
             return null;
         }
         
-        PedidoResponseDTO pedido = filaPedidos.pop();
         log.info("Pedido ID {} removido da fila. Pedidos restantes na fila: {}", 
-                pedido.getId(), filaPedidos.size());
+                pedido.getId(), filaPedidos.tamanho());
+        if (confirmacaoFila != null) {
+            int entrega = confirmacaoFila.entregar(pedido);
+            log.info("Pedido ID {} aguardando confirmação (entrega {})", pedido.getId(), entrega);
+        }
         return pedido;
     }
     
+    /**
+     * Confirma o processamento de um pedido entregue pela fila
+     * @param id ID do pedido entregue
+     * @throws PedidoNotFoundException se não houver entrega pendente para o ID
+     */
+    public void confirmarPedidoDaFila(Long id) {
+        if (confirmacaoFila == null) {
+            throw new PedidoNotFoundException("Confirmação de entregas da fila desabilitada");
+        }
+        if (!confirmacaoFila.confirmar(id)) {
+            throw new PedidoNotFoundException("Nenhuma entrega pendente de confirmação para o pedido com ID: " + id);
+        }
+        log.info("Pedido ID {} confirmado e removido definitivamente da fila", id);
+    }
+    
+    /**
+     * Retorna os pedidos descartados após esgotar as entregas sem confirmação
+     * @return Pedidos mortos, do mais recente ao mais antigo (vazio sem confirmação habilitada)
+     */
+    public List<PedidoResponseDTO> listarPedidosMortosDaFila() {
+        return confirmacaoFila != null ? confirmacaoFila.listarMortos() : Collections.emptyList();
+    }
+    
+    /**
+     * @return Pedidos entregues aguardando confirmação, ou null sem confirmação habilitada
+     */
+    public Integer getEmProcessamentoDaFila() {
+        return confirmacaoFila != null ? confirmacaoFila.getEmProcessamento() : null;
+    }
+    
+    /**
+     * @return Pedidos na lista de mortos, ou null sem confirmação habilitada
+     */
+    public Integer getMortosDaFila() {
+        return confirmacaoFila != null ? confirmacaoFila.getQuantidadeMortos() : null;
+    }
+    
     /**
      * Retorna o próximo pedido da fila sem removê-lo
      * @return DTO do próximo pedido da fila, ou null se a fila estiver vazia
      */
     public PedidoResponseDTO visualizarProximoPedidoDaFila() {
-        if (filaPedidos.isEmpty()) {
+        PedidoResponseDTO pedido = filaPedidos.espiar();
+        if (pedido == null) {
             log.info("Fila de pedidos está vazia");
             return null;
         }
         
-        PedidoResponseDTO pedido = filaPedidos.peek();
         log.info("Próximo pedido da fila: ID {}", pedido.getId());
         return pedido;
     }
@@ -196,7 +311,30 @@ public class PedidoService {
      * @return Número de pedidos na fila
      */
     public int getTamanhoDaFila() {
-        return filaPedidos.size();
+        return filaPedidos.tamanho();
+    }
+    
+    /**
+     * @return Capacidade da fila, ou null se a fila for ilimitada
+     */
+    public Integer getCapacidadeDaFila() {
+        return filaPedidos.getCapacidade() > 0 ? filaPedidos.getCapacidade() : null;
+    }
+    
+    /**
+     * @return Fração da capacidade ocupada, ou null se a fila for ilimitada
+     */
+    public Double getUtilizacaoDaFila() {
+        return filaPedidos.getCapacidade() > 0 ? filaPedidos.getUtilizacao() : null;
+    }
+    
+    /**
+     * Retorna o uso de memória do armazenamento da fila
+     * @return Estatísticas do armazenamento off-heap, ou null no armazenamento em heap
+     */
+    public FilaArmazenamentoDTO getArmazenamentoDaFila() {
+        FilaArmazenamentoDTO armazenamento = filaPedidos.getArmazenamento();
+        return "heap".equals(armazenamento.getTipo()) ? null : armazenamento;
     }
     
     /**
@@ -204,18 +342,28 @@ public class PedidoService {
      * @return true se a fila estiver vazia, false caso contrário
      */
     public boolean isFilaVazia() {
-        return filaPedidos.isEmpty();
+        return filaPedidos.isVazia();
     }
     
     /**
      * Obtém todas as mensagens (pedidos) que estão atualmente na fila
-     * @return Lista com todos os pedidos da fila (do topo para a base)
+     * @return Lista com todos os pedidos da fila (da base para o topo)
      */
     public List<PedidoResponseDTO> obterTodasAsMensagens() {
-        log.info("Obtendo todas as mensagens da fila. Total: {}", filaPedidos.size());
+        log.info("Obtendo todas as mensagens da fila. Total: {}", filaPedidos.tamanho());
         
         // Retorna uma cópia da lista para evitar modificações externas
-        // A ordem será do topo da pilha (último adicionado) para a base (primeiro adicionado)
-        return new ArrayList<>(filaPedidos);
+        // A ordem será da base da pilha (primeiro adicionado) para o topo (último adicionado)
+        return filaPedidos.listar();
+    }
+    
+    /**
+     * Obtém uma página das mensagens da fila sem copiar a fila inteira
+     * @param offset Pedidos a pular a partir da base da pilha
+     * @param limite Máximo de pedidos na página
+     * @return Pedidos da página, da base para o topo
+     */
+    public List<PedidoResponseDTO> obterPaginaDeMensagens(int offset, int limite) {
+        return filaPedidos.pagina(offset, limite);
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.example.apipedidos.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de leituras concorrentes idênticas (single-flight)
+ *
+ * A primeira chamada para uma chave executa a carga; as que chegam enquanto ela está
+ * em voo aguardam o mesmo {@link CompletableFuture} e recebem o mesmo resultado, ou a
+ * mesma exceção. Nada é guardado depois que a carga termina: a chamada seguinte
+ * consulta de novo, então não há dado mais antigo do que a leitura em andamento.
+ */
+public class VooUnico<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> emVoo = new ConcurrentHashMap<>();
+    private final LongAdder cargas = new LongAdder();
+    private final LongAdder compartilhadas = new LongAdder();
+
+    /**
+     * Executa a carga, ou aguarda a que já está em voo para a mesma chave
+     *
+     * @param chave Identifica leituras equivalentes
+     * @param carga Leitura executada apenas pela primeira chamada
+     * @return Resultado da carga, compartilhado entre as chamadas coalescidas
+     */
+    public V executar(K chave, Supplier<V> carga) {
+        CompletableFuture<V> proprio = new CompletableFuture<>();
+        CompletableFuture<V> existente = emVoo.putIfAbsent(chave, proprio);
+        if (existente != null) {
+            compartilhadas.increment();
+            return aguardar(existente);
+        }
+
+        cargas.increment();
+        try {
+            V valor = carga.get();
+            proprio.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error e) {
+            proprio.completeExceptionally(e);
+            throw e;
+        } finally {
+            emVoo.remove(chave, proprio);
+        }
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            // Relança a exceção original da carga (ex.: PedidoNotFoundException)
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Leituras executadas no banco
+     */
+    public long getTotalCargas() {
+        return cargas.sum();
+    }
+
+    /**
+     * Chamadas atendidas pela carga de outra chamada, sem ir ao banco
+     */
+    public long getTotalCompartilhadas() {
+        return compartilhadas.sum();
+    }
+
+    /**
+     * Chaves com carga em andamento
+     */
+    public int getEmVoo() {
+        return emVoo.size();
+    }
+}
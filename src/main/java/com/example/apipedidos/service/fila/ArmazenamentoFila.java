@@ -0,0 +1,72 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Armazenamento das entradas compactas usado pela {@link FilaPedidos}
+ *
+ * O "topo" é a próxima entrada a sair: a última enfileirada nas pilhas (LIFO) ou a de
+ * maior prioridade em {@link ArmazenamentoPrioridade}. Implementações são thread-safe.
+ */
+interface ArmazenamentoFila extends Closeable {
+
+    /**
+     * @return Tamanho da pilha após a inclusão
+     */
+    int empilhar(PedidoCompacto entrada);
+
+    /**
+     * @return Entrada do topo, ou null se vazia
+     */
+    PedidoCompacto desempilhar();
+
+    PedidoCompacto topo();
+
+    int tamanho();
+
+    /**
+     * @return Entradas da base para o topo (a última da lista é a próxima a sair)
+     */
+    List<PedidoCompacto> listar();
+
+    /**
+     * Página das entradas na mesma ordem de {@link #listar()}, sem copiar a fila inteira
+     * quando a implementação permite; visão fracamente consistente
+     * @param offset Entradas a pular a partir da base
+     * @param limite Máximo de entradas devolvidas
+     */
+    default List<PedidoCompacto> pagina(int offset, int limite) {
+        List<PedidoCompacto> todas = listar();
+        int inicio = Math.min(offset, todas.size());
+        return new ArrayList<>(todas.subList(inicio, Math.min(todas.size(), inicio + limite)));
+    }
+
+    /**
+     * @return Instante (System.nanoTime) de enfileiramento da entrada mais antiga, ou null se vazia
+     */
+    Long enfileiradoMaisAntigoNanos();
+
+    /**
+     * @return Estatísticas de uso do armazenamento
+     */
+    FilaArmazenamentoDTO estatisticas();
+
+    /**
+     * Copia até {@code limite} elementos do iterador após pular {@code offset}
+     */
+    static <T> List<T> pagina(Iterator<T> iterador, int offset, int limite) {
+        for (int pulados = 0; pulados < offset && iterador.hasNext(); pulados++) {
+            iterador.next();
+        }
+        List<T> pagina = new ArrayList<>(Math.min(limite, 256));
+        while (pagina.size() < limite && iterador.hasNext()) {
+            pagina.add(iterador.next());
+        }
+        return pagina;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Armazenamento da fila no heap: pilha lock-free de objetos {@link PedidoCompacto}
+ *
+ * O topo é a cabeça de uma ConcurrentLinkedDeque. Listagem e paginação percorrem o
+ * iterador fracamente consistente da deque, sem bloquear produtores e consumidores;
+ * o tamanho é um contador à parte (size() da deque é O(n)).
+ */
+final class ArmazenamentoHeap implements ArmazenamentoFila {
+
+    private final ConcurrentLinkedDeque<PedidoCompacto> pilha = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger tamanho = new AtomicInteger();
+
+    @Override
+    public int empilhar(PedidoCompacto entrada) {
+        pilha.addFirst(entrada);
+        return tamanho.incrementAndGet();
+    }
+
+    @Override
+    public PedidoCompacto desempilhar() {
+        PedidoCompacto entrada = pilha.pollFirst();
+        if (entrada != null) {
+            tamanho.decrementAndGet();
+        }
+        return entrada;
+    }
+
+    @Override
+    public PedidoCompacto topo() {
+        return pilha.peekFirst();
+    }
+
+    @Override
+    public int tamanho() {
+        return Math.max(tamanho.get(), 0);
+    }
+
+    @Override
+    public List<PedidoCompacto> listar() {
+        List<PedidoCompacto> entradas = new ArrayList<>(tamanho());
+        for (Iterator<PedidoCompacto> it = pilha.descendingIterator(); it.hasNext(); ) {
+            entradas.add(it.next());
+        }
+        return entradas;
+    }
+
+    @Override
+    public List<PedidoCompacto> pagina(int offset, int limite) {
+        return ArmazenamentoFila.pagina(pilha.descendingIterator(), offset, limite);
+    }
+
+    @Override
+    public Long enfileiradoMaisAntigoNanos() {
+        PedidoCompacto base = pilha.peekLast();
+        return base != null ? base.enfileiradoEmNanos : null;
+    }
+
+    @Override
+    public FilaArmazenamentoDTO estatisticas() {
+        return new FilaArmazenamentoDTO("heap");
+    }
+
+    @Override
+    public void close() {
+    }
+}
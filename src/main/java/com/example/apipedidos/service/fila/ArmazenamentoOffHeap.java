@@ -0,0 +1,568 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Armazenamento da fila em memória direta (fora do heap)
+ *
+ * As entradas são serializadas em segmentos {@link ByteBuffer} diretos de tamanho fixo,
+ * empilhados como registros {@code [int tamanho][corpo][int tamanho]}; o tamanho no fim
+ * permite desempilhar de trás para frente. Segmentos esvaziados voltam para uma lista
+ * de livres e são reaproveitados. Ao atingir {@code offHeapMaxMb}, os segmentos mais
+ * antigos (base da pilha, últimos a sair) são gravados em um arquivo temporário e
+ * recarregados quando o topo chega até eles; como o arquivo também cresce e encolhe
+ * pelo fim, ele é truncado a cada recarga. Com spill desabilitado, enfileirar falha.
+ *
+ * No heap ficam apenas os descritores dos segmentos e o dicionário de nomes.
+ */
+final class ArmazenamentoOffHeap implements ArmazenamentoFila {
+
+    private static final Logger log = LoggerFactory.getLogger(ArmazenamentoOffHeap.class);
+
+    /** id(8) + centavos(8) + segundos(8) + nanos(4) + nulos(1) + enfileirado(8) + código do nome(4) + tamanho da descrição(4) */
+    private static final int CORPO_FIXO = 45;
+    private static final int MOLDURA = 8;
+    private static final int NOME_NULO = -2;
+    private static final int LIVRES_MAXIMO = 2;
+    private static final int JANELA_LEITURA = 8 * 1024;
+    private static final int TENTATIVAS_PAGINA = 3;
+
+    private final DicionarioNomes nomes;
+    private final int tamanhoSegmento;
+    private final long capacidadeBytes;
+    private final boolean spillHabilitado;
+    private final Path diretorioSpill;
+
+    // Lock explícito em vez de synchronized: a E/S do spill não fixa threads virtuais na portadora
+    private final ReentrantLock trava = new ReentrantLock();
+    private final List<Segmento> segmentos = new ArrayList<>();
+    private final ArrayDeque<ByteBuffer> livres = new ArrayDeque<>();
+    // Escrito sob a trava; lido sem ela por tamanho()
+    private volatile int tamanho;
+    private long bytesReservados;
+    private int segmentosEmDisco;
+    private FileChannel spill;
+    private long bytesEmDisco;
+    // Incrementado sob a trava a cada truncamento do spill; valida leituras feitas sem ela
+    private long truncamentos;
+
+    ArmazenamentoOffHeap(DicionarioNomes nomes, FilaPedidosConfig config) {
+        this.nomes = nomes;
+        this.tamanhoSegmento = config.getSegmentoKb() * 1024;
+        this.capacidadeBytes = config.getOffHeapMaxMb() * 1024 * 1024;
+        this.spillHabilitado = config.isSpillHabilitado();
+        this.diretorioSpill = Paths.get(config.getDiretorioSpill());
+        if (capacidadeBytes < tamanhoSegmento) {
+            throw new IllegalArgumentException("Limite off-heap da fila menor que um segmento");
+        }
+    }
+
+    @Override
+    public int empilhar(PedidoCompacto entrada) {
+        trava.lock();
+        try {
+            byte[] nomeInline = null;
+            int codigoNome = NOME_NULO;
+            if (entrada.nomeCliente != null) {
+                codigoNome = nomes.codigo(entrada.nomeCliente);
+                if (codigoNome == DicionarioNomes.SEM_CODIGO) {
+                    nomeInline = entrada.nomeCliente.getBytes(StandardCharsets.UTF_8);
+                }
+            }
+            int tamanhoRegistro = MOLDURA + CORPO_FIXO + entrada.descricao.length
+                    + (nomeInline != null ? 4 + nomeInline.length : 0);
+            if (tamanhoRegistro > tamanhoSegmento) {
+                throw new IllegalArgumentException("Pedido maior que o segmento off-heap da fila: " + tamanhoRegistro + " bytes");
+            }
+
+            Segmento topo = segmentos.isEmpty() ? null : segmentos.get(segmentos.size() - 1);
+            if (topo == null || topo.buffer == null || tamanhoSegmento - topo.limite < tamanhoRegistro) {
+                topo = novoSegmento(entrada.enfileiradoEmNanos);
+            }
+
+            ByteBuffer buffer = topo.buffer;
+            buffer.clear().position(topo.limite);
+            buffer.putInt(tamanhoRegistro);
+            buffer.putLong(entrada.id);
+            buffer.putLong(entrada.centavos);
+            buffer.putLong(entrada.dataSegundos);
+            buffer.putInt(entrada.dataNanos);
+            buffer.put(entrada.nulos);
+            buffer.putLong(entrada.enfileiradoEmNanos);
+            buffer.putInt(codigoNome);
+            if (nomeInline != null) {
+                buffer.putInt(nomeInline.length);
+                buffer.put(nomeInline);
+            }
+            buffer.putInt(entrada.descricao.length);
+            buffer.put(entrada.descricao);
+            buffer.putInt(tamanhoRegistro);
+
+            topo.limite += tamanhoRegistro;
+            topo.registros++;
+            return ++tamanho;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public PedidoCompacto desempilhar() {
+        trava.lock();
+        try {
+            Segmento topo = topoCarregado();
+            if (topo == null) {
+                return null;
+            }
+            int tamanhoRegistro = topo.buffer.getInt(topo.limite - 4);
+            int inicio = topo.limite - tamanhoRegistro;
+            PedidoCompacto entrada = ler(topo.buffer, inicio);
+            topo.limite = inicio;
+            topo.registros--;
+            tamanho--;
+            if (topo.registros == 0) {
+                segmentos.remove(segmentos.size() - 1);
+                liberar(topo.buffer);
+            }
+            return entrada;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public PedidoCompacto topo() {
+        trava.lock();
+        try {
+            Segmento topo = topoCarregado();
+            if (topo == null) {
+                return null;
+            }
+            int tamanhoRegistro = topo.buffer.getInt(topo.limite - 4);
+            return ler(topo.buffer, topo.limite - tamanhoRegistro);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Pula segmentos inteiros pela contagem de registros e só decodifica os registros da
+     * página. Os trechos em memória são lidos sob a trava; os que estão em disco são lidos
+     * depois, sem ela, em janelas pequenas. Se o spill foi truncado durante essa leitura
+     * (o topo recarregou um segmento e a área pode ter sido regravada), a página é refeita;
+     * após {@link #TENTATIVAS_PAGINA} tentativas, a leitura do disco é feita sob a trava.
+     */
+    @Override
+    public List<PedidoCompacto> pagina(int offset, int limite) {
+        for (int tentativa = 1; ; tentativa++) {
+            List<Trecho> trechos = new ArrayList<>();
+            List<PedidoCompacto> emMemoria = new ArrayList<>(Math.min(limite, 256));
+            FileChannel canal;
+            long versao;
+            trava.lock();
+            try {
+                planejarPagina(offset, limite, trechos, emMemoria);
+                if (trechos.isEmpty()) {
+                    return emMemoria;
+                }
+                if (tentativa >= TENTATIVAS_PAGINA) {
+                    return juntar(lerTrechos(spill, trechos), emMemoria);
+                }
+                canal = spill;
+                versao = truncamentos;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao ler segmento da fila do disco", e);
+            } finally {
+                trava.unlock();
+            }
+
+            List<PedidoCompacto> doDisco;
+            try {
+                doDisco = lerTrechos(canal, trechos);
+            } catch (IOException | RuntimeException e) {
+                // Área regravada no meio da leitura: registros inválidos, refaz a página
+                doDisco = null;
+            }
+            trava.lock();
+            try {
+                if (doDisco != null && truncamentos == versao) {
+                    return juntar(doDisco, emMemoria);
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Separa a página em trechos de segmentos em disco (da base) e entradas já decodificadas
+     * dos segmentos em memória; chamado sob a trava
+     */
+    private void planejarPagina(int offset, int limite, List<Trecho> trechos, List<PedidoCompacto> emMemoria) {
+        int pular = offset;
+        int restantes = limite;
+        for (Segmento segmento : segmentos) {
+            if (restantes <= 0) {
+                break;
+            }
+            if (pular >= segmento.registros) {
+                pular -= segmento.registros;
+                continue;
+            }
+            int quantidade = Math.min(segmento.registros - pular, restantes);
+            if (segmento.buffer == null) {
+                trechos.add(new Trecho(segmento.posicaoDisco, segmento.limite, pular, quantidade));
+            } else {
+                int posicao = 0;
+                for (int lidos = 0; lidos < pular + quantidade; lidos++) {
+                    if (lidos >= pular) {
+                        emMemoria.add(ler(segmento.buffer, posicao));
+                    }
+                    posicao += segmento.buffer.getInt(posicao);
+                }
+            }
+            restantes -= quantidade;
+            pular = 0;
+        }
+    }
+
+    private List<PedidoCompacto> lerTrechos(FileChannel canal, List<Trecho> trechos) throws IOException {
+        List<PedidoCompacto> entradas = new ArrayList<>();
+        LeitorSpill leitor = new LeitorSpill(canal, Math.min(tamanhoSegmento, JANELA_LEITURA));
+        for (Trecho trecho : trechos) {
+            long fim = trecho.posicaoDisco + trecho.limite;
+            long posicao = trecho.posicaoDisco;
+            int pular = trecho.pular;
+            for (int restantes = trecho.quantidade; restantes > 0; posicao += leitor.tamanhoRegistro) {
+                leitor.carregarRegistro(posicao, fim);
+                if (pular > 0) {
+                    pular--;
+                } else {
+                    entradas.add(ler(leitor.buffer, leitor.inicioRegistro));
+                    restantes--;
+                }
+            }
+        }
+        return entradas;
+    }
+
+    private static List<PedidoCompacto> juntar(List<PedidoCompacto> doDisco, List<PedidoCompacto> emMemoria) {
+        doDisco.addAll(emMemoria);
+        return doDisco;
+    }
+
+    @Override
+    public List<PedidoCompacto> listar() {
+        trava.lock();
+        try {
+            List<PedidoCompacto> entradas = new ArrayList<>(tamanho);
+            for (Segmento segmento : segmentos) {
+                ByteBuffer buffer = segmento.buffer != null ? segmento.buffer : lerDoDisco(segmento);
+                int posicao = 0;
+                while (posicao < segmento.limite) {
+                    entradas.add(ler(buffer, posicao));
+                    posicao += buffer.getInt(posicao);
+                }
+            }
+            return entradas;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public Long enfileiradoMaisAntigoNanos() {
+        trava.lock();
+        try {
+            return segmentos.isEmpty() ? null : segmentos.get(0).enfileiradoPrimeiroNanos;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public FilaArmazenamentoDTO estatisticas() {
+        trava.lock();
+        try {
+            long bytesUsados = 0;
+            for (Segmento segmento : segmentos) {
+                if (segmento.buffer != null) {
+                    bytesUsados += segmento.limite;
+                }
+            }
+            FilaArmazenamentoDTO estatisticas = new FilaArmazenamentoDTO("off-heap");
+            estatisticas.setBytesUsados(bytesUsados);
+            estatisticas.setBytesReservados(bytesReservados);
+            estatisticas.setCapacidadeBytes(capacidadeBytes);
+            estatisticas.setBytesEmDisco(bytesEmDisco);
+            estatisticas.setSegmentos(segmentos.size());
+            estatisticas.setSegmentosEmDisco(segmentosEmDisco);
+            estatisticas.setSegmentosLivres(livres.size());
+            return estatisticas;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        trava.lock();
+        try {
+            segmentos.clear();
+            livres.clear();
+            bytesReservados = 0;
+            tamanho = 0;
+            if (spill != null) {
+                spill.close();
+                spill = null;
+                truncamentos++;
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private Segmento novoSegmento(long enfileiradoEmNanos) {
+        Segmento segmento = new Segmento(alocar(), enfileiradoEmNanos);
+        segmentos.add(segmento);
+        return segmento;
+    }
+
+    /**
+     * Obtém um buffer livre, alocando ou liberando espaço via spill quando necessário
+     */
+    private ByteBuffer alocar() {
+        ByteBuffer buffer = livres.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        if (bytesReservados + tamanhoSegmento <= capacidadeBytes) {
+            bytesReservados += tamanhoSegmento;
+            return ByteBuffer.allocateDirect(tamanhoSegmento);
+        }
+        if (!spillHabilitado) {
+            throw new IllegalStateException("Limite de memória off-heap da fila atingido (" + capacidadeBytes + " bytes)");
+        }
+        return gravarNoDisco(segmentos.get(segmentosEmDisco));
+    }
+
+    private void liberar(ByteBuffer buffer) {
+        if (livres.size() < LIVRES_MAXIMO) {
+            livres.push(buffer);
+        } else {
+            // Sem referência, a memória direta é devolvida pelo cleaner do buffer
+            bytesReservados -= tamanhoSegmento;
+        }
+    }
+
+    /**
+     * Segmento do topo com o buffer em memória, recarregando-o do disco se preciso
+     */
+    private Segmento topoCarregado() {
+        if (segmentos.isEmpty()) {
+            return null;
+        }
+        Segmento topo = segmentos.get(segmentos.size() - 1);
+        if (topo.buffer == null) {
+            // Todos os segmentos acima já saíram, então há buffer livre ou espaço para alocar
+            ByteBuffer buffer = alocar();
+            try {
+                lerDoDisco(topo, buffer);
+                spill.truncate(topo.posicaoDisco);
+                truncamentos++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Erro ao recarregar segmento da fila do disco", e);
+            }
+            bytesEmDisco = topo.posicaoDisco;
+            topo.buffer = buffer;
+            topo.posicaoDisco = -1;
+            segmentosEmDisco--;
+        }
+        return topo;
+    }
+
+    private ByteBuffer gravarNoDisco(Segmento segmento) {
+        try {
+            if (spill == null) {
+                Files.createDirectories(diretorioSpill);
+                Path arquivo = Files.createTempFile(diretorioSpill, "fila-pedidos-", ".spill");
+                spill = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                log.info("Fila de pedidos excedeu {} bytes off-heap; segmentos antigos irão para {}",
+                        capacidadeBytes, arquivo);
+            }
+            ByteBuffer buffer = segmento.buffer;
+            buffer.clear().limit(segmento.limite);
+            long posicao = bytesEmDisco;
+            while (buffer.hasRemaining()) {
+                posicao += spill.write(buffer, posicao);
+            }
+            segmento.posicaoDisco = bytesEmDisco;
+            segmento.buffer = null;
+            bytesEmDisco = posicao;
+            segmentosEmDisco++;
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao gravar segmento da fila em disco", e);
+        }
+    }
+
+    private ByteBuffer lerDoDisco(Segmento segmento) {
+        ByteBuffer buffer = ByteBuffer.allocate(segmento.limite);
+        try {
+            lerDoDisco(segmento, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler segmento da fila do disco", e);
+        }
+        return buffer;
+    }
+
+    private void lerDoDisco(Segmento segmento, ByteBuffer buffer) throws IOException {
+        buffer.clear().limit(segmento.limite);
+        long posicao = segmento.posicaoDisco;
+        while (buffer.hasRemaining()) {
+            int lidos = spill.read(buffer, posicao);
+            if (lidos < 0) {
+                throw new IOException("Arquivo de spill da fila truncado");
+            }
+            posicao += lidos;
+        }
+    }
+
+    private PedidoCompacto ler(ByteBuffer buffer, int inicio) {
+        int posicao = inicio + 4;
+        long id = buffer.getLong(posicao);
+        long centavos = buffer.getLong(posicao + 8);
+        long dataSegundos = buffer.getLong(posicao + 16);
+        int dataNanos = buffer.getInt(posicao + 24);
+        byte nulos = buffer.get(posicao + 28);
+        long enfileiradoEmNanos = buffer.getLong(posicao + 29);
+        int codigoNome = buffer.getInt(posicao + 37);
+        posicao += 41;
+
+        String nomeCliente = null;
+        if (codigoNome >= 0) {
+            nomeCliente = nomes.nome(codigoNome);
+        } else if (codigoNome == DicionarioNomes.SEM_CODIGO) {
+            int tamanhoNome = buffer.getInt(posicao);
+            nomeCliente = new String(copiar(buffer, posicao + 4, tamanhoNome), StandardCharsets.UTF_8);
+            posicao += 4 + tamanhoNome;
+        }
+        int tamanhoDescricao = buffer.getInt(posicao);
+        byte[] descricao = tamanhoDescricao == 0 ? PedidoCompacto.VAZIO : copiar(buffer, posicao + 4, tamanhoDescricao);
+
+        return new PedidoCompacto(id, centavos, dataSegundos, dataNanos, nulos, nomeCliente, descricao,
+                enfileiradoEmNanos);
+    }
+
+    private static byte[] copiar(ByteBuffer buffer, int posicao, int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        ByteBuffer origem = buffer.duplicate();
+        origem.clear().position(posicao);
+        origem.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Registros de um segmento em disco que entram na página
+     */
+    private static final class Trecho {
+        private final long posicaoDisco;
+        private final int limite;
+        private final int pular;
+        private final int quantidade;
+
+        private Trecho(long posicaoDisco, int limite, int pular, int quantidade) {
+            this.posicaoDisco = posicaoDisco;
+            this.limite = limite;
+            this.pular = pular;
+            this.quantidade = quantidade;
+        }
+    }
+
+    /**
+     * Leitura sequencial do spill por uma janela no heap, sem carregar o segmento inteiro;
+     * a janela só cresce para caber um registro maior que ela
+     */
+    private static final class LeitorSpill {
+        private final FileChannel canal;
+        private ByteBuffer buffer;
+        private long inicioJanela = -1;
+        private int inicioRegistro;
+        private int tamanhoRegistro;
+
+        private LeitorSpill(FileChannel canal, int janela) {
+            this.canal = canal;
+            this.buffer = ByteBuffer.allocate(janela);
+        }
+
+        /**
+         * Deixa na janela o registro que começa em {@code posicao} do arquivo
+         * @param fim Fim do segmento no arquivo
+         */
+        private void carregarRegistro(long posicao, long fim) throws IOException {
+            garantir(posicao, 4, fim);
+            tamanhoRegistro = buffer.getInt(inicioRegistro);
+            if (tamanhoRegistro < MOLDURA + CORPO_FIXO || posicao + tamanhoRegistro > fim) {
+                throw new IOException("Registro inválido no spill da fila");
+            }
+            garantir(posicao, tamanhoRegistro, fim);
+        }
+
+        private void garantir(long posicao, int bytes, long fim) throws IOException {
+            if (posicao + bytes > fim) {
+                throw new IOException("Registro inválido no spill da fila");
+            }
+            if (inicioJanela < 0 || posicao < inicioJanela || posicao + bytes > inicioJanela + buffer.position()) {
+                if (bytes > buffer.capacity()) {
+                    buffer = ByteBuffer.allocate(bytes);
+                }
+                buffer.clear().limit((int) Math.min(buffer.capacity(), fim - posicao));
+                while (buffer.position() < bytes) {
+                    if (canal.read(buffer, posicao + buffer.position()) < 0) {
+                        throw new IOException("Arquivo de spill da fila truncado");
+                    }
+                }
+                inicioJanela = posicao;
+            }
+            inicioRegistro = (int) (posicao - inicioJanela);
+        }
+    }
+
+    /**
+     * Descritor de um segmento: em memória ({@code buffer}) ou em disco ({@code posicaoDisco})
+     */
+    private static final class Segmento {
+        private ByteBuffer buffer;
+        private int limite;
+        private int registros;
+        private long posicaoDisco = -1;
+        private final long enfileiradoPrimeiroNanos;
+
+        private Segmento(ByteBuffer buffer, long enfileiradoPrimeiroNanos) {
+            this.buffer = buffer;
+            this.enfileiradoPrimeiroNanos = enfileiradoPrimeiroNanos;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Armazenamento da fila particionado por cliente, com saída em deficit round-robin
+ *
+ * Cada partição (hash do nomeCliente) é uma pilha LIFO lock-free (ConcurrentLinkedDeque):
+ * produtores de clientes diferentes não disputam a mesma estrutura. Na saída, as
+ * partições se alternam e cada uma entrega até {@code quantum} pedidos por vez, de modo
+ * que um cliente com muitos pedidos atrasa apenas os próprios pedidos.
+ *
+ * O rodízio também é lock-free: cada desenfileiramento pega um bilhete de um contador
+ * atômico e o bilhete {@code b} pertence à partição {@code (b / quantum) % partições}.
+ * Se essa partição estiver vazia, o consumidor segue para a próxima não vazia e adianta
+ * o contador para a vez dela (a partição vazia perde o crédito restante, como no DRR).
+ * Sob concorrência a alternância é aproximada; nenhum pedido se perde.
+ */
+final class ArmazenamentoParticionado implements ArmazenamentoFila {
+
+    private final Particao[] particoes;
+    private final int quantum;
+    private final AtomicInteger tamanho = new AtomicInteger();
+    private final AtomicLong bilhetes = new AtomicLong();
+
+    ArmazenamentoParticionado(FilaPedidosConfig config) {
+        if (config.getParticoes() < 1 || config.getQuantum() < 1) {
+            throw new IllegalArgumentException("Partições e quantum da fila devem ser positivos");
+        }
+        this.particoes = new Particao[config.getParticoes()];
+        for (int i = 0; i < particoes.length; i++) {
+            particoes[i] = new Particao();
+        }
+        this.quantum = config.getQuantum();
+    }
+
+    @Override
+    public int empilhar(PedidoCompacto entrada) {
+        Particao particao = particoes[indice(entrada.nomeCliente)];
+        particao.pilha.addFirst(entrada);
+        particao.tamanho.incrementAndGet();
+        return tamanho.incrementAndGet();
+    }
+
+    @Override
+    public PedidoCompacto desempilhar() {
+        long bilhete = bilhetes.getAndIncrement();
+        long vez = bilhete / quantum;
+        for (int salto = 0; salto < particoes.length; salto++) {
+            Particao particao = particoes[particao(vez + salto)];
+            PedidoCompacto entrada = particao.pilha.pollFirst();
+            if (entrada != null) {
+                particao.tamanho.decrementAndGet();
+                tamanho.decrementAndGet();
+                if (salto > 0) {
+                    // Passa a contar a partir da vez da partição atendida
+                    long proximo = (vez + salto) * quantum + 1;
+                    bilhetes.accumulateAndGet(proximo, Math::max);
+                }
+                return entrada;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public PedidoCompacto topo() {
+        long vez = bilhetes.get() / quantum;
+        for (int salto = 0; salto < particoes.length; salto++) {
+            PedidoCompacto entrada = particoes[particao(vez + salto)].pilha.peekFirst();
+            if (entrada != null) {
+                return entrada;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int tamanho() {
+        return Math.max(tamanho.get(), 0);
+    }
+
+    /**
+     * Simula o rodízio sobre uma cópia das partições: a lista sai na ordem inversa da entrega
+     */
+    @Override
+    public List<PedidoCompacto> listar() {
+        long bilhete = bilhetes.get();
+        List<ArrayDeque<PedidoCompacto>> copias = new ArrayList<>(particoes.length);
+        int restantes = 0;
+        for (Particao particao : particoes) {
+            ArrayDeque<PedidoCompacto> copia = new ArrayDeque<>(particao.pilha);
+            restantes += copia.size();
+            copias.add(copia);
+        }
+
+        List<PedidoCompacto> ordem = new ArrayList<>(restantes);
+        long vez = bilhete / quantum;
+        int credito = quantum - (int) (bilhete % quantum);
+        while (restantes > 0) {
+            ArrayDeque<PedidoCompacto> copia = copias.get(particao(vez));
+            if (copia.isEmpty()) {
+                // Partição vazia: a próxima não vazia recebe a vez inteira
+                vez++;
+                continue;
+            }
+            for (; credito > 0 && !copia.isEmpty(); credito--, restantes--) {
+                ordem.add(copia.pollFirst());
+            }
+            vez++;
+            credito = quantum;
+        }
+        Collections.reverse(ordem);
+        return ordem;
+    }
+
+    /**
+     * Calcula a página sem copiar as partições: a posição de cada entrada na entrega sai
+     * apenas dos tamanhos das partições e do bilhete corrente, e só as entradas da página
+     * são percorridas nas pilhas (a partir da ponta mais próxima)
+     */
+    @Override
+    public List<PedidoCompacto> pagina(int offset, int limite) {
+        long bilhete = bilhetes.get();
+        int[] tamanhos = new int[particoes.length];
+        long total = 0;
+        for (int i = 0; i < particoes.length; i++) {
+            tamanhos[i] = Math.max(particoes[i].tamanho.get(), 0);
+            total += tamanhos[i];
+        }
+        // A listagem é a entrega invertida: a página são as entregas [inicio, fim)
+        long fim = total - offset;
+        if (fim <= 0) {
+            return new ArrayList<>();
+        }
+        long inicio = Math.max(0, fim - limite);
+        int quantidade = (int) (fim - inicio);
+
+        int inicial = particao(bilhete / quantum);
+        int creditoInicial = quantum - (int) (bilhete % quantum);
+        // A primeira partição não vazia do rodízio recebe o crédito restante da vez corrente
+        int primeira = -1;
+        for (int salto = 0; salto < particoes.length && primeira < 0; salto++) {
+            if (tamanhos[particao(inicial + (long) salto)] > 0) {
+                primeira = particao(inicial + (long) salto);
+            }
+        }
+
+        // Última rodada que começa antes da primeira entrega da página
+        long rodada = 0;
+        long maximo = 0;
+        for (int tamanho : tamanhos) {
+            maximo = Math.max(maximo, tamanho);
+        }
+        long acima = maximo / quantum + 2;
+        while (acima - rodada > 1) {
+            long meio = (rodada + acima) >>> 1;
+            if (entregues(tamanhos, primeira, creditoInicial, meio) <= inicio) {
+                rodada = meio;
+            } else {
+                acima = meio;
+            }
+        }
+
+        // Partição e posição a partir do topo de cada entrega da página
+        int[] particaoDe = new int[quantidade];
+        int[] indiceDe = new int[quantidade];
+        long posicao = entregues(tamanhos, primeira, creditoInicial, rodada);
+        for (; posicao < fim; rodada++) {
+            for (int salto = 0; salto < particoes.length && posicao < fim; salto++) {
+                int p = particao(inicial + (long) salto);
+                int antes = (int) Math.min(tamanhos[p], cota(p, primeira, creditoInicial, rodada));
+                int depois = (int) Math.min(tamanhos[p], cota(p, primeira, creditoInicial, rodada + 1));
+                for (int indice = antes; indice < depois && posicao < fim; indice++, posicao++) {
+                    if (posicao >= inicio) {
+                        particaoDe[(int) (posicao - inicio)] = p;
+                        indiceDe[(int) (posicao - inicio)] = indice;
+                    }
+                }
+            }
+        }
+
+        PedidoCompacto[] entregas = new PedidoCompacto[quantidade];
+        for (int p = 0; p < particoes.length; p++) {
+            preencher(p, tamanhos[p], particaoDe, indiceDe, entregas);
+        }
+        List<PedidoCompacto> pagina = new ArrayList<>(quantidade);
+        for (int i = quantidade - 1; i >= 0; i--) {
+            // Partição encolheu durante a leitura: a entrada já saiu
+            if (entregas[i] != null) {
+                pagina.add(entregas[i]);
+            }
+        }
+        return pagina;
+    }
+
+    /**
+     * Entregas das rodadas anteriores a {@code rodada}, somadas em todas as partições
+     */
+    private long entregues(int[] tamanhos, int primeira, int creditoInicial, long rodada) {
+        long total = 0;
+        for (int p = 0; p < tamanhos.length; p++) {
+            total += Math.min(tamanhos[p], cota(p, primeira, creditoInicial, rodada));
+        }
+        return total;
+    }
+
+    /**
+     * Crédito acumulado pela partição nas rodadas anteriores a {@code rodada}
+     */
+    private long cota(int p, int primeira, int creditoInicial, long rodada) {
+        if (p == primeira) {
+            return rodada == 0 ? 0 : creditoInicial + (rodada - 1) * quantum;
+        }
+        return rodada * quantum;
+    }
+
+    /**
+     * Preenche as entregas da partição percorrendo a pilha a partir da ponta mais próxima
+     * das posições pedidas
+     */
+    private void preencher(int p, int tamanho, int[] particaoDe, int[] indiceDe, PedidoCompacto[] entregas) {
+        int menor = Integer.MAX_VALUE;
+        int maior = -1;
+        for (int i = 0; i < particaoDe.length; i++) {
+            if (particaoDe[i] == p) {
+                menor = Math.min(menor, indiceDe[i]);
+                maior = Math.max(maior, indiceDe[i]);
+            }
+        }
+        if (maior < 0) {
+            return;
+        }
+        boolean pelaBase = tamanho - 1 - menor < maior;
+        Iterator<PedidoCompacto> iterador = pelaBase
+                ? particoes[p].pilha.descendingIterator()
+                : particoes[p].pilha.iterator();
+        int lidos = 0;
+        PedidoCompacto atual = null;
+        for (int k = 0; k < particaoDe.length; k++) {
+            // Do topo, as entregas saem em ordem crescente; da base, em ordem decrescente
+            int i = pelaBase ? particaoDe.length - 1 - k : k;
+            if (particaoDe[i] != p) {
+                continue;
+            }
+            int alvo = pelaBase ? tamanho - 1 - indiceDe[i] : indiceDe[i];
+            while (lidos <= alvo && iterador.hasNext()) {
+                atual = iterador.next();
+                lidos++;
+            }
+            if (lidos == alvo + 1) {
+                entregas[i] = atual;
+            }
+        }
+    }
+
+    @Override
+    public Long enfileiradoMaisAntigoNanos() {
+        Long maisAntigo = null;
+        for (Particao particao : particoes) {
+            PedidoCompacto base = particao.pilha.peekLast();
+            if (base != null && (maisAntigo == null || base.enfileiradoEmNanos - maisAntigo < 0)) {
+                maisAntigo = base.enfileiradoEmNanos;
+            }
+        }
+        return maisAntigo;
+    }
+
+    @Override
+    public FilaArmazenamentoDTO estatisticas() {
+        List<Integer> profundidades = new ArrayList<>(particoes.length);
+        for (Particao particao : particoes) {
+            profundidades.add(Math.max(particao.tamanho.get(), 0));
+        }
+        FilaArmazenamentoDTO estatisticas = new FilaArmazenamentoDTO("particionado");
+        estatisticas.setProfundidadeParticoes(profundidades);
+        return estatisticas;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    int indice(String nomeCliente) {
+        if (nomeCliente == null) {
+            return 0;
+        }
+        int hash = nomeCliente.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), particoes.length);
+    }
+
+    private int particao(long vez) {
+        return (int) Math.floorMod(vez, (long) particoes.length);
+    }
+
+    private static final class Particao {
+        private final ConcurrentLinkedDeque<PedidoCompacto> pilha = new ConcurrentLinkedDeque<>();
+        // size() da ConcurrentLinkedDeque é O(n)
+        private final AtomicInteger tamanho = new AtomicInteger();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Armazenamento da fila por prioridade: ConcurrentSkipListMap ordenado por pontuação
+ *
+ * A pontuação de uma entrada na espera é {@code base + envelhecimento * segundosNaFila}.
+ * Como todas as entradas envelhecem à mesma taxa, a ordem entre elas não muda com o
+ * tempo e a chave pode ser fixada ao enfileirar ({@code base - envelhecimento * instanteDeEntrada}):
+ * o envelhecimento evita inanição sem reordenar o mapa. Empates saem em ordem de chegada.
+ * Inclusão e remoção são O(log n) sem lock global; {@link #tamanho()} é um contador.
+ */
+final class ArmazenamentoPrioridade implements ArmazenamentoFila {
+
+    private static final double SEGUNDOS_POR_HORA = 3600.0;
+
+    private final FilaPedidosConfig.ModoFila modo;
+    private final double pesoValor;
+    private final double pesoAntiguidade;
+    private final double envelhecimentoPorSegundo;
+    private final long origemNanos = System.nanoTime();
+    // Relógio de parede em origemNanos, na escala de dataPedido (LocalDateTime lido como UTC)
+    private final double origemSegundosData = segundos(LocalDateTime.now());
+
+    private final ConcurrentSkipListMap<Chave, PedidoCompacto> entradas = new ConcurrentSkipListMap<>(Chave.ORDEM);
+    // Sequência de chegada -> instante de enfileiramento, para a idade do mais antigo
+    private final ConcurrentSkipListMap<Long, Long> chegadas = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final AtomicInteger tamanho = new AtomicInteger();
+
+    ArmazenamentoPrioridade(FilaPedidosConfig config) {
+        this.modo = config.getModo();
+        this.pesoValor = config.getPesoValor();
+        this.pesoAntiguidade = config.getPesoAntiguidade();
+        this.envelhecimentoPorSegundo = config.getEnvelhecimentoPorSegundo();
+    }
+
+    @Override
+    public int empilhar(PedidoCompacto entrada) {
+        Chave chave = new Chave(pontuacao(entrada), sequencia.incrementAndGet());
+        chegadas.put(chave.sequencia, entrada.enfileiradoEmNanos);
+        entradas.put(chave, entrada);
+        return tamanho.incrementAndGet();
+    }
+
+    @Override
+    public PedidoCompacto desempilhar() {
+        Map.Entry<Chave, PedidoCompacto> primeira = entradas.pollFirstEntry();
+        if (primeira == null) {
+            return null;
+        }
+        chegadas.remove(primeira.getKey().sequencia);
+        tamanho.decrementAndGet();
+        return primeira.getValue();
+    }
+
+    @Override
+    public PedidoCompacto topo() {
+        Map.Entry<Chave, PedidoCompacto> primeira = entradas.firstEntry();
+        return primeira != null ? primeira.getValue() : null;
+    }
+
+    @Override
+    public int tamanho() {
+        return Math.max(tamanho.get(), 0);
+    }
+
+    /**
+     * Visão fracamente consistente, da menor para a maior prioridade
+     */
+    @Override
+    public List<PedidoCompacto> listar() {
+        return new ArrayList<>(entradas.descendingMap().values());
+    }
+
+    @Override
+    public List<PedidoCompacto> pagina(int offset, int limite) {
+        return ArmazenamentoFila.pagina(entradas.descendingMap().values().iterator(), offset, limite);
+    }
+
+    @Override
+    public Long enfileiradoMaisAntigoNanos() {
+        Map.Entry<Long, Long> primeira = chegadas.firstEntry();
+        return primeira != null ? primeira.getValue() : null;
+    }
+
+    @Override
+    public FilaArmazenamentoDTO estatisticas() {
+        return new FilaArmazenamentoDTO("prioridade-" + modo.name().toLowerCase());
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Pontuação fixa da entrada; maior sai primeiro
+     */
+    double pontuacao(PedidoCompacto entrada) {
+        double base;
+        switch (modo) {
+            case VALOR:
+                base = reais(entrada);
+                break;
+            case DATA:
+                base = -segundosData(entrada);
+                break;
+            default:
+                base = pesoValor * reais(entrada) - pesoAntiguidade * segundosData(entrada) / SEGUNDOS_POR_HORA;
+        }
+        double segundosDesdeOrigem = (entrada.enfileiradoEmNanos - origemNanos) / 1e9;
+        return base - envelhecimentoPorSegundo * segundosDesdeOrigem;
+    }
+
+    private static double reais(PedidoCompacto entrada) {
+        return entrada.temValor() ? entrada.centavos / 100.0 : 0.0;
+    }
+
+    /**
+     * Data do pedido em segundos; sem data, vale o instante em que entrou na fila, de modo
+     * que o pedido concorre como um recém-criado e envelhece como os demais
+     */
+    private double segundosData(PedidoCompacto entrada) {
+        if (entrada.temData()) {
+            return entrada.dataSegundos + entrada.dataNanos / 1e9;
+        }
+        return origemSegundosData + (entrada.enfileiradoEmNanos - origemNanos) / 1e9;
+    }
+
+    private static double segundos(LocalDateTime data) {
+        return data.toEpochSecond(ZoneOffset.UTC) + data.getNano() / 1e9;
+    }
+
+    private static final class Chave {
+
+        static final Comparator<Chave> ORDEM = (a, b) -> {
+            int porPontuacao = Double.compare(b.pontuacao, a.pontuacao);
+            return porPontuacao != 0 ? porPontuacao : Long.compare(a.sequencia, b.sequencia);
+        };
+
+        private final double pontuacao;
+        private final long sequencia;
+
+        private Chave(double pontuacao, long sequencia) {
+            this.pontuacao = pontuacao;
+            this.sequencia = sequencia;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.apipedidos.service.fila;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Busca descrições de pedidos pelo ID, usado quando a fila não guarda descrições
+ */
+@FunctionalInterface
+public interface CarregadorDescricoes {
+
+    /**
+     * @param ids IDs dos pedidos
+     * @return Descrições indexadas pelo ID; pedidos inexistentes podem ser omitidos
+     */
+    Map<Long, String> carregar(Collection<Long> ids);
+}
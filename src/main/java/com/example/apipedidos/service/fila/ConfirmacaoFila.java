@@ -0,0 +1,166 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumo da fila com prazo de visibilidade e confirmação (app.fila.confirmacao.*)
+ *
+ * Um pedido retirado da fila fica "em processamento" por {@code visibilidadeMs}. A
+ * confirmação ({@code POST /fila/{id}/ack}) o descarta; se o prazo vencer antes, a
+ * {@link RodaTemporizadora} o devolve à fila para nova entrega. Após {@code maxEntregas}
+ * entregas sem confirmação o pedido vai para a lista de mortos (dead-letter), limitada
+ * aos mais recentes. Confirmação e expiração disputam a mesma entrega com um
+ * {@code remove(id, entrega)} atômico no mapa, sem lock sobre a fila.
+ */
+public class ConfirmacaoFila {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfirmacaoFila.class);
+
+    private final FilaPedidos filaPedidos;
+    private final long visibilidadeMs;
+    private final int maxEntregas;
+    private final int capacidadeMortos;
+    private final RodaTemporizadora<Entrega> roda;
+
+    private final ConcurrentHashMap<Long, Entrega> emProcessamento = new ConcurrentHashMap<>();
+    // Entregas já feitas dos pedidos devolvidos à fila
+    private final ConcurrentHashMap<Long, Integer> entregasAnteriores = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<PedidoResponseDTO> mortos = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger quantidadeMortos = new AtomicInteger();
+
+    private final LongAdder totalConfirmados = new LongAdder();
+    private final LongAdder totalReentregues = new LongAdder();
+    private final LongAdder totalMortos = new LongAdder();
+
+    public ConfirmacaoFila(FilaPedidos filaPedidos, long visibilidadeMs, int maxEntregas, int capacidadeMortos,
+                           long tickMs, int slots) {
+        if (visibilidadeMs < 1 || maxEntregas < 1 || capacidadeMortos < 0) {
+            throw new IllegalArgumentException("Parâmetros de confirmação da fila inválidos");
+        }
+        this.filaPedidos = filaPedidos;
+        this.visibilidadeMs = visibilidadeMs;
+        this.maxEntregas = maxEntregas;
+        this.capacidadeMortos = capacidadeMortos;
+        this.roda = new RodaTemporizadora<>(tickMs, slots, this::expirar);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        roda.iniciar("fila-visibilidade");
+    }
+
+    @PreDestroy
+    public void parar() {
+        roda.parar();
+    }
+
+    /**
+     * Registra a entrega de um pedido retirado da fila e inicia o prazo de visibilidade
+     * @return Número desta entrega do pedido (1 na primeira)
+     */
+    public int entregar(PedidoResponseDTO pedido) {
+        if (pedido.getId() == null) {
+            return 1;
+        }
+        Integer anteriores = entregasAnteriores.remove(pedido.getId());
+        Entrega entrega = new Entrega(pedido, anteriores != null ? anteriores + 1 : 1);
+        emProcessamento.put(pedido.getId(), entrega);
+        roda.agendar(entrega, visibilidadeMs);
+        return entrega.numero;
+    }
+
+    /**
+     * Confirma o processamento do pedido, descartando-o definitivamente
+     * @return false se não houver entrega pendente para o ID (já confirmada ou expirada)
+     */
+    public boolean confirmar(Long id) {
+        if (emProcessamento.remove(id) == null) {
+            return false;
+        }
+        totalConfirmados.increment();
+        return true;
+    }
+
+    public int getEmProcessamento() {
+        return emProcessamento.size();
+    }
+
+    /**
+     * @return Pedidos descartados após esgotar as entregas, do mais recente ao mais antigo
+     */
+    public List<PedidoResponseDTO> listarMortos() {
+        return new ArrayList<>(mortos);
+    }
+
+    public int getQuantidadeMortos() {
+        return Math.max(quantidadeMortos.get(), 0);
+    }
+
+    public long getTotalConfirmados() {
+        return totalConfirmados.sum();
+    }
+
+    public long getTotalReentregues() {
+        return totalReentregues.sum();
+    }
+
+    public long getTotalMortos() {
+        return totalMortos.sum();
+    }
+
+    /**
+     * Processa os prazos vencidos imediatamente, sem esperar o thread da roda
+     */
+    void expirarVencidos() {
+        roda.avancar();
+    }
+
+    private void expirar(Entrega entrega) {
+        Long id = entrega.pedido.getId();
+        // Perde para uma confirmação concorrente ou para uma entrega mais nova do mesmo ID
+        if (!emProcessamento.remove(id, entrega)) {
+            return;
+        }
+        if (entrega.numero >= maxEntregas) {
+            log.warn("Pedido ID {} não confirmado após {} entregas; movido para a lista de mortos", id, entrega.numero);
+            totalMortos.increment();
+            adicionarMorto(entrega.pedido);
+            return;
+        }
+        log.info("Prazo de visibilidade do pedido ID {} expirou (entrega {}); devolvendo à fila", id, entrega.numero);
+        entregasAnteriores.put(id, entrega.numero);
+        totalReentregues.increment();
+        filaPedidos.devolver(entrega.pedido);
+    }
+
+    private void adicionarMorto(PedidoResponseDTO pedido) {
+        if (capacidadeMortos == 0) {
+            return;
+        }
+        mortos.addFirst(pedido);
+        if (quantidadeMortos.incrementAndGet() > capacidadeMortos && mortos.pollLast() != null) {
+            quantidadeMortos.decrementAndGet();
+        }
+    }
+
+    private static final class Entrega {
+        private final PedidoResponseDTO pedido;
+        private final int numero;
+
+        private Entrega(PedidoResponseDTO pedido, int numero) {
+            this.pedido = pedido;
+            this.numero = numero;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Consumidores internos da fila de pedidos (app.fila.consumidores.*)
+ *
+ * Um conjunto fixo de workers retira pedidos da fila em lotes e chama, em sequência, os
+ * {@link ProcessadorPedido} que aceitam cada pedido, sem passar por HTTP. Cada processador
+ * tem um limite próprio de execuções simultâneas. Processadores que falham são chamados de
+ * novo após um backoff exponencial, agendado na {@link RodaTemporizadora} para não ocupar
+ * o worker durante a espera. Workers sem trabalho ficam estacionados e são acordados a cada
+ * enfileiramento.
+ *
+ * Com a confirmação habilitada ({@link ConfirmacaoFila}), cada pedido retirado é registrado
+ * como entrega e confirmado quando todos os processadores concluem; após esgotar as
+ * tentativas, o pedido fica sem confirmação e volta à fila ao fim do prazo de visibilidade.
+ * Sem confirmação, o pedido que esgota as tentativas é apenas registrado em log.
+ */
+public class ConsumidorFila {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumidorFila.class);
+
+    private static final long TICK_RETENTATIVAS_MS = 10;
+    private static final int SLOTS_RETENTATIVAS = 512;
+
+    private final FilaPedidos filaPedidos;
+    private final ConfirmacaoFila confirmacaoFila;
+    private final List<EstatisticasProcessador> processadores;
+    private final ConsumidorFilaConfig config;
+    private final ThreadFactory threadFactory;
+    private final RodaTemporizadora<Tarefa> retentativas;
+
+    // Retentativas cujo backoff já venceu; têm precedência sobre pedidos novos da fila
+    private final ConcurrentLinkedQueue<Tarefa> prontas = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Thread> ociosos = new ConcurrentLinkedQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean ativo;
+
+    private final AtomicInteger emProcessamento = new AtomicInteger();
+    private final AtomicInteger aguardandoRetentativa = new AtomicInteger();
+    private final LongAdder totalProcessados = new LongAdder();
+    private final LongAdder totalRetentativas = new LongAdder();
+    private final LongAdder totalEsgotados = new LongAdder();
+
+    public ConsumidorFila(FilaPedidos filaPedidos, ConfirmacaoFila confirmacaoFila,
+                          List<ProcessadorPedido> processadores, ConsumidorFilaConfig config) {
+        this(filaPedidos, confirmacaoFila, processadores, config, threadsPlataforma());
+    }
+
+    public ConsumidorFila(FilaPedidos filaPedidos, ConfirmacaoFila confirmacaoFila,
+                          List<ProcessadorPedido> processadores, ConsumidorFilaConfig config,
+                          ThreadFactory threadFactory) {
+        if (config.getWorkers() < 1 || config.getLote() < 1 || config.getOciosoMs() < 1
+                || config.getConcorrenciaPorProcessador() < 0 || config.getMaxTentativas() < 1
+                || config.getBackoffInicialMs() < 0 || config.getBackoffMultiplicador() < 1.0
+                || config.getBackoffMaxMs() < config.getBackoffInicialMs()) {
+            throw new IllegalArgumentException("Parâmetros dos consumidores da fila inválidos");
+        }
+        this.filaPedidos = filaPedidos;
+        this.confirmacaoFila = confirmacaoFila;
+        this.config = config;
+        this.threadFactory = threadFactory;
+        List<EstatisticasProcessador> lista = new ArrayList<>(processadores.size());
+        for (ProcessadorPedido processador : processadores) {
+            int limite = processador.getConcorrenciaMaxima() > 0
+                    ? processador.getConcorrenciaMaxima() : config.getConcorrenciaPorProcessador();
+            lista.add(new EstatisticasProcessador(processador, limite));
+        }
+        this.processadores = Collections.unmodifiableList(lista);
+        this.retentativas = new RodaTemporizadora<>(TICK_RETENTATIVAS_MS, SLOTS_RETENTATIVAS, this::retentativaVencida);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        if (processadores.isEmpty()) {
+            log.warn("Nenhum ProcessadorPedido registrado; consumidores da fila não iniciados");
+            return;
+        }
+        ativo = true;
+        retentativas.iniciar("fila-retentativas");
+        filaPedidos.setAvisoEnfileiramento(this::acordarUm);
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Thread worker = threadFactory.newThread(this::executar);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("{} consumidores da fila iniciados (lote {}) com os processadores {}",
+                config.getWorkers(), config.getLote(), nomes(processadores));
+    }
+
+    /**
+     * Para os workers após o lote corrente; retentativas ainda agendadas são descartadas
+     */
+    @PreDestroy
+    public void parar() {
+        if (!ativo) {
+            return;
+        }
+        ativo = false;
+        filaPedidos.setAvisoEnfileiramento(null);
+        workers.forEach(LockSupport::unpark);
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getDesligamentoMs());
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(prazo - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (worker.isAlive()) {
+                worker.interrupt();
+            }
+        }
+        workers.clear();
+        retentativas.parar();
+        int descartados = aguardandoRetentativa.get() + prontas.size();
+        if (descartados > 0) {
+            log.warn("{} pedidos aguardando nova tentativa descartados no desligamento dos consumidores", descartados);
+        }
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    public int getWorkers() {
+        return workers.size();
+    }
+
+    /**
+     * @return Pedidos retirados da fila e ainda nos processadores
+     */
+    public int getEmProcessamento() {
+        return emProcessamento.get();
+    }
+
+    public int getAguardandoRetentativa() {
+        return aguardandoRetentativa.get();
+    }
+
+    /**
+     * @return Pedidos concluídos por todos os processadores que os aceitaram
+     */
+    public long getTotalProcessados() {
+        return totalProcessados.sum();
+    }
+
+    public long getTotalRetentativas() {
+        return totalRetentativas.sum();
+    }
+
+    /**
+     * @return Pedidos que falharam em todas as tentativas
+     */
+    public long getTotalEsgotados() {
+        return totalEsgotados.sum();
+    }
+
+    public List<EstatisticasProcessador> getProcessadores() {
+        return processadores;
+    }
+
+    private void executar() {
+        List<Tarefa> lote = new ArrayList<>(config.getLote());
+        while (ativo && !Thread.currentThread().isInterrupted()) {
+            try {
+                retirarLote(lote);
+            } catch (Throwable e) {
+                // Ex.: banco indisponível ao recarregar descrições; a entrada continua na fila
+                log.error("Erro ao retirar pedidos da fila; nova tentativa em {} ms", config.getOciosoMs(), e);
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(config.getOciosoMs()));
+            }
+            if (lote.isEmpty()) {
+                aguardar();
+                continue;
+            }
+            if (lote.size() == config.getLote()) {
+                // Provavelmente há mais trabalho: divide com outro worker ocioso
+                acordarUm();
+            }
+            for (Tarefa tarefa : lote) {
+                try {
+                    processar(tarefa);
+                } catch (Throwable e) {
+                    log.error("Erro inesperado ao processar o pedido ID {}{}", tarefa.pedido.getId(),
+                            confirmacaoFila != null ? "; será reentregue ao fim do prazo de visibilidade" : "", e);
+                }
+            }
+            lote.clear();
+        }
+    }
+
+    private void retirarLote(List<Tarefa> lote) {
+        Tarefa pronta;
+        while (lote.size() < config.getLote() && (pronta = prontas.poll()) != null) {
+            lote.add(pronta);
+        }
+        while (lote.size() < config.getLote()) {
+            PedidoResponseDTO pedido = filaPedidos.desenfileirar();
+            if (pedido == null) {
+                return;
+            }
+            if (confirmacaoFila != null) {
+                confirmacaoFila.entregar(pedido);
+            }
+            lote.add(new Tarefa(pedido, aceitantes(pedido), 1));
+        }
+    }
+
+    private List<EstatisticasProcessador> aceitantes(PedidoResponseDTO pedido) {
+        List<EstatisticasProcessador> aceitantes = new ArrayList<>(processadores.size());
+        for (EstatisticasProcessador processador : processadores) {
+            if (processador.processador.aceita(pedido)) {
+                aceitantes.add(processador);
+            }
+        }
+        return aceitantes;
+    }
+
+    private void processar(Tarefa tarefa) {
+        emProcessamento.incrementAndGet();
+        try {
+            List<EstatisticasProcessador> falhas = new ArrayList<>(0);
+            for (EstatisticasProcessador processador : tarefa.pendentes) {
+                if (!processador.executar(tarefa.pedido)) {
+                    falhas.add(processador);
+                }
+            }
+            if (falhas.isEmpty()) {
+                concluir(tarefa);
+            } else {
+                falhar(tarefa, falhas);
+            }
+        } finally {
+            emProcessamento.decrementAndGet();
+        }
+    }
+
+    private void concluir(Tarefa tarefa) {
+        totalProcessados.increment();
+        Long id = tarefa.pedido.getId();
+        if (confirmacaoFila != null && id != null && !confirmacaoFila.confirmar(id)) {
+            log.warn("Pedido ID {} concluído após o prazo de visibilidade; pode ser processado de novo", id);
+        }
+    }
+
+    private void falhar(Tarefa tarefa, List<EstatisticasProcessador> falhas) {
+        if (tarefa.tentativa >= config.getMaxTentativas()) {
+            totalEsgotados.increment();
+            log.error("Pedido ID {} falhou após {} tentativas nos processadores {}{}", tarefa.pedido.getId(),
+                    tarefa.tentativa, nomes(falhas),
+                    confirmacaoFila != null ? "; será reentregue ao fim do prazo de visibilidade" : "");
+            return;
+        }
+        long esperaMs = backoffMs(tarefa.tentativa);
+        log.debug("Pedido ID {} terá nova tentativa em {} ms nos processadores {}", tarefa.pedido.getId(),
+                esperaMs, nomes(falhas));
+        totalRetentativas.increment();
+        aguardandoRetentativa.incrementAndGet();
+        retentativas.agendar(new Tarefa(tarefa.pedido, falhas, tarefa.tentativa + 1), esperaMs);
+    }
+
+    /**
+     * Espera antes da tentativa seguinte à {@code tentativa}: inicial × multiplicador^(tentativa-1), limitada
+     */
+    long backoffMs(int tentativa) {
+        double espera = config.getBackoffInicialMs() * Math.pow(config.getBackoffMultiplicador(), tentativa - 1);
+        return (long) Math.min(espera, config.getBackoffMaxMs());
+    }
+
+    private void retentativaVencida(Tarefa tarefa) {
+        aguardandoRetentativa.decrementAndGet();
+        prontas.add(tarefa);
+        acordarUm();
+    }
+
+    private void acordarUm() {
+        Thread ocioso = ociosos.poll();
+        if (ocioso != null) {
+            LockSupport.unpark(ocioso);
+        }
+    }
+
+    private void aguardar() {
+        Thread atual = Thread.currentThread();
+        ociosos.add(atual);
+        // Verifica de novo após se registrar: um enfileiramento anterior não teria quem acordar
+        if (ativo && prontas.isEmpty() && filaPedidos.isVazia()) {
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(config.getOciosoMs()));
+        }
+        ociosos.remove(atual);
+    }
+
+    private static String nomes(List<EstatisticasProcessador> processadores) {
+        return processadores.stream().map(EstatisticasProcessador::getNome).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static ThreadFactory threadsPlataforma() {
+        AtomicInteger sequencia = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "fila-consumidor-" + sequencia.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Processador registrado com seu limite de concorrência e contadores de execução
+     */
+    public static final class EstatisticasProcessador {
+
+        private final ProcessadorPedido processador;
+        private final int concorrenciaMaxima;
+        private final Semaphore limite;
+
+        private final AtomicInteger emExecucao = new AtomicInteger();
+        private final LongAdder execucoes = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+        private final LongAdder tempoTotalNanos = new LongAdder();
+
+        private EstatisticasProcessador(ProcessadorPedido processador, int concorrenciaMaxima) {
+            this.processador = processador;
+            this.concorrenciaMaxima = concorrenciaMaxima;
+            this.limite = concorrenciaMaxima > 0 ? new Semaphore(concorrenciaMaxima) : null;
+        }
+
+        /**
+         * @return false se o processador lançou exceção
+         */
+        private boolean executar(PedidoResponseDTO pedido) {
+            if (limite != null) {
+                limite.acquireUninterruptibly();
+            }
+            emExecucao.incrementAndGet();
+            long inicio = System.nanoTime();
+            try {
+                processador.processar(pedido);
+                return true;
+            } catch (Exception | Error e) {
+                // Error do processador também conta como falha dele, sem derrubar o worker
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                falhas.increment();
+                log.warn("Processador {} falhou no pedido ID {}: {}", getNome(), pedido.getId(), e.toString());
+                return false;
+            } finally {
+                tempoTotalNanos.add(System.nanoTime() - inicio);
+                execucoes.increment();
+                emExecucao.decrementAndGet();
+                if (limite != null) {
+                    limite.release();
+                }
+            }
+        }
+
+        public String getNome() {
+            return processador.getNome();
+        }
+
+        /**
+         * @return Limite de execuções simultâneas; 0 = sem limite
+         */
+        public int getConcorrenciaMaxima() {
+            return concorrenciaMaxima;
+        }
+
+        public int getEmExecucao() {
+            return emExecucao.get();
+        }
+
+        public long getExecucoes() {
+            return execucoes.sum();
+        }
+
+        public long getFalhas() {
+            return falhas.sum();
+        }
+
+        public long getTempoTotalNanos() {
+            return tempoTotalNanos.sum();
+        }
+    }
+
+    private static final class Tarefa {
+        private final PedidoResponseDTO pedido;
+        // Processadores ainda não concluídos para o pedido
+        private final List<EstatisticasProcessador> pendentes;
+        private final int tentativa;
+
+        private Tarefa(PedidoResponseDTO pedido, List<EstatisticasProcessador> pendentes, int tentativa) {
+            this.pedido = pedido;
+            this.pendentes = pendentes;
+            this.tentativa = tentativa;
+        }
+    }
+}
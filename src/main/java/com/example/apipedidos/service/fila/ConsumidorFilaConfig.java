@@ -0,0 +1,37 @@
+package com.example.apipedidos.service.fila;
+
+import lombok.Data;
+
+/**
+ * Parâmetros dos consumidores internos da fila (propriedades {@code app.fila.consumidores.*})
+ */
+@Data
+public class ConsumidorFilaConfig {
+
+    /** Threads que retiram pedidos da fila */
+    private int workers = 4;
+
+    /** Máximo de pedidos retirados da fila de uma vez por worker */
+    private int lote = 32;
+
+    /** Espera máxima de um worker ocioso antes de verificar a fila de novo */
+    private long ociosoMs = 200;
+
+    /** Execuções simultâneas por processador quando ele não define a sua; 0 = sem limite */
+    private int concorrenciaPorProcessador = 0;
+
+    /** Tentativas por pedido, incluindo a primeira */
+    private int maxTentativas = 3;
+
+    /** Espera antes da primeira retentativa */
+    private long backoffInicialMs = 100;
+
+    /** Fator aplicado à espera a cada nova tentativa */
+    private double backoffMultiplicador = 2.0;
+
+    /** Espera máxima entre tentativas */
+    private long backoffMaxMs = 10_000;
+
+    /** Espera pelo término dos workers ao desligar */
+    private long desligamentoMs = 5_000;
+}
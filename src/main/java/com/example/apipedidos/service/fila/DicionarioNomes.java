@@ -0,0 +1,73 @@
+package com.example.apipedidos.service.fila;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário de nomes de cliente: entradas da fila do mesmo cliente compartilham
+ * uma única instância de String, identificada por um código inteiro
+ *
+ * O código permite gravar o nome em 4 bytes no armazenamento off-heap. Limitado em
+ * {@code capacidade} nomes distintos; acima disso os nomes novos são guardados como
+ * recebidos. Nomes não são removidos (o universo de clientes é pequeno perto do
+ * volume de pedidos).
+ */
+final class DicionarioNomes {
+
+    static final int SEM_CODIGO = -1;
+
+    private final ConcurrentHashMap<String, Integer> codigos = new ConcurrentHashMap<>();
+    private final int capacidade;
+    private volatile String[] nomes = new String[64];
+    private int proximo;
+
+    DicionarioNomes(int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    String canonico(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        int codigo = codigo(nome);
+        return codigo != SEM_CODIGO ? nomes[codigo] : nome;
+    }
+
+    /**
+     * @return Código do nome, registrando-o se houver espaço, ou {@link #SEM_CODIGO}
+     */
+    int codigo(String nome) {
+        Integer codigo = codigos.get(nome);
+        if (codigo != null) {
+            return codigo;
+        }
+        if (codigos.size() >= capacidade) {
+            return SEM_CODIGO;
+        }
+        synchronized (this) {
+            codigo = codigos.get(nome);
+            if (codigo != null) {
+                return codigo;
+            }
+            if (proximo >= capacidade) {
+                return SEM_CODIGO;
+            }
+            String[] atuais = nomes;
+            if (proximo == atuais.length) {
+                atuais = Arrays.copyOf(atuais, Math.min(capacidade, atuais.length * 2));
+            }
+            atuais[proximo] = nome;
+            nomes = atuais;
+            codigos.put(nome, proximo);
+            return proximo++;
+        }
+    }
+
+    String nome(int codigo) {
+        return nomes[codigo];
+    }
+
+    int tamanho() {
+        return codigos.size();
+    }
+}
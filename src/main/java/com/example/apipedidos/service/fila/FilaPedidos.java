@@ -0,0 +1,458 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.exception.FilaCheiaException;
+import com.example.apipedidos.jfr.FilaOperacaoEvent;
+import com.example.apipedidos.jfr.Jfr;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fila de pedidos criados aguardando processamento
+ *
+ * Por padrão é uma pilha (LIFO). Com {@code app.fila.modo} = valor, data ou ponderado,
+ * a saída segue a prioridade do pedido, com envelhecimento pelo tempo de espera
+ * ({@link ArmazenamentoPrioridade}). Com {@code app.fila.particoes.quantidade} > 0, cada
+ * cliente cai em uma pilha própria e a saída alterna entre elas ({@link ArmazenamentoParticionado}).
+ * Desenfileirar/espiar sempre devolvem a próxima entrada.
+ *
+ * Os pedidos são guardados em forma compacta ({@link PedidoCompacto}): primitivos,
+ * nome do cliente compartilhado via {@link DicionarioNomes} e descrição em UTF-8 ou,
+ * com {@code app.fila.descricao-sob-demanda=true}, recarregada pelo ID ao sair da fila.
+ * O DTO só é reconstruído ao desenfileirar/espiar/listar. As entradas ficam no heap
+ * ou, com {@code app.fila.armazenamento=off-heap}, em memória direta com spill em disco
+ * ({@link ArmazenamentoOffHeap}).
+ *
+ * Com {@code app.fila.limite.capacidade} > 0 a fila é limitada: ao atingir a capacidade,
+ * enfileirar falha com {@link FilaCheiaException} (política rejeitar), espera por espaço
+ * até {@code bloqueio-ms} (bloquear) ou aceita o excedente em disco (spill, apenas off-heap).
+ *
+ * Além das operações da pilha, mantém contadores baratos (LongAdder) de
+ * enfileiramentos, desenfileiramentos e tempo de espera, expostos como métricas.
+ */
+public class FilaPedidos {
+
+    private static final Logger log = LoggerFactory.getLogger(FilaPedidos.class);
+
+    private final ArmazenamentoFila armazenamento;
+    private final DicionarioNomes nomes;
+    private final boolean descricaoSobDemanda;
+    private volatile CarregadorDescricoes carregadorDescricoes;
+    private volatile Runnable avisoEnfileiramento;
+
+    private final int capacidade;
+    private final FilaPedidosConfig.PoliticaOverflow politicaOverflow;
+    private final long bloqueioNanos;
+    private final long retryAfterSegundos;
+    // Pedidos admitidos ainda na fila; controla a capacidade independentemente do armazenamento
+    private final AtomicInteger ocupacao = new AtomicInteger();
+    // Lock explícito em vez de monitor: a espera não fixa threads virtuais na portadora
+    private final ReentrantLock travaEspaco = new ReentrantLock();
+    private final Condition espacoLiberado = travaEspaco.newCondition();
+    private final AtomicInteger produtoresAguardando = new AtomicInteger();
+    private final LongAdder totalRejeitados = new LongAdder();
+
+    private final LongAdder totalEnfileirados = new LongAdder();
+    private final LongAdder totalDesenfileirados = new LongAdder();
+    private final LongAdder tempoEsperaTotalNanos = new LongAdder();
+
+    public FilaPedidos() {
+        this(new FilaPedidosConfig());
+    }
+
+    public FilaPedidos(FilaPedidosConfig config) {
+        this.nomes = new DicionarioNomes(config.getCapacidadeNomes());
+        this.descricaoSobDemanda = config.isDescricaoSobDemanda();
+        this.capacidade = config.getCapacidade();
+        this.politicaOverflow = config.getPoliticaOverflow();
+        this.bloqueioNanos = TimeUnit.MILLISECONDS.toNanos(config.getBloqueioMs());
+        this.retryAfterSegundos = config.getRetryAfterSegundos();
+        if (capacidade > 0 && politicaOverflow == FilaPedidosConfig.PoliticaOverflow.SPILL
+                && (config.getArmazenamento() != FilaPedidosConfig.TipoArmazenamento.OFF_HEAP
+                || !config.isSpillHabilitado())) {
+            throw new IllegalArgumentException(
+                    "Política de overflow spill requer armazenamento off-heap com spill habilitado");
+        }
+        this.armazenamento = criarArmazenamento(config);
+    }
+
+    private ArmazenamentoFila criarArmazenamento(FilaPedidosConfig config) {
+        boolean offHeap = config.getArmazenamento() == FilaPedidosConfig.TipoArmazenamento.OFF_HEAP;
+        if (config.getParticoes() > 0) {
+            if (offHeap || config.getModo() != FilaPedidosConfig.ModoFila.LIFO) {
+                throw new IllegalArgumentException(
+                        "Fila particionada requer modo lifo e armazenamento heap");
+            }
+            return new ArmazenamentoParticionado(config);
+        }
+        if (config.getModo() != FilaPedidosConfig.ModoFila.LIFO) {
+            if (offHeap) {
+                throw new IllegalArgumentException("Modo de fila " + config.getModo()
+                        + " requer armazenamento heap; o armazenamento off-heap é uma pilha LIFO");
+            }
+            return new ArmazenamentoPrioridade(config);
+        }
+        return offHeap ? new ArmazenamentoOffHeap(nomes, config) : new ArmazenamentoHeap();
+    }
+
+    /**
+     * Define como recarregar descrições; sem carregador, as descrições ficam na fila
+     */
+    public void setCarregadorDescricoes(CarregadorDescricoes carregadorDescricoes) {
+        this.carregadorDescricoes = carregadorDescricoes;
+    }
+
+    /**
+     * Define a ação executada após cada inclusão na fila (ex.: acordar consumidores ociosos); null remove
+     */
+    public void setAvisoEnfileiramento(Runnable avisoEnfileiramento) {
+        this.avisoEnfileiramento = avisoEnfileiramento;
+    }
+
+    /**
+     * Adiciona um pedido à fila, respeitando a capacidade e a política de overflow
+     * @param pedido DTO do pedido a ser adicionado
+     * @return Tamanho da fila após a inclusão
+     * @throws FilaCheiaException se a fila estiver cheia (após a espera, na política bloquear)
+     */
+    public int enfileirar(PedidoResponseDTO pedido) {
+        admitir();
+        return incluir(pedido);
+    }
+
+    /**
+     * Reserva antecipadamente uma vaga, conforme a capacidade e a política de overflow
+     *
+     * Permite ao produtor recusar ou esperar antes de gravar o pedido no banco. A vaga
+     * deve ser usada com {@link #enfileirarNaVaga} ou devolvida com {@link #cancelarVaga}.
+     * @throws FilaCheiaException se a fila estiver cheia (após a espera, na política bloquear)
+     */
+    public void reservarVaga() {
+        admitir();
+    }
+
+    /**
+     * Adiciona um pedido ocupando a vaga reservada com {@link #reservarVaga}
+     * @return Tamanho da fila após a inclusão
+     */
+    public int enfileirarNaVaga(PedidoResponseDTO pedido) {
+        return incluir(pedido);
+    }
+
+    /**
+     * Devolve uma vaga reservada que não será usada (ex.: falha ao gravar o pedido)
+     */
+    public void cancelarVaga() {
+        liberar();
+    }
+
+    /**
+     * Devolve à fila um pedido já admitido antes (ex.: entrega não confirmada), mesmo acima da capacidade
+     */
+    int devolver(PedidoResponseDTO pedido) {
+        ocupacao.incrementAndGet();
+        return incluir(pedido);
+    }
+
+    private int incluir(PedidoResponseDTO pedido) {
+        FilaOperacaoEvent event = iniciarEvento();
+        PedidoCompacto entrada = PedidoCompacto.de(pedido, nomes,
+                !descricaoSobDemanda || carregadorDescricoes == null, System.nanoTime());
+        int tamanho;
+        try {
+            tamanho = armazenamento.empilhar(entrada);
+        } catch (RuntimeException e) {
+            liberar();
+            throw e;
+        }
+        totalEnfileirados.increment();
+        commit(event, FilaOperacaoEvent.PUSH, pedido.getId(), tamanho);
+        Runnable aviso = avisoEnfileiramento;
+        if (aviso != null) {
+            aviso.run();
+        }
+        return tamanho;
+    }
+
+    /**
+     * Remove e retorna o próximo pedido da fila (topo da pilha ou maior prioridade)
+     *
+     * Com descrição sob demanda, a descrição é carregada antes de a retirada valer: se a
+     * carga falhar, a entrada volta para a fila e a exceção é propagada. Pedidos que não
+     * existem mais no banco são descartados com aviso e a retirada segue para o próximo.
+     * @return DTO do pedido removido, ou null se a fila estiver vazia
+     */
+    public PedidoResponseDTO desenfileirar() {
+        while (true) {
+            FilaOperacaoEvent event = iniciarEvento();
+            PedidoCompacto entrada = armazenamento.desempilhar();
+            if (entrada == null) {
+                return null;
+            }
+            Map<Long, String> descricoes;
+            try {
+                descricoes = carregarDescricoes(Collections.singletonList(entrada));
+            } catch (RuntimeException | Error e) {
+                // A vaga continua ocupada: a entrada volta sem passar pela admissão
+                armazenamento.empilhar(entrada);
+                throw e;
+            }
+            liberar();
+            int tamanho = armazenamento.tamanho();
+            totalDesenfileirados.increment();
+            tempoEsperaTotalNanos.add(System.nanoTime() - entrada.enfileiradoEmNanos);
+            commit(event, FilaOperacaoEvent.POP, entrada.getId(), tamanho);
+            if (entrada.isDescricaoSobDemanda() && !descricoes.containsKey(entrada.id)) {
+                log.warn("Pedido ID {} não existe mais no banco; descartado da fila", entrada.id);
+                continue;
+            }
+            return entrada.paraDto(descricoes.get(entrada.id));
+        }
+    }
+
+    /**
+     * Retorna o próximo pedido da fila sem removê-lo
+     * @return DTO do próximo pedido, ou null se a fila estiver vazia
+     */
+    public PedidoResponseDTO espiar() {
+        PedidoCompacto entrada = armazenamento.topo();
+        return entrada != null ? reidratar(entrada) : null;
+    }
+
+    public int tamanho() {
+        return armazenamento.tamanho();
+    }
+
+    public boolean isVazia() {
+        return armazenamento.tamanho() == 0;
+    }
+
+    /**
+     * Copia os pedidos da fila da base para o topo (o último da lista é o próximo a sair)
+     * @return Lista com os pedidos da fila
+     */
+    public List<PedidoResponseDTO> listar() {
+        return reidratar(armazenamento.listar());
+    }
+
+    /**
+     * Página dos pedidos da fila, na mesma ordem de {@link #listar()}
+     *
+     * Visão fracamente consistente: só reconstrói os DTOs da página e não bloqueia
+     * enfileirar/desenfileirar (no modo off-heap, apenas enquanto decodifica os registros
+     * da página que estão em memória). Nas pilhas LIFO a base é estável e novos pedidos não
+     * deslocam as páginas já lidas; nos modos de prioridade e particionado a posição de um
+     * pedido depende dos demais, e um pedido novo desloca as páginas a partir da posição dele.
+     * @param offset Pedidos a pular a partir da base (mais antigo)
+     * @param limite Máximo de pedidos na página
+     */
+    public List<PedidoResponseDTO> pagina(int offset, int limite) {
+        if (offset < 0 || limite < 1) {
+            throw new IllegalArgumentException("Offset deve ser >= 0 e limite >= 1");
+        }
+        return reidratar(armazenamento.pagina(offset, limite));
+    }
+
+    /**
+     * Tempo desde o enfileiramento do pedido mais antigo ainda na fila
+     * @return Idade em nanossegundos, ou 0 se a fila estiver vazia
+     */
+    public long idadeMaisAntigoNanos() {
+        Long enfileiradoEmNanos = armazenamento.enfileiradoMaisAntigoNanos();
+        return enfileiradoEmNanos == null ? 0L : System.nanoTime() - enfileiradoEmNanos;
+    }
+
+    public long getTotalEnfileirados() {
+        return totalEnfileirados.sum();
+    }
+
+    public long getTotalDesenfileirados() {
+        return totalDesenfileirados.sum();
+    }
+
+    public long getTempoEsperaTotalNanos() {
+        return tempoEsperaTotalNanos.sum();
+    }
+
+    /**
+     * Uso de memória do armazenamento (memória direta e spill em disco no modo off-heap)
+     */
+    public FilaArmazenamentoDTO getArmazenamento() {
+        return armazenamento.estatisticas();
+    }
+
+    @PreDestroy
+    public void fechar() {
+        try {
+            armazenamento.close();
+        } catch (IOException e) {
+            log.warn("Erro ao liberar o armazenamento da fila de pedidos", e);
+        }
+    }
+
+    /**
+     * @return Capacidade configurada, ou 0 se a fila for ilimitada
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Ocupação da fila em relação à capacidade (pode passar de 1 com spill ou devoluções)
+     * @return Fração entre pedidos na fila e capacidade, ou 0 se a fila for ilimitada
+     */
+    public double getUtilizacao() {
+        return capacidade > 0 ? (double) Math.max(ocupacao.get(), 0) / capacidade : 0.0;
+    }
+
+    public long getTotalRejeitados() {
+        return totalRejeitados.sum();
+    }
+
+    /**
+     * Quantidade de nomes de cliente distintos no dicionário da fila
+     */
+    public int getNomesDistintos() {
+        return nomes.tamanho();
+    }
+
+    /**
+     * Reserva uma vaga na fila conforme a política de overflow
+     */
+    private void admitir() {
+        if (capacidade <= 0 || politicaOverflow == FilaPedidosConfig.PoliticaOverflow.SPILL) {
+            ocupacao.incrementAndGet();
+            return;
+        }
+        if (reservar()) {
+            return;
+        }
+        if (politicaOverflow == FilaPedidosConfig.PoliticaOverflow.BLOQUEAR && aguardarVaga()) {
+            return;
+        }
+        totalRejeitados.increment();
+        throw new FilaCheiaException(capacidade, retryAfterSegundos);
+    }
+
+    private boolean reservar() {
+        int atual;
+        do {
+            atual = ocupacao.get();
+            if (atual >= capacidade) {
+                return false;
+            }
+        } while (!ocupacao.compareAndSet(atual, atual + 1));
+        return true;
+    }
+
+    private boolean aguardarVaga() {
+        long prazo = System.nanoTime() + bloqueioNanos;
+        produtoresAguardando.incrementAndGet();
+        try {
+            travaEspaco.lock();
+            try {
+                while (!reservar()) {
+                    long restante = prazo - System.nanoTime();
+                    if (restante <= 0) {
+                        return false;
+                    }
+                    espacoLiberado.awaitNanos(restante);
+                }
+                return true;
+            } finally {
+                travaEspaco.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            produtoresAguardando.decrementAndGet();
+        }
+    }
+
+    /**
+     * Libera uma vaga; só toca no lock quando há produtores esperando
+     */
+    private void liberar() {
+        ocupacao.decrementAndGet();
+        if (produtoresAguardando.get() > 0) {
+            travaEspaco.lock();
+            try {
+                espacoLiberado.signal();
+            } finally {
+                travaEspaco.unlock();
+            }
+        }
+    }
+
+    private PedidoResponseDTO reidratar(PedidoCompacto entrada) {
+        return reidratar(Collections.singletonList(entrada)).get(0);
+    }
+
+    /**
+     * Reconstrói os DTOs, buscando em lote as descrições que não ficaram na fila
+     */
+    private List<PedidoResponseDTO> reidratar(List<PedidoCompacto> entradas) {
+        Map<Long, String> descricoes = carregarDescricoes(entradas);
+        List<PedidoResponseDTO> pedidos = new ArrayList<>(entradas.size());
+        for (PedidoCompacto entrada : entradas) {
+            if (entrada.isDescricaoSobDemanda() && !descricoes.containsKey(entrada.id)) {
+                log.warn("Pedido ID {} na fila não existe mais no banco; exibido sem descrição", entrada.id);
+            }
+            pedidos.add(entrada.paraDto(descricoes.get(entrada.id)));
+        }
+        return pedidos;
+    }
+
+    /**
+     * Descrições das entradas sob demanda, por ID; pedidos ausentes do banco ficam fora do mapa
+     */
+    private Map<Long, String> carregarDescricoes(List<PedidoCompacto> entradas) {
+        List<Long> ids = new ArrayList<>();
+        for (PedidoCompacto entrada : entradas) {
+            if (entrada.isDescricaoSobDemanda()) {
+                ids.add(entrada.id);
+            }
+        }
+        CarregadorDescricoes carregador = carregadorDescricoes;
+        return ids.isEmpty() || carregador == null ? Collections.emptyMap() : carregador.carregar(ids);
+    }
+
+    /**
+     * Evento JFR da operação, ou null quando o runtime não tem a API do Flight Recorder
+     */
+    private static FilaOperacaoEvent iniciarEvento() {
+        if (!Jfr.DISPONIVEL) {
+            return null;
+        }
+        FilaOperacaoEvent event = new FilaOperacaoEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commit(FilaOperacaoEvent event, String operacao, Long pedidoId, int tamanho) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operacao = operacao;
+            event.pedidoId = pedidoId != null ? pedidoId : 0L;
+            event.profundidade = tamanho;
+            event.commit();
+        }
+    }
+}
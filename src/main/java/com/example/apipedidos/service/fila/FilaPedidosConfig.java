@@ -0,0 +1,100 @@
+package com.example.apipedidos.service.fila;
+
+import lombok.Data;
+
+/**
+ * Parâmetros da fila de pedidos (propriedades {@code app.fila.*})
+ */
+@Data
+public class FilaPedidosConfig {
+
+    /** Nomes de cliente distintos compartilhados pelas entradas da fila */
+    private int capacidadeNomes = 100_000;
+
+    /** Se true, a fila não guarda descrições e as recarrega pelo ID ao sair da fila */
+    private boolean descricaoSobDemanda = false;
+
+    /** Onde as entradas ficam armazenadas */
+    private TipoArmazenamento armazenamento = TipoArmazenamento.HEAP;
+
+    /** Tamanho de cada segmento de memória direta (modo off-heap) */
+    private int segmentoKb = 1024;
+
+    /** Limite de memória direta reservada pela fila (modo off-heap) */
+    private long offHeapMaxMb = 256;
+
+    /** Se true, segmentos mais antigos vão para disco ao atingir o limite; se false, enfileirar falha */
+    private boolean spillHabilitado = true;
+
+    /** Diretório do arquivo temporário de spill */
+    private String diretorioSpill = System.getProperty("java.io.tmpdir");
+
+    /** Ordem de saída da fila */
+    private ModoFila modo = ModoFila.LIFO;
+
+    /** Pontos de prioridade por real de valor (modo ponderado) */
+    private double pesoValor = 1.0;
+
+    /** Pontos de prioridade por hora de idade do pedido, pela dataPedido (modo ponderado) */
+    private double pesoAntiguidade = 1.0;
+
+    /** Pontos de prioridade ganhos por segundo de espera na fila (modos por prioridade) */
+    private double envelhecimentoPorSegundo = 0.1;
+
+    /** Partições por cliente com rodízio justo na saída; 0 desativa */
+    private int particoes = 0;
+
+    /** Pedidos que cada partição entrega por vez no rodízio (deficit round-robin) */
+    private int quantum = 1;
+
+    /** Máximo de pedidos na fila; 0 = ilimitada */
+    private int capacidade = 0;
+
+    /** O que fazer ao enfileirar com a fila cheia */
+    private PoliticaOverflow politicaOverflow = PoliticaOverflow.REJEITAR;
+
+    /** Espera máxima por espaço na política BLOQUEAR */
+    private long bloqueioMs = 1000;
+
+    /** Sugestão de espera devolvida aos produtores rejeitados (header Retry-After) */
+    private long retryAfterSegundos = 5;
+
+    public enum PoliticaOverflow {
+        /** Falha imediatamente com {@link com.example.apipedidos.exception.FilaCheiaException} */
+        REJEITAR,
+        /** Espera até {@code bloqueioMs} por espaço e então falha */
+        BLOQUEAR,
+        /** Aceita além da capacidade; o excedente vai para disco (requer armazenamento off-heap com spill) */
+        SPILL;
+
+        public static PoliticaOverflow de(String valor) {
+            return valueOf(valor.trim().toUpperCase());
+        }
+    }
+
+    public enum ModoFila {
+        /** Pilha: o último pedido enfileirado sai primeiro */
+        LIFO,
+        /** Maior valor primeiro */
+        VALOR,
+        /** dataPedido mais antiga primeiro */
+        DATA,
+        /** Pontuação pesoValor * valor + pesoAntiguidade * idade do pedido */
+        PONDERADO;
+
+        public static ModoFila de(String valor) {
+            return valueOf(valor.trim().toUpperCase());
+        }
+    }
+
+    public enum TipoArmazenamento {
+        HEAP, OFF_HEAP;
+
+        /**
+         * Aceita "heap", "off-heap" ou "off_heap", sem diferenciar maiúsculas
+         */
+        public static TipoArmazenamento de(String valor) {
+            return valueOf(valor.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+}
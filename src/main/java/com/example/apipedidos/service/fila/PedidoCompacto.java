@@ -0,0 +1,125 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.model.Valor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Representação compacta de um pedido na fila
+ *
+ * Guarda apenas primitivos (id, centavos, data em segundos/nanos UTC), a referência
+ * canônica do nome do cliente ({@link DicionarioNomes}) e a descrição em UTF-8, ou
+ * nada quando a descrição é carregada sob demanda. O DTO é reconstruído apenas ao
+ * desenfileirar/espiar. Campos nulos são marcados em {@code nulos}.
+ */
+final class PedidoCompacto {
+
+    private static final byte SEM_ID = 1;
+    private static final byte SEM_VALOR = 1 << 1;
+    private static final byte SEM_DATA = 1 << 2;
+    private static final byte SEM_DESCRICAO = 1 << 3;
+    private static final byte DESCRICAO_SOB_DEMANDA = 1 << 4;
+
+    static final byte[] VAZIO = new byte[0];
+
+    final long id;
+    final long centavos;
+    final long dataSegundos;
+    final int dataNanos;
+    final byte nulos;
+    final String nomeCliente;
+    final byte[] descricao;
+    final long enfileiradoEmNanos;
+
+    PedidoCompacto(long id, long centavos, long dataSegundos, int dataNanos, byte nulos,
+                           String nomeCliente, byte[] descricao, long enfileiradoEmNanos) {
+        this.id = id;
+        this.centavos = centavos;
+        this.dataSegundos = dataSegundos;
+        this.dataNanos = dataNanos;
+        this.nulos = nulos;
+        this.nomeCliente = nomeCliente;
+        this.descricao = descricao;
+        this.enfileiradoEmNanos = enfileiradoEmNanos;
+    }
+
+    /**
+     * @param manterDescricao false quando a descrição será recarregada pelo ID
+     */
+    static PedidoCompacto de(PedidoResponseDTO pedido, DicionarioNomes nomes, boolean manterDescricao,
+                             long enfileiradoEmNanos) {
+        byte nulos = 0;
+        Long id = pedido.getId();
+        Valor valor = pedido.getValorMonetario();
+        LocalDateTime data = pedido.getDataPedido();
+        if (id == null) {
+            nulos |= SEM_ID;
+        }
+        if (valor == null) {
+            nulos |= SEM_VALOR;
+        }
+        if (data == null) {
+            nulos |= SEM_DATA;
+        }
+
+        byte[] descricao = VAZIO;
+        if (pedido.getDescricao() == null) {
+            nulos |= SEM_DESCRICAO;
+        } else if (manterDescricao || id == null) {
+            descricao = pedido.getDescricao().getBytes(StandardCharsets.UTF_8);
+        } else {
+            nulos |= DESCRICAO_SOB_DEMANDA;
+        }
+
+        return new PedidoCompacto(
+                id != null ? id : 0L,
+                valor != null ? valor.getCentavos() : 0L,
+                data != null ? data.toEpochSecond(ZoneOffset.UTC) : 0L,
+                data != null ? data.getNano() : 0,
+                nulos,
+                nomes.canonico(pedido.getNomeCliente()),
+                descricao,
+                enfileiradoEmNanos);
+    }
+
+    Long getId() {
+        return (nulos & SEM_ID) != 0 ? null : id;
+    }
+
+    boolean temValor() {
+        return (nulos & SEM_VALOR) == 0;
+    }
+
+    boolean temData() {
+        return (nulos & SEM_DATA) == 0;
+    }
+
+    boolean isDescricaoSobDemanda() {
+        return (nulos & DESCRICAO_SOB_DEMANDA) != 0;
+    }
+
+    /**
+     * Reconstrói o DTO
+     * @param descricaoCarregada Descrição obtida pelo ID, usada apenas se a entrada não a guardou
+     */
+    PedidoResponseDTO paraDto(String descricaoCarregada) {
+        PedidoResponseDTO pedido = new PedidoResponseDTO();
+        pedido.setId(getId());
+        pedido.setNomeCliente(nomeCliente);
+        if ((nulos & SEM_DESCRICAO) == 0) {
+            pedido.setDescricao(isDescricaoSobDemanda()
+                    ? descricaoCarregada
+                    : new String(descricao, StandardCharsets.UTF_8));
+        }
+        if ((nulos & SEM_VALOR) == 0) {
+            pedido.setValorMonetario(Valor.deCentavos(centavos));
+        }
+        if ((nulos & SEM_DATA) == 0) {
+            pedido.setDataPedido(LocalDateTime.ofEpochSecond(dataSegundos, dataNanos, ZoneOffset.UTC));
+        }
+        return pedido;
+    }
+}
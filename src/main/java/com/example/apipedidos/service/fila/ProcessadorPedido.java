@@ -0,0 +1,41 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+
+/**
+ * Tratamento de um pedido retirado da fila pelos consumidores internos ({@link ConsumidorFila})
+ *
+ * Implementações registradas como beans são chamadas em sequência para cada pedido que
+ * aceitam. Uma exceção conta como falha daquele processador: apenas os processadores que
+ * falharam são chamados de novo na próxima tentativa, por isso o processamento deve ser
+ * idempotente.
+ */
+public interface ProcessadorPedido {
+
+    /**
+     * Processa o pedido; qualquer exceção agenda nova tentativa com backoff
+     */
+    void processar(PedidoResponseDTO pedido) throws Exception;
+
+    /**
+     * @return false para ignorar o pedido (ex.: outro tipo de cliente)
+     */
+    default boolean aceita(PedidoResponseDTO pedido) {
+        return true;
+    }
+
+    /**
+     * Nome usado em logs e na tag {@code processador} das métricas
+     */
+    default String getNome() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Máximo de execuções simultâneas deste processador; 0 usa
+     * {@code app.fila.consumidores.concorrencia-por-processador}
+     */
+    default int getConcorrenciaMaxima() {
+        return 0;
+    }
+}
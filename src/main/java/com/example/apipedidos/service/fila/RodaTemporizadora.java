@@ -0,0 +1,131 @@
+package com.example.apipedidos.service.fila;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Roda temporizadora (hashed timing wheel) para prazos curtos e numerosos
+ *
+ * Agendar é O(1): o item entra em uma fila lock-free de pendentes. A cada tick o
+ * thread da roda move os pendentes para o slot {@code prazoTick % slots} e dispara
+ * apenas os itens do slot corrente cujo prazo chegou; não há varredura de todos os
+ * prazos. A precisão é de um tick. Os slots só são acessados pelo thread da roda.
+ */
+final class RodaTemporizadora<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(RodaTemporizadora.class);
+
+    private final long tickNanos;
+    private final ArrayDeque<Agendado<T>>[] slots;
+    private final ConcurrentLinkedQueue<Agendado<T>> pendentes = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> aoExpirar;
+    private final long origemNanos = System.nanoTime();
+    // Serializa o avanço entre o thread da roda e chamadas diretas (testes, expirarVencidos)
+    private final ReentrantLock trava = new ReentrantLock();
+
+    private long proximoTick;
+    private ScheduledExecutorService executor;
+
+    @SuppressWarnings("unchecked")
+    RodaTemporizadora(long tickMs, int quantidadeSlots, Consumer<T> aoExpirar) {
+        if (tickMs < 1 || quantidadeSlots < 1) {
+            throw new IllegalArgumentException("Tick e quantidade de slots da roda devem ser positivos");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.slots = new ArrayDeque[quantidadeSlots];
+        for (int i = 0; i < quantidadeSlots; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.aoExpirar = aoExpirar;
+    }
+
+    /**
+     * Agenda o item para expirar após o atraso, arredondado para cima ao próximo tick
+     */
+    void agendar(T item, long atrasoMs) {
+        long prazoNanos = System.nanoTime() - origemNanos + TimeUnit.MILLISECONDS.toNanos(atrasoMs);
+        pendentes.add(new Agendado<>(item, (prazoNanos + tickNanos - 1) / tickNanos));
+    }
+
+    void iniciar(String nomeThread) {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, nomeThread);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMicros = TimeUnit.NANOSECONDS.toMicros(tickNanos);
+        executor.scheduleAtFixedRate(this::avancar, tickMicros, tickMicros, TimeUnit.MICROSECONDS);
+    }
+
+    void parar() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Processa os ticks vencidos até agora; executado pelo thread da roda
+     */
+    void avancar() {
+        avancarAte((System.nanoTime() - origemNanos) / tickNanos);
+    }
+
+    /**
+     * Processa os ticks até {@code tickAtual}, inclusive (também usado nos testes)
+     */
+    void avancarAte(long tickAtual) {
+        trava.lock();
+        try {
+            transferirPendentes();
+            // Atrasos longos do thread: no máximo uma volta completa por chamada é necessária
+            long inicio = Math.max(proximoTick, tickAtual - slots.length + 1);
+            for (long tick = inicio; tick <= tickAtual; tick++) {
+                disparar(slots[(int) (tick % slots.length)], tickAtual);
+            }
+            proximoTick = Math.max(proximoTick, tickAtual + 1);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void transferirPendentes() {
+        Agendado<T> agendado;
+        while ((agendado = pendentes.poll()) != null) {
+            long tick = Math.max(agendado.prazoTick, proximoTick);
+            slots[(int) (tick % slots.length)].add(agendado);
+        }
+    }
+
+    private void disparar(ArrayDeque<Agendado<T>> slot, long tickAtual) {
+        for (Iterator<Agendado<T>> it = slot.iterator(); it.hasNext(); ) {
+            Agendado<T> agendado = it.next();
+            if (agendado.prazoTick <= tickAtual) {
+                it.remove();
+                try {
+                    aoExpirar.accept(agendado.item);
+                } catch (RuntimeException e) {
+                    log.error("Erro ao processar prazo expirado na roda temporizadora", e);
+                }
+            }
+        }
+    }
+
+    private static final class Agendado<T> {
+        private final T item;
+        private final long prazoTick;
+
+        private Agendado(T item, long prazoTick) {
+            this.item = item;
+            this.prazoTick = prazoTick;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.apipedidos.audit;
+
+import com.example.apipedidos.config.LogDropCounters;
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.service.PedidoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o sink binário de auditoria e seu decodificador
+ */
+class BinaryAuditWriterTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve gravar e decodificar eventos com argumentos tipados")
+    void deveGravarEDecodificarEventos() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 4);
+        Method criar = PedidoService.class.getMethod("criarPedido", PedidoRequestDTO.class);
+        PedidoRequestDTO request = new PedidoRequestDTO("José Ação", "Descrição", new BigDecimal("150.75"));
+
+        writer.record(BinaryAuditWriter.PHASE_START, criar, "PedidoService", "0a1b2c3d", 0L, new Object[]{request}, null);
+        writer.record(BinaryAuditWriter.PHASE_ERROR, criar, "PedidoService", null, 42L, null,
+                new IllegalStateException("falhou"));
+        writer.force();
+
+        List<Map<String, Object>> eventos = AuditLogDecoder.decode(diretorio, 10);
+
+        assertThat(eventos).hasSize(2);
+        Map<String, Object> inicio = eventos.get(0);
+        assertThat(inicio.get("fase")).isEqualTo("START");
+        assertThat(inicio.get("operacao")).isEqualTo("PedidoService.criarPedido");
+        assertThat(inicio.get("requestId")).isEqualTo("0a1b2c3d");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> pedido = (Map<String, Object>) ((List<Object>) inicio.get("args")).get(0);
+        assertThat(pedido.get("nomeCliente")).isEqualTo("José Ação");
+        assertThat(pedido.get("valor")).isEqualTo(new BigDecimal("150.75"));
+
+        Map<String, Object> erro = eventos.get(1);
+        assertThat(erro.get("fase")).isEqualTo("ERROR");
+        assertThat(erro.get("requestId")).isNull();
+        assertThat(erro.get("duracaoNanos")).isEqualTo(42L);
+        assertThat(erro.get("erro")).isEqualTo("falhou");
+    }
+
+    @Test
+    @DisplayName("Deve codificar eventos maiores que o buffer inicial do encoder")
+    void deveCodificarEventosGrandes() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 4);
+        Method criar = PedidoService.class.getMethod("criarPedido", PedidoRequestDTO.class);
+        StringBuilder descricao = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            descricao.append('ç');
+        }
+        PedidoRequestDTO request = new PedidoRequestDTO("Cliente", descricao.toString(), new BigDecimal("1.00"));
+
+        writer.record(BinaryAuditWriter.PHASE_START, criar, "PedidoService", null, 0L,
+                new Object[]{request, request, request}, null);
+        writer.record(BinaryAuditWriter.PHASE_SUCCESS, criar, "PedidoService", null, 7L, null, null);
+
+        List<Map<String, Object>> eventos = AuditLogDecoder.decode(diretorio, 10);
+        assertThat(eventos).hasSize(2);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> args = (List<Map<String, Object>>) eventos.get(0).get("args");
+        assertThat(args).hasSize(3).allMatch(pedido -> descricao.toString().equals(pedido.get("descricao")));
+        assertThat(eventos.get(1).get("duracaoNanos")).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Não deve perder eventos gravados concorrentemente com troca de segmentos")
+    void naoDevePerderEventosConcorrentes() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 100);
+        Method buscar = PedidoService.class.getMethod("buscarPedidoPorId", Long.class);
+        int threads = 4;
+        int eventosPorThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (long i = 0; i < eventosPorThread; i++) {
+                    writer.record(BinaryAuditWriter.PHASE_SUCCESS, buscar, "PedidoService", "00000001",
+                            i, new Object[]{i}, null);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        writer.force();
+
+        assertThat(BinaryAuditWriter.listSegments(diretorio).size()).isGreaterThan(1);
+        List<Map<String, Object>> eventos = AuditLogDecoder.decode(diretorio, Integer.MAX_VALUE);
+        assertThat(eventos).hasSize(threads * eventosPorThread);
+        assertThat(eventos).allMatch(evento -> "PedidoService.buscarPedidoPorId".equals(evento.get("operacao")));
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas os eventos mais recentes, em ordem, atravessando segmentos")
+    void deveRetornarEventosMaisRecentesAteOLimite() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 100);
+        Method buscar = PedidoService.class.getMethod("buscarPedidoPorId", Long.class);
+        int total = 30_000;
+        for (long i = 0; i < total; i++) {
+            writer.record(BinaryAuditWriter.PHASE_SUCCESS, buscar, "PedidoService", null, i, new Object[]{i}, null);
+        }
+        writer.force();
+
+        List<Path> segmentos = BinaryAuditWriter.listSegments(diretorio);
+        assertThat(segmentos.size()).isGreaterThan(1);
+        int noUltimo = AuditLogDecoder.decodeSegment(segmentos.get(segmentos.size() - 1)).size();
+        List<Map<String, Object>> eventos = AuditLogDecoder.decode(diretorio, noUltimo + 5);
+
+        assertThat(eventos).hasSize(noUltimo + 5);
+        assertThat(eventos.get(0).get("duracaoNanos")).isEqualTo((long) total - noUltimo - 5);
+        assertThat(eventos.get(eventos.size() - 1).get("duracaoNanos")).isEqualTo((long) total - 1);
+        assertThat(AuditLogDecoder.decodeSegment(segmentos.get(segmentos.size() - 1), 3)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Deve descartar segmentos excedentes ao reabrir o diretório")
+    void deveDescartarSegmentosExcedentesAoReabrir() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            new BinaryAuditWriter(diretorio.toString(), 1, 2).close();
+        }
+
+        assertThat(BinaryAuditWriter.listSegments(diretorio)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Limite do endpoint de auditoria deve ser restringido ao máximo")
+    void deveRestringirLimiteDoEndpoint() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 100);
+        Method buscar = PedidoService.class.getMethod("buscarPedidoPorId", Long.class);
+        for (long i = 0; i < AuditLogEndpoint.LIMITE_MAXIMO + 10; i++) {
+            writer.record(BinaryAuditWriter.PHASE_SUCCESS, buscar, "PedidoService", null, i, null, null);
+        }
+        AuditLogEndpoint endpoint = new AuditLogEndpoint();
+        ReflectionTestUtils.setField(endpoint, "binaryAuditWriter", writer);
+
+        assertThat(endpoint.eventos(Integer.MAX_VALUE)).hasSize(AuditLogEndpoint.LIMITE_MAXIMO);
+        assertThat(endpoint.eventos(-1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Falha ao abrir novo segmento deve ser contada sem lançar exceção ao chamador")
+    void falhaDeGravacaoNaoDeveChegarAoChamador() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 4);
+        Method buscar = PedidoService.class.getMethod("buscarPedidoPorId", Long.class);
+        long falhasAntes = LogDropCounters.counter("BINARY_AUDIT.falhas").sum();
+        // Sem o diretório, o próximo rolling não consegue criar o segmento
+        for (Path segmento : BinaryAuditWriter.listSegments(diretorio)) {
+            Files.delete(segmento);
+        }
+        Files.delete(diretorio);
+
+        boolean gravado = true;
+        for (int i = 0; i < 100_000 && gravado; i++) {
+            gravado = writer.record(BinaryAuditWriter.PHASE_SUCCESS, buscar, "PedidoService", null, i, null, null);
+        }
+
+        assertThat(gravado).isFalse();
+        assertThat(LogDropCounters.counter("BINARY_AUDIT.falhas").sum()).isGreaterThan(falhasAntes);
+        assertThat(writer.record(BinaryAuditWriter.PHASE_SUCCESS, buscar, "PedidoService", null, 0L, null, null))
+                .isFalse();
+        Files.createDirectories(diretorio);
+    }
+
+    @Test
+    @DisplayName("Registros reservados e não concluídos devem ser pulados sem perder os seguintes")
+    void devePularRegistrosNaoConcluidos() throws Exception {
+        BinaryAuditWriter writer = new BinaryAuditWriter(diretorio.toString(), 1, 4);
+        Method buscar = PedidoService.class.getMethod("buscarPedidoPorId", Long.class);
+        for (long i = 1; i <= 4; i++) {
+            writer.record(BinaryAuditWriter.PHASE_SUCCESS, buscar, "PedidoService", null, i, new Object[]{i}, null);
+        }
+        writer.force();
+
+        Path segmento = BinaryAuditWriter.listSegments(diretorio).get(0);
+        try (FileChannel channel = FileChannel.open(segmento, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            List<Integer> eventos = new ArrayList<>();
+            int posicao = AuditRecordFormat.HEADER_SIZE;
+            int tamanho;
+            while ((tamanho = buffer.getInt(posicao) & AuditRecordFormat.RECORD_LENGTH_MASK) > 0) {
+                if (buffer.get(posicao + 4) == AuditRecordFormat.TYPE_EVENT) {
+                    eventos.add(posicao);
+                }
+                posicao += tamanho;
+            }
+            // Queda depois de copiar o corpo: falta só o cabeçalho
+            buffer.putInt(eventos.get(1), 0);
+            // Queda logo após a reserva: o trecho inteiro continua zerado
+            int inicio = eventos.get(2);
+            for (int i = inicio; i < eventos.get(3); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+
+        List<Map<String, Object>> eventos = AuditLogDecoder.decode(diretorio, 10);
+        assertThat(eventos).extracting(evento -> evento.get("duracaoNanos")).containsExactly(1L, 4L);
+    }
+}
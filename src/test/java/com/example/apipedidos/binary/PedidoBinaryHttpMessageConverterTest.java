@@ -0,0 +1,123 @@
+package com.example.apipedidos.binary;
+
+import com.example.apipedidos.dto.FilaStatusDTO;
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.json.PedidoJsonModule;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o formato binário compacto de pedidos e seu conversor HTTP
+ */
+class PedidoBinaryHttpMessageConverterTest {
+
+    private static final Type LISTA_PEDIDOS = new TypeReference<List<PedidoResponseDTO>>() {}.getType();
+
+    private final PedidoBinaryHttpMessageConverter converter = new PedidoBinaryHttpMessageConverter();
+
+    @Test
+    @DisplayName("Deve preservar pedidos, listas e requisições na ida e volta")
+    void devePreservarDadosNaIdaEVolta() throws Exception {
+        List<PedidoResponseDTO> pedidos = Arrays.asList(
+                pedido(1L),
+                new PedidoResponseDTO(2L, "José Ação 🚀", "", new BigDecimal("-0.05"),
+                        LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999)),
+                new PedidoResponseDTO(Long.MAX_VALUE, "X", "Y", new BigDecimal("92233720368547758.07"), null),
+                new PedidoResponseDTO(null, null, null, null, null),
+                null);
+
+        MockHttpOutputMessage lista = escrever(pedidos, LISTA_PEDIDOS);
+        assertThat(lista.getHeaders().getContentType()).isEqualTo(PedidoBinaryFormat.MEDIA_TYPE);
+        assertThat(converter.read(LISTA_PEDIDOS, null, entrada(lista.getBodyAsBytes()))).isEqualTo(pedidos);
+
+        MockHttpOutputMessage unico = escrever(pedidos.get(1), PedidoResponseDTO.class);
+        assertThat(converter.read(PedidoResponseDTO.class, null, entrada(unico.getBodyAsBytes())))
+                .isEqualTo(pedidos.get(1));
+
+        PedidoRequestDTO requisicao = new PedidoRequestDTO("Maria", "Pedido", new BigDecimal("150.75"));
+        assertThat(converter.read(PedidoRequestDTO.class, null,
+                entrada(PedidoBinaryFormat.codificar(requisicao)))).isEqualTo(requisicao);
+    }
+
+    @Test
+    @DisplayName("Formato binário deve ser menor que JSON e CBOR")
+    void formatoBinarioDeveSerMenorQueJsonECbor() throws Exception {
+        List<PedidoResponseDTO> pedidos = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            pedidos.add(pedido(i));
+        }
+        ObjectMapper json = mapper().build();
+        ObjectMapper cbor = mapper().factory(new CBORFactory()).build();
+
+        int binario = PedidoBinaryFormat.codificarLista(pedidos).length;
+        int tamanhoCbor = cbor.writeValueAsBytes(pedidos).length;
+        assertThat(binario).isLessThan(tamanhoCbor).isLessThan(json.writeValueAsBytes(pedidos).length / 2);
+        assertThat(cbor.readValue(cbor.writeValueAsBytes(pedidos), new TypeReference<List<PedidoResponseDTO>>() {}))
+                .isEqualTo(pedidos);
+    }
+
+    @Test
+    @DisplayName("Deve atender apenas DTOs de pedido e apenas quando o formato for pedido explicitamente")
+    void deveAtenderApenasDtosDePedido() {
+        assertThat(converter.canWrite(LISTA_PEDIDOS, List.class, PedidoBinaryFormat.MEDIA_TYPE)).isTrue();
+        assertThat(converter.canRead(PedidoRequestDTO.class, null, PedidoBinaryFormat.MEDIA_TYPE)).isTrue();
+        assertThat(converter.canWrite(FilaStatusDTO.class, FilaStatusDTO.class, PedidoBinaryFormat.MEDIA_TYPE)).isFalse();
+        assertThat(converter.canWrite(new TypeReference<List<String>>() {}.getType(), List.class, null)).isFalse();
+        assertThat(converter.canRead(PedidoRequestDTO.class, null, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Mensagem truncada ou de outro tipo deve gerar HttpMessageNotReadableException")
+    void mensagemInvalidaDeveSerRejeitada() {
+        byte[] completo = PedidoBinaryFormat.codificar(pedido(1L));
+        byte[] truncado = Arrays.copyOf(completo, completo.length - 3);
+
+        assertThatThrownBy(() -> converter.read(PedidoResponseDTO.class, null, entrada(truncado)))
+                .isInstanceOf(HttpMessageNotReadableException.class)
+                .hasMessageContaining("truncada");
+        assertThatThrownBy(() -> converter.read(PedidoRequestDTO.class, null, entrada(completo)))
+                .isInstanceOf(HttpMessageNotReadableException.class)
+                .hasMessageContaining("Tipo de mensagem inesperado");
+    }
+
+    private MockHttpOutputMessage escrever(Object objeto, Type tipo) throws Exception {
+        MockHttpOutputMessage mensagem = new MockHttpOutputMessage();
+        converter.write(objeto, tipo, PedidoBinaryFormat.MEDIA_TYPE, mensagem);
+        return mensagem;
+    }
+
+    private static MockHttpInputMessage entrada(byte[] dados) {
+        return new MockHttpInputMessage(dados);
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new PedidoJsonModule());
+    }
+
+    private static PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido de teste número " + id,
+                new BigDecimal("150.75").add(BigDecimal.valueOf(id)), LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+    }
+}
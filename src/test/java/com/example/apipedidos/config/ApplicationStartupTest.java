@@ -117,7 +117,10 @@ public class ApplicationStartupTest {
             "spring.datasource.username=sa",
             "spring.datasource.password=",
             "spring.jpa.hibernate.ddl-auto=create-drop",
-            "DB_PASSWORD=test-password"
+            "DB_PASSWORD=test-password",
+            "app.audit.binary.directory=${java.io.tmpdir}/api-pedidos-audit-bin",
+            "app.audit.binary.segment-size-mb=1",
+            "app.audit.binary.max-segments=2"
     })
     class ProdProfileStartupTest {
 
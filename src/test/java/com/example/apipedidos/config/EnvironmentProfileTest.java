@@ -106,7 +106,10 @@ public class EnvironmentProfileTest {
             "spring.datasource.username=sa",
             "spring.datasource.password=",
             "spring.jpa.hibernate.ddl-auto=create-drop",
-            "DB_PASSWORD=test-password"
+            "DB_PASSWORD=test-password",
+            "app.audit.binary.directory=${java.io.tmpdir}/api-pedidos-audit-bin",
+            "app.audit.binary.segment-size-mb=1",
+            "app.audit.binary.max-segments=2"
     })
     @Transactional
     class ProdProfileTest {
@@ -0,0 +1,75 @@
+package com.example.apipedidos.config;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.service.fila.ConfirmacaoFila;
+import com.example.apipedidos.service.fila.ConsumidorFila;
+import com.example.apipedidos.service.fila.ConsumidorFilaConfig;
+import com.example.apipedidos.service.fila.FilaPedidos;
+import com.example.apipedidos.service.fila.ProcessadorPedido;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para as métricas da fila de pedidos
+ */
+class FilaPedidosMetricsTest {
+
+    private FilaPedidos filaPedidos;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        filaPedidos = new FilaPedidos();
+        registry = new SimpleMeterRegistry();
+        new FilaPedidosMetrics(filaPedidos, (ConfirmacaoFila) null, null).bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Deve expor tamanho, contadores e tempo de espera da fila")
+    void deveExporMetricasDaFila() {
+        filaPedidos.enfileirar(pedido(1L));
+        filaPedidos.enfileirar(pedido(2L));
+        filaPedidos.desenfileirar();
+
+        assertThat(registry.get("pedidos.fila.tamanho").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("pedidos.fila.enfileirados").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("pedidos.fila.desenfileirados").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("pedidos.fila.espera").functionTimer().count()).isEqualTo(1.0);
+        assertThat(registry.get("pedidos.fila.espera").functionTimer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(registry.get("pedidos.fila.idade").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Idade da fila vazia deve ser zero")
+    void idadeDaFilaVaziaDeveSerZero() {
+        assertThat(registry.get("pedidos.fila.idade").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve expor vazão e tempo de execução dos processadores dos consumidores internos")
+    void deveExporMetricasDosConsumidores() {
+        ProcessadorPedido processador = pedido -> { };
+        ConsumidorFila consumidor = new ConsumidorFila(filaPedidos, null,
+                Collections.singletonList(processador), new ConsumidorFilaConfig());
+        SimpleMeterRegistry registroConsumidor = new SimpleMeterRegistry();
+        new FilaPedidosMetrics(filaPedidos, null, consumidor).bindTo(registroConsumidor);
+
+        assertThat(registroConsumidor.get("pedidos.fila.consumidor.processados").functionCounter().count()).isZero();
+        assertThat(registroConsumidor.get("pedidos.fila.consumidor.execucao")
+                .tag("processador", processador.getNome()).functionTimer().count()).isZero();
+        assertThat(registroConsumidor.get("pedidos.fila.consumidor.em-processamento").gauge().value()).isZero();
+    }
+
+    private PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id, new BigDecimal("10.00"), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.apipedidos.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o limite adaptativo de concorrência
+ */
+class LimiteAdaptativoTest {
+
+    private static final long JANELA_MS = 100;
+
+    private long agora;
+
+    @Test
+    @DisplayName("Deve recusar acima do limite e voltar a aceitar após liberar")
+    void deveRecusarAcimaDoLimite() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(2, 1, 10, 1.5, 0.2, 0.9, 0.05, JANELA_MS, 5);
+
+        assertThat(limite.tentarAdquirir()).isTrue();
+        assertThat(limite.tentarAdquirir()).isTrue();
+        assertThat(limite.tentarAdquirir()).isFalse();
+        assertThat(limite.getRejeitadas()).isEqualTo(1);
+
+        limite.liberar(TimeUnit.MILLISECONDS.toNanos(5), false, System.nanoTime());
+        assertThat(limite.getEmVoo()).isEqualTo(1);
+        assertThat(limite.tentarAdquirir()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Com latência estável e concorrência no limite, o limite deve crescer")
+    void latenciaEstavelDeveAumentarLimite() {
+        LimiteAdaptativo limite = limite(10);
+
+        for (int i = 0; i < 15; i++) {
+            janela(limite, limite.getLimite(), 10, false);
+        }
+
+        assertThat(limite.getLimite()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Quando a latência dispara, o limite deve cair")
+    void latenciaAltaDeveReduzirLimite() {
+        LimiteAdaptativo limite = limite(40);
+        for (int i = 0; i < 5; i++) {
+            janela(limite, limite.getLimite(), 10, false);
+        }
+        int antes = limite.getLimite();
+
+        janela(limite, limite.getLimite(), 200, false);
+        assertThat(limite.getLimite()).isLessThan(antes);
+
+        for (int i = 0; i < 9; i++) {
+            janela(limite, limite.getLimite(), 200, false);
+        }
+        assertThat(limite.getLimite()).isLessThan(antes * 7 / 10);
+    }
+
+    @Test
+    @DisplayName("Janela com erros de servidor deve reduzir o limite pelo fator multiplicativo")
+    void falhasDevemReduzirLimiteMultiplicativamente() {
+        LimiteAdaptativo limite = limite(50);
+
+        janela(limite, 20, 10, true);
+        assertThat(limite.getLimite()).isEqualTo(45);
+
+        for (int i = 0; i < 40; i++) {
+            janela(limite, 20, 10, true);
+        }
+        assertThat(limite.getLimite()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Erros 5xx abaixo da taxa máxima não devem reduzir o limite")
+    void falhasIsoladasNaoDevemReduzirLimite() {
+        LimiteAdaptativo limite = limite(50);
+
+        for (int i = 0; i < 5; i++) {
+            janela(limite, 40, 10, 1);
+        }
+        int antes = limite.getLimite();
+        assertThat(antes).isGreaterThanOrEqualTo(50);
+
+        janela(limite, 40, 10, 4);
+        assertThat(limite.getLimite()).isLessThan(antes);
+    }
+
+    @Test
+    @DisplayName("Com pouco tráfego, o limite reduzido deve voltar ao inicial, sem passar dele")
+    void poucoTrafegoDeveRecuperarAteOLimiteInicial() {
+        LimiteAdaptativo limite = limite(40);
+        for (int i = 0; i < 10; i++) {
+            janela(limite, 20, 10, true);
+        }
+        assertThat(limite.getLimite()).isLessThan(20);
+
+        for (int i = 0; i < 100; i++) {
+            janela(limite, 5, 10, false);
+        }
+
+        assertThat(limite.getLimite()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Com pouco tráfego, o limite não deve crescer")
+    void poucoTrafegoNaoDeveAumentarLimite() {
+        LimiteAdaptativo limite = limite(40);
+
+        for (int i = 0; i < 20; i++) {
+            janela(limite, 5, 10, false);
+        }
+
+        assertThat(limite.getLimite()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Parâmetros inválidos devem ser recusados")
+    void parametrosInvalidosDevemSerRecusados() {
+        assertThatThrownBy(() -> new LimiteAdaptativo(2, 4, 100, 1.5, 0.2, 0.9, 0.05, 100, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LimiteAdaptativo(10, 4, 100, 0.5, 0.2, 0.9, 0.05, 100, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LimiteAdaptativo(10, 4, 100, 1.5, 0.2, 1.0, 0.05, 100, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LimiteAdaptativo(10, 4, 100, 1.5, 0.2, 0.9, 1.0, 100, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LimiteAdaptativo limite(int inicial) {
+        return new LimiteAdaptativo(inicial, 4, 200, 1.5, 0.2, 0.9, 0.05, JANELA_MS, 5);
+    }
+
+    /**
+     * Simula uma janela com {@code concorrencia} requisições simultâneas (ao menos as
+     * amostras mínimas) de mesma latência
+     */
+    private void janela(LimiteAdaptativo limite, int concorrencia, long latenciaMs, boolean falhou) {
+        janela(limite, concorrencia, latenciaMs, falhou ? Integer.MAX_VALUE : 0);
+    }
+
+    /**
+     * Variante em que só as primeiras {@code falhas} requisições da janela falham
+     */
+    private void janela(LimiteAdaptativo limite, int concorrencia, long latenciaMs, int falhas) {
+        long fim = Math.max(agora, System.nanoTime()) + TimeUnit.MILLISECONDS.toNanos(JANELA_MS + 1);
+        int adquiridas = 0;
+        for (int i = 0; i < Math.max(concorrencia, 5); i++) {
+            if (limite.tentarAdquirir()) {
+                adquiridas++;
+            }
+        }
+        // Só a última liberação passa do fim da janela e a fecha com todas as amostras
+        for (int i = 1; i <= adquiridas; i++) {
+            limite.liberar(TimeUnit.MILLISECONDS.toNanos(latenciaMs), i <= falhas, i == adquiridas ? fim : agora);
+        }
+        agora = fim;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.apipedidos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o filtro de limite adaptativo de concorrência
+ */
+class LimiteConcorrenciaFilterTest {
+
+    private final LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(
+            () -> new LimiteAdaptativo(1, 1, 10, 1.5, 0.2, 0.9, 0.05, 100, 5),
+            new ObjectMapper().registerModule(new JavaTimeModule()), 2);
+
+    @Test
+    @DisplayName("Deve classificar as requisições em fila, leitura e escrita")
+    void deveClassificarGrupos() {
+        assertThat(LimiteConcorrenciaFilter.grupo(new MockHttpServletRequest("GET", "/api/pedidos/1")))
+                .isEqualTo(LimiteConcorrenciaFilter.GRUPO_LEITURA);
+        assertThat(LimiteConcorrenciaFilter.grupo(new MockHttpServletRequest("POST", "/api/pedidos")))
+                .isEqualTo(LimiteConcorrenciaFilter.GRUPO_ESCRITA);
+        assertThat(LimiteConcorrenciaFilter.grupo(new MockHttpServletRequest("GET", "/api/pedidos/fila/status")))
+                .isEqualTo(LimiteConcorrenciaFilter.GRUPO_FILA);
+        assertThat(LimiteConcorrenciaFilter.grupo(new MockHttpServletRequest("POST", "/api/pedidos/fila/processar")))
+                .isEqualTo(LimiteConcorrenciaFilter.GRUPO_FILA);
+    }
+
+    @Test
+    @DisplayName("Acima do limite do grupo deve responder 503 com Retry-After sem chamar a cadeia")
+    void acimaDoLimiteDeveResponder503() throws Exception {
+        MockHttpServletResponse rejeitada = new MockHttpServletResponse();
+        MockHttpServletResponse outroGrupo = new MockHttpServletResponse();
+        // Enquanto a primeira leitura está em andamento, chegam outra leitura e uma escrita
+        MockFilterChain cadeia = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                try {
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/pedidos/2"), rejeitada,
+                            new MockFilterChain());
+                    filter.doFilter(new MockHttpServletRequest("POST", "/api/pedidos"), outroGrupo,
+                            new MockFilterChain());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+
+        MockHttpServletResponse primeira = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/pedidos/1"), primeira, cadeia);
+
+        assertThat(primeira.getStatus()).isEqualTo(200);
+        assertThat(outroGrupo.getStatus()).isEqualTo(200);
+        assertThat(rejeitada.getStatus()).isEqualTo(503);
+        assertThat(rejeitada.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejeitada.getContentAsString())
+                .contains("\"status\":503")
+                .contains("\"path\":\"/api/pedidos/2\"");
+        assertThat(filter.getLimites().get(LimiteConcorrenciaFilter.GRUPO_LEITURA).getRejeitadas()).isEqualTo(1);
+        assertThat(filter.getLimites().get(LimiteConcorrenciaFilter.GRUPO_LEITURA).getEmVoo()).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.apipedidos.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.apipedidos.exception.FilaCheiaException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para a amostragem (head/tail) e os níveis de log do aspecto de logging
+ */
+class LoggingAspectSamplingTest {
+
+    private final LoggingAspect aspect = new LoggingAspect();
+    private final Logger performanceLogger = (Logger) LoggerFactory.getLogger("PERFORMANCE");
+    private final ListAppender<ILoggingEvent> eventos = new ListAppender<>();
+    private Level nivelOriginal;
+
+    @BeforeEach
+    void setUp() {
+        nivelOriginal = performanceLogger.getLevel();
+        performanceLogger.setLevel(Level.INFO);
+        eventos.start();
+        performanceLogger.addAppender(eventos);
+        // Fora da amostra de head sampling
+        ReflectionTestUtils.setField(aspect, "headSampleRate", 0.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        performanceLogger.detachAppender(eventos);
+        performanceLogger.setLevel(nivelOriginal);
+    }
+
+    @Test
+    @DisplayName("Execução rápida fora da amostra não deve gerar log de performance")
+    void execucaoRapidaForaDaAmostraNaoDeveLogar() throws Throwable {
+        ReflectionTestUtils.setField(aspect, "slowThresholdMs", 60_000L);
+
+        Object resultado = aspect.logControllerPerformance(joinPoint(0));
+
+        assertThat(resultado).isEqualTo("ok");
+        assertThat(eventos.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Execução lenta deve ser registrada mesmo fora da amostra")
+    void execucaoLentaDeveSempreLogar() throws Throwable {
+        ReflectionTestUtils.setField(aspect, "slowThresholdMs", 20L);
+
+        aspect.logControllerPerformance(joinPoint(40));
+
+        assertThat(eventos.list).hasSize(1);
+        assertThat(eventos.list.get(0).getFormattedMessage())
+                .startsWith("ENDPOINT_PERFORMANCE")
+                .contains("Method: buscar");
+    }
+
+    @Test
+    @DisplayName("Rejeição por fila cheia não deve gerar logs de erro no aspecto")
+    void rejeicaoPorFilaCheiaNaoDeveLogarErro() throws Throwable {
+        Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+        aspectLogger.addAppender(eventos);
+        try {
+            ProceedingJoinPoint joinPoint = joinPoint(0);
+            FilaCheiaException rejeicao = new FilaCheiaException(10, 1);
+            when(joinPoint.proceed()).thenThrow(rejeicao);
+
+            assertThatThrownBy(() -> aspect.logControllerPerformance(joinPoint)).isSameAs(rejeicao);
+            aspect.logException(joinPoint, rejeicao);
+
+            assertThat(eventos.list).noneMatch(evento -> evento.getLevel().isGreaterOrEqual(Level.ERROR));
+        } finally {
+            aspectLogger.detachAppender(eventos);
+        }
+    }
+
+    private ProceedingJoinPoint joinPoint(long duracaoMs) throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(signature.getName()).thenReturn("buscar");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(this);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            Thread.sleep(duracaoMs);
+            return "ok";
+        });
+        return joinPoint;
+    }
+}
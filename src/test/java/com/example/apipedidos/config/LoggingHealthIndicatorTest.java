@@ -8,6 +8,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -41,5 +43,32 @@ class LoggingHealthIndicatorTest {
         assertTrue(health.getDetails().containsKey("activeProfile"));
         assertTrue(health.getDetails().containsKey("logLevel"));
         assertTrue(health.getDetails().containsKey("aspectsEnabled"));
+        assertTrue(health.getDetails().containsKey("asyncAppenders"));
+        assertTrue(health.getDetails().containsKey("droppedEvents"));
+        assertTrue(health.getDetails().containsKey("snapshotAgeMs"));
+    }
+
+    @Test
+    void testHealthCheckServesCachedSnapshot() {
+        String contador = "TEST_" + System.nanoTime() + ".overflow";
+        LogDropCounters.counter(contador).increment();
+
+        Map<String, Object> antes = loggingHealthIndicator.health().getDetails();
+        assertFalse(((Map<?, ?>) antes.get("droppedEvents")).containsKey(contador));
+
+        loggingHealthIndicator.refresh();
+        Map<String, Object> depois = loggingHealthIndicator.health().getDetails();
+        assertTrue(((Map<?, ?>) depois.get("droppedEvents")).containsKey(contador));
+    }
+
+    @Test
+    void testStaleSnapshotIsReportedAsUnknown() {
+        LoggingHealthIndicator indicator = new LoggingHealthIndicator(60_000, -1);
+        indicator.refresh();
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UNKNOWN, health.getStatus());
+        assertTrue(health.getDetails().containsKey("logsDirectory"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.example.apipedidos.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o AsyncAppender que descarta em vez de bloquear
+ */
+class NonBlockingAsyncAppenderTest {
+
+    @Test
+    @DisplayName("Com a fila cheia deve descartar sem bloquear e contar o descarte")
+    void filaCheiaDeveDescartarEContar() throws Exception {
+        LoggerContext context = new LoggerContext();
+        CountDownLatch emEscrita = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger escritos = new AtomicInteger();
+
+        // Destino lento: o primeiro evento prende o worker até o fim do teste
+        AppenderBase<ILoggingEvent> destino = new AppenderBase<ILoggingEvent>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                emEscrita.countDown();
+                try {
+                    liberar.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                escritos.incrementAndGet();
+            }
+        };
+        destino.setContext(context);
+        destino.start();
+
+        NonBlockingAsyncAppender appender = new NonBlockingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("TESTE_OVERFLOW");
+        appender.setQueueSize(2);
+        appender.setDiscardingThreshold(0);
+        appender.setNeverBlock(false);
+        appender.addAppender(destino);
+        appender.start();
+        long antes = LogDropCounters.counter("TESTE_OVERFLOW.overflow").sum();
+
+        appender.doAppend(evento(context));
+        assertThat(emEscrita.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(evento(context));
+        }
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        // Dois eventos cabem na fila; os outros três são descartados
+        assertThat(LogDropCounters.counter("TESTE_OVERFLOW.overflow").sum() - antes).isEqualTo(3);
+        assertThat(duracaoMs).isLessThan(1_000);
+
+        liberar.countDown();
+        appender.stop();
+        assertThat(escritos.get()).isEqualTo(3);
+    }
+
+    private static ILoggingEvent evento(LoggerContext context) {
+        return new LoggingEvent(NonBlockingAsyncAppenderTest.class.getName(),
+                context.getLogger("teste"), Level.INFO, "mensagem", null, null);
+    }
+}
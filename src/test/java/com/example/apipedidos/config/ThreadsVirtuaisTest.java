@@ -0,0 +1,80 @@
+package com.example.apipedidos.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o modo de threads virtuais; o resultado esperado depende do JDK
+ */
+class ThreadsVirtuaisTest {
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(VirtualThreadsConfiguration.class);
+
+    @Test
+    @DisplayName("Fábrica deve criar threads virtuais nomeadas ou falhar em JDK sem suporte")
+    void fabricaDeveCriarThreadsVirtuais() throws Exception {
+        String especificacao = System.getProperty("java.specification.version");
+        boolean suportado = !especificacao.startsWith("1.") && Integer.parseInt(especificacao) >= 21;
+        assertThat(ThreadsVirtuais.disponiveis()).isEqualTo(suportado);
+
+        if (!suportado) {
+            assertThatThrownBy(() -> ThreadsVirtuais.fabrica("teste-"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Java 21");
+            return;
+        }
+        ThreadFactory fabrica = ThreadsVirtuais.fabrica("teste-");
+        Thread thread = fabrica.newThread(() -> { });
+        assertThat(thread.getName()).isEqualTo("teste-0");
+        assertThat((Boolean) Thread.class.getMethod("isVirtual").invoke(thread)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve exigir Java 21, já que no 19 e no 20 as threads virtuais são preview")
+    void deveReconhecerVersaoDaEspecificacao() {
+        assertThat(ThreadsVirtuais.versao("1.8")).isEqualTo(8);
+        assertThat(ThreadsVirtuais.versao("20")).isEqualTo(20);
+        assertThat(ThreadsVirtuais.versao("21")).isEqualTo(21);
+        assertThat(ThreadsVirtuais.versao("25.0.1")).isEqualTo(25);
+        assertThat(ThreadsVirtuais.versao("desconhecida")).isZero();
+        assertThat(ThreadsVirtuais.versao(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Sem a propriedade, o Tomcat e o executor de tarefas não devem ser alterados")
+    void semPropriedadeNaoDeveAlterarExecutores() {
+        contexto.run(ctx -> {
+            assertThat(ctx).doesNotHaveBean(VirtualThreadsConfiguration.class);
+            assertThat(ctx).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class);
+            assertThat(ctx).hasBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+        });
+    }
+
+    @Test
+    @DisplayName("Com a propriedade, os executores só devem mudar se o JDK tiver threads virtuais")
+    void comPropriedadeDeveDependerDoJdk() {
+        contexto.withPropertyValues("app.threads.virtuais=true").run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            assertThat(ctx).hasBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+            if (ThreadsVirtuais.disponiveis()) {
+                assertThat(ctx).hasSingleBean(TomcatProtocolHandlerCustomizer.class);
+                assertThat(ctx).hasSingleBean(ExecutorService.class);
+            } else {
+                assertThat(ctx).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class);
+                assertThat(ctx).doesNotHaveBean(ExecutorService.class);
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.apipedidos.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o filtro de limitação de taxa do logging
+ */
+class TokenBucketFilterTest {
+
+    private LoggerContext loggerContext;
+    private TokenBucketFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        filter = new TokenBucketFilter();
+        filter.setContext(loggerContext);
+        filter.setName("TESTE_" + System.nanoTime());
+        filter.setPermitsPerSecond(10);
+        filter.setBurst(3);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Deve permitir rajada configurada e negar eventos excedentes")
+    void devePermitirRajadaENegarExcedente() {
+        int aceitos = 0;
+        for (int i = 0; i < 10; i++) {
+            if (filter.decide(evento(Level.INFO)) == FilterReply.NEUTRAL) {
+                aceitos++;
+            }
+        }
+
+        assertThat(aceitos).isEqualTo(3);
+        assertThat(LogDropCounters.snapshot().get(filter.getName() + ".rateLimited")).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Nunca deve descartar eventos WARN ou ERROR")
+    void naoDeveDescartarEventosDeErro() {
+        for (int i = 0; i < 10; i++) {
+            filter.decide(evento(Level.INFO));
+        }
+
+        assertThat(filter.decide(evento(Level.WARN))).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(evento(Level.ERROR))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Deve repor tokens conforme a taxa configurada")
+    void deveReporTokensComOTempo() {
+        long agora = System.nanoTime();
+        while (filter.tryAcquire(agora)) {
+            // consome a rajada inteira
+        }
+
+        assertThat(filter.tryAcquire(agora)).isFalse();
+        assertThat(filter.tryAcquire(agora + TimeUnit.MILLISECONDS.toNanos(100))).isTrue();
+    }
+
+    private LoggingEvent evento(Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLevel(level);
+        event.setLoggerName("AUDIT");
+        event.setMessage("evento de teste");
+        return event;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.apipedidos.controller;
 
+import com.example.apipedidos.binary.PedidoBinaryFormat;
 import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.exception.FilaCheiaException;
+import com.example.apipedidos.exception.PedidoNotFoundException;
 import com.example.apipedidos.service.PedidoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +18,12 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -138,4 +147,105 @@ class PedidoFilaControllerTest {
                 .andExpect(jsonPath("$.tamanho").value(0))
                 .andExpect(jsonPath("$.vazia").value(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /api/pedidos/fila/{id}/ack - Deve confirmar entrega e retornar 204")
+    void confirmarPedido_ComEntregaPendente_DeveRetornar204() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos/fila/1/ack"))
+                .andExpect(status().isNoContent());
+
+        verify(pedidoService).confirmarPedidoDaFila(1L);
+    }
+
+    @Test
+    @DisplayName("POST /api/pedidos/fila/{id}/ack - Deve retornar 404 sem entrega pendente")
+    void confirmarPedido_SemEntregaPendente_DeveRetornar404() throws Exception {
+        // Arrange
+        doThrow(new PedidoNotFoundException("Nenhuma entrega pendente de confirmação para o pedido com ID: 2"))
+                .when(pedidoService).confirmarPedidoDaFila(2L);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos/fila/2/ack"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/pedidos - Deve retornar 429 com Retry-After quando a fila estiver cheia")
+    void criarPedido_ComFilaCheia_DeveRetornar429() throws Exception {
+        // Arrange
+        PedidoRequestDTO request = new PedidoRequestDTO();
+        request.setNomeCliente("João Silva");
+        request.setDescricao("Pedido de teste");
+        request.setValor(new BigDecimal("100.00"));
+        when(pedidoService.criarPedido(any(PedidoRequestDTO.class))).thenThrow(new FilaCheiaException(10, 5));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("POST /api/pedidos - Cliente do formato binário deve receber 429 em JSON quando a fila estiver cheia")
+    void criarPedido_ComFilaCheiaEAcceptBinario_DeveRetornar429EmJson() throws Exception {
+        // Arrange
+        PedidoRequestDTO request = new PedidoRequestDTO("João Silva", "Pedido de teste", new BigDecimal("100.00"));
+        when(pedidoService.criarPedido(any(PedidoRequestDTO.class))).thenThrow(new FilaCheiaException(10, 5));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos")
+                        .contentType(PedidoBinaryFormat.MEDIA_TYPE)
+                        .accept(PedidoBinaryFormat.MEDIA_TYPE)
+                        .content(PedidoBinaryFormat.codificar(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos/fila/status - Deve informar capacidade e utilização da fila limitada")
+    void obterStatusDaFila_ComFilaLimitada_DeveInformarUtilizacao() throws Exception {
+        // Arrange
+        when(pedidoService.getTamanhoDaFila()).thenReturn(5);
+        when(pedidoService.getCapacidadeDaFila()).thenReturn(10);
+        when(pedidoService.getUtilizacaoDaFila()).thenReturn(0.5);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/fila/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacidade").value(10))
+                .andExpect(jsonPath("$.utilizacao").value(0.5));
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos/fila/mensagens - Deve retornar página e tamanho total da fila")
+    void listarMensagensDaFila_ComPaginacao_DeveRetornarPagina() throws Exception {
+        // Arrange
+        when(pedidoService.obterPaginaDeMensagens(20, 100)).thenReturn(Collections.singletonList(pedidoResponse));
+        when(pedidoService.getTamanhoDaFila()).thenReturn(21);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/fila/mensagens").param("offset", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "21"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(pedidoService, never()).obterTodasAsMensagens();
+    }
+
+    @Test
+    @DisplayName("GET /api/pedidos/fila/mensagens - Deve rejeitar limit fora do intervalo com 400")
+    void listarMensagensDaFila_ComLimitInvalido_DeveRetornar400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/fila/mensagens").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pedidos/fila/mensagens").param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.apipedidos.dataset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes para o gerador de massa de dados sintética
+ */
+class DatasetGeneratorTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE pedidos (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "nome_cliente VARCHAR(255) NOT NULL, descricao VARCHAR(500) NOT NULL, "
+                + "valor DECIMAL(10,2) NOT NULL, data_pedido TIMESTAMP NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve inserir a quantidade pedida com valores e datas dentro dos limites")
+    void deveInserirPedidosDentroDosLimites() throws Exception {
+        DatasetSpec spec = spec(20_000);
+        spec.setThreads(4);
+
+        long inseridas = new DatasetGenerator(spec).gerar(database);
+
+        assertThat(inseridas).isEqualTo(20_000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos", Long.class)).isEqualTo(20_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(valor) FROM pedidos", BigDecimal.class))
+                .isGreaterThanOrEqualTo(new BigDecimal("0.01"));
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(CAST(data_pedido AS DATE)) FROM pedidos", java.sql.Date.class)
+                .toLocalDate()).isBeforeOrEqualTo(spec.getDataFinal());
+    }
+
+    @Test
+    @DisplayName("Clientes devem seguir distribuição concentrada (Zipf)")
+    void clientesDevemSeguirDistribuicaoZipf() throws Exception {
+        new DatasetGenerator(spec(20_000)).gerar(database);
+
+        List<Map<String, Object>> ranking = jdbcTemplate.queryForList(
+                "SELECT nome_cliente, COUNT(*) AS total FROM pedidos GROUP BY nome_cliente ORDER BY total DESC");
+
+        long maisFrequente = ((Number) ranking.get(0).get("TOTAL")).longValue();
+        long decimo = ((Number) ranking.get(9).get("TOTAL")).longValue();
+        assertThat(maisFrequente).isGreaterThan(decimo * 5);
+        assertThat(ranking.size()).isGreaterThan(500);
+    }
+
+    @Test
+    @DisplayName("Mesma semente deve gerar os mesmos pedidos independentemente do número de threads")
+    void mesmaSementeDeveGerarMesmosPedidos() {
+        DatasetSpec umaThread = spec(3_000);
+        umaThread.setThreads(1);
+        DatasetSpec quatroThreads = spec(3_000);
+        quatroThreads.setThreads(4);
+
+        DatasetGenerator.Linha a = new DatasetGenerator(umaThread).gerarBloco(2).get(10);
+        DatasetGenerator.Linha b = new DatasetGenerator(quatroThreads).gerarBloco(2).get(10);
+
+        assertThat(a.nomeCliente).isEqualTo(b.nomeCliente);
+        assertThat(a.valorCentavos).isEqualTo(b.valorCentavos);
+        assertThat(a.dataPedido).isEqualTo(b.dataPedido);
+    }
+
+    private DatasetSpec spec(long linhas) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setLinhas(linhas);
+        spec.setClientes(1_000);
+        spec.setLote(1_000);
+        spec.setDataFinal(LocalDate.of(2024, 12, 31));
+        return spec;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.apipedidos.jfr;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.service.fila.FilaPedidos;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para a emissão dos eventos JFR da fila de pedidos
+ */
+class FilaOperacaoEventTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve emitir eventos de push e pop com a profundidade da fila")
+    void deveEmitirEventosDaFila() throws Exception {
+        FilaPedidos filaPedidos = new FilaPedidos();
+        Path arquivo = diretorio.resolve("fila.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.apipedidos.FilaOperacao");
+            recording.start();
+
+            filaPedidos.enfileirar(pedido(1L));
+            filaPedidos.enfileirar(pedido(2L));
+            filaPedidos.desenfileirar();
+
+            recording.stop();
+            recording.dump(arquivo);
+        }
+
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(arquivo).stream()
+                .filter(evento -> "com.example.apipedidos.FilaOperacao".equals(evento.getEventType().getName()))
+                .collect(Collectors.toList());
+
+        assertThat(eventos).hasSize(3);
+        assertThat(eventos).extracting(evento -> evento.getString("operacao"))
+                .containsExactly(FilaOperacaoEvent.PUSH, FilaOperacaoEvent.PUSH, FilaOperacaoEvent.POP);
+        assertThat(eventos).extracting(evento -> evento.getInt("profundidade")).containsExactly(1, 2, 1);
+        assertThat(eventos.get(2).getLong("pedidoId")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve detectar a API do Flight Recorder no runtime")
+    void deveDetectarApiDoFlightRecorder() {
+        assertThat(Jfr.DISPONIVEL).isTrue();
+    }
+
+    private PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id, new BigDecimal("10.00"), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.dto.FilaStatusDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o conversor JSON com fragmentos pré-serializados de pedidos
+ */
+class PedidoJsonHttpMessageConverterTest {
+
+    private static final Type LISTA_PEDIDOS = new TypeReference<List<PedidoResponseDTO>>() {}.getType();
+
+    private ObjectMapper objectMapper;
+    private PedidoJsonCache cache;
+    private PedidoJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cache = new PedidoJsonCache(objectMapper, 1024 * 1024);
+        converter = new PedidoJsonHttpMessageConverter(objectMapper, cache);
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo JSON do Jackson para pedido e lista de pedidos")
+    void deveProduzirMesmoJsonDoJackson() throws Exception {
+        List<PedidoResponseDTO> pedidos = Arrays.asList(pedido(1L, "José Ação"), pedido(2L, "Maria \"Aspas\""));
+
+        assertThat(escrever(pedidos.get(0), PedidoResponseDTO.class))
+                .isEqualTo(objectMapper.writeValueAsString(pedidos.get(0)));
+        assertThat(escrever(pedidos, LISTA_PEDIDOS)).isEqualTo(objectMapper.writeValueAsString(pedidos));
+        assertThat(escrever(Arrays.asList(), LISTA_PEDIDOS)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o fragmento e regerá-lo quando o pedido mudar")
+    void deveReaproveitarFragmentoERegerarQuandoPedidoMudar() throws Exception {
+        PedidoResponseDTO pedido = pedido(1L, "Cliente");
+        byte[] primeiro = cache.fragmento(pedido);
+
+        assertThat(cache.fragmento(pedido(1L, "Cliente"))).isSameAs(primeiro);
+
+        PedidoResponseDTO alterado = pedido(1L, "Cliente Alterado");
+        assertThat(new String(cache.fragmento(alterado), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(alterado));
+    }
+
+    @Test
+    @DisplayName("Peso da entrada deve incluir as strings da cópia do pedido, não só o JSON")
+    void pesoDeveIncluirStringsDaCopia() throws Exception {
+        StringBuilder descricao = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            descricao.append('x');
+        }
+        PedidoResponseDTO pedido = new PedidoResponseDTO(1L, "Cliente", descricao.toString(),
+                new BigDecimal("150.75"), LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+
+        byte[] json = cache.fragmento(pedido);
+        cache.getCache().cleanUp();
+
+        long peso = cache.getCache().policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        assertThat(peso).isGreaterThanOrEqualTo(json.length + 2L * (descricao.length() + "Cliente".length()));
+    }
+
+    @Test
+    @DisplayName("Demais tipos devem seguir pela serialização Jackson")
+    void demaisTiposDevemUsarJackson() throws Exception {
+        FilaStatusDTO status = new FilaStatusDTO(3, false);
+
+        assertThat(escrever(status, FilaStatusDTO.class)).isEqualTo(objectMapper.writeValueAsString(status));
+        assertThat(cache.getCache().estimatedSize()).isZero();
+    }
+
+    private String escrever(Object objeto, Type tipo) throws Exception {
+        MockHttpOutputMessage mensagem = new MockHttpOutputMessage();
+        converter.write(objeto, tipo, MediaType.APPLICATION_JSON, mensagem);
+        return mensagem.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    private PedidoResponseDTO pedido(Long id, String nomeCliente) {
+        return new PedidoResponseDTO(id, nomeCliente, "Pedido " + id, new BigDecimal("150.75"),
+                LocalDateTime.of(2024, 1, 15, 10, 30, 45));
+    }
+}
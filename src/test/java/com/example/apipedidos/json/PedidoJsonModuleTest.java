@@ -0,0 +1,85 @@
+package com.example.apipedidos.json;
+
+import com.example.apipedidos.dto.PedidoRequestDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para os (des)serializadores streaming dos DTOs de pedido
+ */
+class PedidoJsonModuleTest {
+
+    private ObjectMapper padrao;
+    private ObjectMapper streaming;
+
+    @BeforeEach
+    void setUp() {
+        padrao = mapper().build();
+        streaming = mapper().modulesToInstall(new PedidoJsonModule()).build();
+    }
+
+    @Test
+    @DisplayName("Deve serializar PedidoResponseDTO igual à serialização por reflexão")
+    void deveSerializarIgualAoPadrao() throws Exception {
+        LocalDateTime data = LocalDateTime.of(2024, 1, 15, 10, 30, 45);
+        List<PedidoResponseDTO> pedidos = Arrays.asList(
+                new PedidoResponseDTO(1L, "José \"Ação\"", "Pedido\ncom quebra", new BigDecimal("150.75"), data),
+                new PedidoResponseDTO(2L, "Cliente", "Zero", new BigDecimal("0.00"), data.withSecond(0)),
+                new PedidoResponseDTO(3L, "Cliente", "Centavos", new BigDecimal("0.05"), data.withNano(120_000_000)),
+                new PedidoResponseDTO(4L, "Cliente", "Negativo", new BigDecimal("-99999999.99"), data.withNano(1)),
+                new PedidoResponseDTO(5L, "Cliente", "Inteiro", new BigDecimal("42"), data.withNano(123_456_000)),
+                new PedidoResponseDTO(6L, "Cliente", "Um centavo", new BigDecimal("0.01"), data),
+                new PedidoResponseDTO(7L, "Cliente", "Máximo", new BigDecimal("92233720368547758.07"), data),
+                new PedidoResponseDTO(null, null, null, null, null));
+
+        for (PedidoResponseDTO pedido : pedidos) {
+            assertThat(streaming.writeValueAsString(pedido)).isEqualTo(padrao.writeValueAsString(pedido));
+        }
+        assertThat(streaming.writeValueAsString(pedidos)).isEqualTo(padrao.writeValueAsString(pedidos));
+    }
+
+    @Test
+    @DisplayName("Deve desserializar PedidoRequestDTO com as mesmas coerções do padrão")
+    void deveDesserializarIgualAoPadrao() throws Exception {
+        List<String> jsons = Arrays.asList(
+                "{\"nomeCliente\":\"João\",\"descricao\":\"Pedido\",\"valor\":150.75}",
+                "{\"valor\":\"10.50\",\"nomeCliente\":\"Maria\",\"campoExtra\":{\"a\":[1,2]},\"descricao\":\"X\"}",
+                "{\"nomeCliente\":null,\"valor\":10}",
+                "{}");
+
+        for (String json : jsons) {
+            assertThat(streaming.readValue(json, PedidoRequestDTO.class))
+                    .isEqualTo(padrao.readValue(json, PedidoRequestDTO.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Valor inválido deve gerar o mesmo erro de formato do padrão")
+    void valorInvalidoDeveGerarErroDeFormato() {
+        String json = "{\"nomeCliente\":\"João\",\"descricao\":\"Pedido\",\"valor\":\"abc\"}";
+
+        assertThatThrownBy(() -> streaming.readValue(json, PedidoRequestDTO.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("America/Sao_Paulo"));
+    }
+}
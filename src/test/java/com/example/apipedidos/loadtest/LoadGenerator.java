@@ -0,0 +1,236 @@
+package com.example.apipedidos.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gerador de carga em malha aberta (open-loop) para a API de Pedidos
+ *
+ * As chegadas seguem uma taxa constante independente das respostas, disparadas
+ * por um cliente HTTP assíncrono. A latência é medida a partir do instante em que
+ * a requisição deveria ter sido enviada, de modo que atrasos do servidor (ou do
+ * próprio gerador) não escondem amostras lentas (coordinated omission).
+ */
+public class LoadGenerator {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int MAX_IDS = 1 << 16;
+
+    private final LoadGeneratorConfig config;
+    private final Workload workload;
+
+    private final Map<LoadOperation, Histogram> histogramas = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> erros = new EnumMap<>(LoadOperation.class);
+    private final LongAdder descartadas = new LongAdder();
+    private final AtomicInteger emVoo = new AtomicInteger();
+
+    private final AtomicLongArray ids = new AtomicLongArray(MAX_IDS);
+    private final AtomicInteger totalIds = new AtomicInteger();
+
+    private volatile boolean medindo;
+    private CloseableHttpAsyncClient client;
+
+    public LoadGenerator(LoadGeneratorConfig config) {
+        this.config = config;
+        this.workload = Workload.parse(config.getCarga());
+        for (LoadOperation operacao : LoadOperation.values()) {
+            histogramas.put(operacao, new ConcurrentHistogram(3));
+            erros.put(operacao, new LongAdder());
+        }
+    }
+
+    /**
+     * Executa pré-carga, aquecimento e fase medida
+     * @return Relatório da fase medida
+     */
+    public LoadReport run() throws InterruptedException {
+        client = HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(config.getMaxEmVoo())
+                        .setMaxConnPerRoute(config.getMaxEmVoo())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofSeconds(config.getTimeout()))
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(config.getTimeout()))
+                        .build())
+                .build();
+        client.start();
+        try {
+            preCarregar();
+
+            medindo = false;
+            executarFase(config.getAquecimento());
+            aguardarEmVoo();
+
+            medindo = true;
+            long inicio = System.nanoTime();
+            executarFase(config.getDuracao());
+            aguardarEmVoo();
+            double duracaoSegundos = (System.nanoTime() - inicio) / 1e9;
+
+            return montarRelatorio(duracaoSegundos);
+        } finally {
+            client.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    private void preCarregar() throws InterruptedException {
+        for (int i = 0; i < config.getPreCarga(); i++) {
+            disparar(LoadOperation.CRIAR, System.nanoTime());
+            while (emVoo.get() >= 32) {
+                Thread.sleep(1);
+            }
+        }
+        aguardarEmVoo();
+    }
+
+    private void executarFase(int segundos) {
+        if (segundos <= 0) {
+            return;
+        }
+        long intervalo = (long) (TimeUnit.SECONDS.toNanos(1) / config.getTaxa());
+        long inicio = System.nanoTime();
+        long fim = inicio + TimeUnit.SECONDS.toNanos(segundos);
+        Random random = ThreadLocalRandom.current();
+
+        for (long i = 0; ; i++) {
+            long agendado = inicio + i * intervalo;
+            if (agendado >= fim) {
+                return;
+            }
+            long espera = agendado - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            if (emVoo.get() >= config.getMaxEmVoo()) {
+                if (medindo) {
+                    descartadas.increment();
+                }
+                continue;
+            }
+            disparar(workload.proxima(random), agendado);
+        }
+    }
+
+    private void disparar(LoadOperation operacao, long agendado) {
+        emVoo.incrementAndGet();
+        boolean medir = medindo;
+        client.execute(requisicao(operacao), new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                registrar(operacao, agendado, medir, response.getCode() >= 400);
+                if (operacao == LoadOperation.CRIAR && response.getCode() == 201) {
+                    guardarId(response.getBodyText());
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                registrar(operacao, agendado, medir, true);
+            }
+
+            @Override
+            public void cancelled() {
+                registrar(operacao, agendado, medir, true);
+            }
+        });
+    }
+
+    private void registrar(LoadOperation operacao, long agendado, boolean medir, boolean erro) {
+        if (medir) {
+            histogramas.get(operacao).recordValue(Math.max(0, System.nanoTime() - agendado));
+            if (erro) {
+                erros.get(operacao).increment();
+            }
+        }
+        emVoo.decrementAndGet();
+    }
+
+    private SimpleHttpRequest requisicao(LoadOperation operacao) {
+        String url = config.getUrl() + operacao.getCaminho();
+        switch (operacao) {
+            case CRIAR:
+                int n = ThreadLocalRandom.current().nextInt(1_000_000);
+                return SimpleRequestBuilder.post(url)
+                        .setBody("{\"nomeCliente\":\"Cliente " + (n % 1000) + "\",\"descricao\":\"Pedido de carga " + n
+                                + "\",\"valor\":" + (10 + n % 990) + ".90}", ContentType.APPLICATION_JSON)
+                        .build();
+            case BUSCAR:
+                return SimpleRequestBuilder.get(url.replace("{id}", Long.toString(idAleatorio()))).build();
+            case FILA_PROCESSAR:
+                return SimpleRequestBuilder.post(url).build();
+            default:
+                return SimpleRequestBuilder.get(url).build();
+        }
+    }
+
+    private void guardarId(String corpo) {
+        if (corpo == null) {
+            return;
+        }
+        Matcher matcher = ID_PATTERN.matcher(corpo);
+        if (matcher.find()) {
+            int posicao = totalIds.getAndIncrement();
+            ids.set(posicao & (MAX_IDS - 1), Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    private long idAleatorio() {
+        int total = Math.min(totalIds.get(), MAX_IDS);
+        return total == 0 ? 1L : ids.get(ThreadLocalRandom.current().nextInt(total));
+    }
+
+    private void aguardarEmVoo() throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getTimeout() + 1L);
+        while (emVoo.get() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+
+    private LoadReport montarRelatorio(double duracaoSegundos) {
+        LoadReport relatorio = new LoadReport();
+        relatorio.setUrl(config.getUrl());
+        relatorio.setTaxaAlvo(config.getTaxa());
+        relatorio.setDuracaoSegundos(duracaoSegundos);
+        relatorio.setDescartadas(descartadas.sum());
+
+        Histogram total = new Histogram(3);
+        long totalErros = 0;
+        for (LoadOperation operacao : LoadOperation.values()) {
+            Histogram histograma = histogramas.get(operacao);
+            if (histograma.getTotalCount() == 0) {
+                continue;
+            }
+            long errosOperacao = erros.get(operacao).sum();
+            relatorio.getOperacoes().put(operacao.name().toLowerCase(),
+                    LoadReport.OperationStats.of(histograma, errosOperacao, duracaoSegundos));
+            total.add(histograma);
+            totalErros += errosOperacao;
+        }
+        relatorio.setTotal(LoadReport.OperationStats.of(total, totalErros, duracaoSegundos));
+        return relatorio;
+    }
+}
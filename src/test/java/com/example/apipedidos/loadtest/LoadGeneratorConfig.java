@@ -0,0 +1,67 @@
+package com.example.apipedidos.loadtest;
+
+import lombok.Data;
+
+/**
+ * Parâmetros de execução do gerador de carga
+ */
+@Data
+public class LoadGeneratorConfig {
+
+    /** URL base da aplicação */
+    private String url = "http://localhost:8080";
+
+    /** Taxa de chegada constante (requisições por segundo) */
+    private double taxa = 200;
+
+    /** Duração da fase medida, em segundos */
+    private int duracao = 30;
+
+    /** Duração do aquecimento (não medido), em segundos */
+    private int aquecimento = 5;
+
+    /** Pesos da carga mista (ver {@link Workload}) */
+    private String carga = Workload.PADRAO;
+
+    /** Pedidos criados antes da execução para alimentar as buscas por ID */
+    private int preCarga = 100;
+
+    /** Limite de requisições em voo; chegadas além dele são contadas como descartadas */
+    private int maxEmVoo = 2_000;
+
+    /** Timeout de cada requisição, em segundos */
+    private int timeout = 10;
+
+    /** Arquivo do relatório JSON */
+    private String relatorio = "target/loadtest/report.json";
+
+    /**
+     * Cria a configuração a partir de argumentos "--chave=valor"
+     * (url, taxa, duracao, aquecimento, carga, pre-carga, max-em-voo, timeout, relatorio)
+     * @param args Argumentos de linha de comando
+     * @return Configuração com os valores informados sobre os padrões
+     */
+    public static LoadGeneratorConfig fromArgs(String... args) {
+        LoadGeneratorConfig config = new LoadGeneratorConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido (use --chave=valor): " + arg);
+            }
+            String chave = arg.substring(2, arg.indexOf('='));
+            String valor = arg.substring(arg.indexOf('=') + 1);
+            switch (chave) {
+                case "url": config.setUrl(valor); break;
+                case "taxa": config.setTaxa(Double.parseDouble(valor)); break;
+                case "duracao": config.setDuracao(Integer.parseInt(valor)); break;
+                case "aquecimento": config.setAquecimento(Integer.parseInt(valor)); break;
+                case "carga": config.setCarga(valor); break;
+                case "pre-carga": config.setPreCarga(Integer.parseInt(valor)); break;
+                case "max-em-voo": config.setMaxEmVoo(Integer.parseInt(valor)); break;
+                case "timeout": config.setTimeout(Integer.parseInt(valor)); break;
+                case "relatorio": config.setRelatorio(valor); break;
+                default: throw new IllegalArgumentException("Argumento desconhecido: " + chave);
+            }
+        }
+        return config;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.apipedidos.loadtest;
+
+import java.nio.file.Paths;
+
+/**
+ * Ponto de entrada de linha de comando do gerador de carga
+ *
+ * Uso: mvn -Ploadtest test-compile exec:java -Dloadtest.args="--taxa=500 --duracao=60"
+ */
+public class LoadGeneratorMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs(args);
+        LoadReport relatorio = new LoadGenerator(config).run();
+
+        System.out.print(relatorio.toText());
+        relatorio.writeJson(Paths.get(config.getRelatorio()));
+        System.out.println("Relatório gravado em " + config.getRelatorio());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.apipedidos.loadtest;
+
+/**
+ * Operações disponíveis para compor a carga mista
+ */
+public enum LoadOperation {
+
+    CRIAR("POST", "/api/pedidos"),
+    BUSCAR("GET", "/api/pedidos/{id}"),
+    LISTAR("GET", "/api/pedidos"),
+    FILA_STATUS("GET", "/api/pedidos/fila/status"),
+    FILA_PROXIMO("GET", "/api/pedidos/fila/proximo"),
+    FILA_PROCESSAR("POST", "/api/pedidos/fila/processar");
+
+    private final String metodo;
+    private final String caminho;
+
+    LoadOperation(String metodo, String caminho) {
+        this.metodo = metodo;
+        this.caminho = caminho;
+    }
+
+    public String getMetodo() {
+        return metodo;
+    }
+
+    public String getCaminho() {
+        return caminho;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.apipedidos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Relatório de uma execução do gerador de carga
+ *
+ * Latências medidas a partir do instante agendado de cada chegada (sem
+ * coordinated omission), em milissegundos.
+ */
+@Data
+@NoArgsConstructor
+public class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private String url;
+    private double taxaAlvo;
+    private double duracaoSegundos;
+    private long descartadas;
+    private OperationStats total;
+    private Map<String, OperationStats> operacoes = new LinkedHashMap<>();
+
+    /**
+     * Estatísticas de latência e vazão de uma operação
+     */
+    @Data
+    @NoArgsConstructor
+    public static class OperationStats {
+        private long requisicoes;
+        private long erros;
+        private double vazao;
+        private double media;
+        private double p50;
+        private double p90;
+        private double p99;
+        private double p999;
+        private double maximo;
+
+        static OperationStats of(Histogram histograma, long erros, double duracaoSegundos) {
+            OperationStats stats = new OperationStats();
+            stats.requisicoes = histograma.getTotalCount();
+            stats.erros = erros;
+            stats.vazao = duracaoSegundos > 0 ? histograma.getTotalCount() / duracaoSegundos : 0;
+            stats.media = histograma.getMean() / 1e6;
+            stats.p50 = histograma.getValueAtPercentile(50) / 1e6;
+            stats.p90 = histograma.getValueAtPercentile(90) / 1e6;
+            stats.p99 = histograma.getValueAtPercentile(99) / 1e6;
+            stats.p999 = histograma.getValueAtPercentile(99.9) / 1e6;
+            stats.maximo = histograma.getMaxValue() / 1e6;
+            return stats;
+        }
+    }
+
+    public void writeJson(Path arquivo) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        MAPPER.writeValue(arquivo.toFile(), this);
+    }
+
+    public static LoadReport readJson(Path arquivo) throws IOException {
+        return MAPPER.readValue(arquivo.toFile(), LoadReport.class);
+    }
+
+    public String toText() {
+        StringBuilder texto = new StringBuilder();
+        texto.append(String.format(Locale.ROOT, "Alvo: %s  taxa: %.1f req/s  duração: %.1f s  descartadas: %d%n",
+                url, taxaAlvo, duracaoSegundos, descartadas));
+        texto.append(String.format(Locale.ROOT, "%-16s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operação", "reqs", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        operacoes.forEach((nome, stats) -> linha(texto, nome, stats));
+        linha(texto, "TOTAL", total);
+        return texto.toString();
+    }
+
+    private static void linha(StringBuilder texto, String nome, OperationStats stats) {
+        texto.append(String.format(Locale.ROOT, "%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                nome, stats.requisicoes, stats.erros, stats.vazao,
+                stats.p50, stats.p90, stats.p99, stats.p999, stats.maximo));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.apipedidos.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Carga mista ponderada entre as operações da API
+ *
+ * Definida por pesos relativos no formato "criar=20,buscar=50,listar=5".
+ */
+public class Workload {
+
+    public static final String PADRAO = "criar=20,buscar=50,listar=5,fila_status=10,fila_proximo=5,fila_processar=10";
+
+    private final LoadOperation[] operacoes;
+    private final double[] acumulado;
+
+    private Workload(Map<LoadOperation, Double> pesos) {
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("Carga sem operações");
+        }
+        operacoes = pesos.keySet().toArray(new LoadOperation[0]);
+        acumulado = new double[operacoes.length];
+        double total = pesos.values().stream().mapToDouble(Double::doubleValue).sum();
+        double soma = 0;
+        for (int i = 0; i < operacoes.length; i++) {
+            soma += pesos.get(operacoes[i]) / total;
+            acumulado[i] = soma;
+        }
+        acumulado[operacoes.length - 1] = 1.0;
+    }
+
+    /**
+     * Interpreta a especificação de pesos da carga
+     * @param especificacao Pesos no formato "operacao=peso,..." (nomes de {@link LoadOperation}, sem distinção de caixa)
+     * @return Carga correspondente
+     */
+    public static Workload parse(String especificacao) {
+        Map<LoadOperation, Double> pesos = new EnumMap<>(LoadOperation.class);
+        for (String item : especificacao.split(",")) {
+            String[] partes = item.trim().split("=");
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Peso inválido: " + item);
+            }
+            double peso = Double.parseDouble(partes[1].trim());
+            if (peso > 0) {
+                pesos.put(LoadOperation.valueOf(partes[0].trim().toUpperCase()), peso);
+            }
+        }
+        return new Workload(pesos);
+    }
+
+    public LoadOperation proxima(Random random) {
+        double sorteio = random.nextDouble();
+        for (int i = 0; i < acumulado.length; i++) {
+            if (sorteio < acumulado[i]) {
+                return operacoes[i];
+            }
+        }
+        return operacoes[operacoes.length - 1];
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.apipedidos.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o valor monetário em ponto fixo
+ */
+class ValorTest {
+
+    @Test
+    @DisplayName("Deve converter BigDecimal para centavos sem arredondar")
+    void deveConverterSemArredondar() {
+        assertThat(Valor.de(new BigDecimal("150.75")).getCentavos()).isEqualTo(15075L);
+        assertThat(Valor.de(new BigDecimal("100")).getCentavos()).isEqualTo(10000L);
+        assertThat(Valor.de(new BigDecimal("50.5")).getCentavos()).isEqualTo(5050L);
+        assertThat(Valor.de(new BigDecimal("-0.05")).getCentavos()).isEqualTo(-5L);
+        assertThat(Valor.de(new BigDecimal("1.2300")).getCentavos()).isEqualTo(123L);
+        assertThat(Valor.de(null)).isNull();
+
+        assertThatThrownBy(() -> Valor.de(new BigDecimal("99.999"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Valor.de(new BigDecimal("92233720368547758.08"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Deve voltar para BigDecimal com escala 2")
+    void deveVoltarParaBigDecimalComEscala2() {
+        assertThat(Valor.deCentavos(15075L).toBigDecimal()).isEqualTo(new BigDecimal("150.75"));
+        assertThat(Valor.de(new BigDecimal("100")).toBigDecimal()).isEqualTo(new BigDecimal("100.00"));
+        assertThat(Valor.deCentavos(-5L)).hasToString("-0.05");
+        assertThat(Valor.toBigDecimal(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve somar, subtrair e multiplicar em centavos detectando estouro")
+    void deveOperarEmCentavos() {
+        Valor valor = Valor.de(new BigDecimal("10.10"));
+
+        assertThat(valor.somar(Valor.de(new BigDecimal("0.20")))).isEqualTo(Valor.deCentavos(1030L));
+        assertThat(valor.subtrair(Valor.deCentavos(1010L))).isSameAs(Valor.ZERO);
+        assertThat(valor.multiplicar(3)).isEqualTo(Valor.de(new BigDecimal("30.30")));
+        assertThat(valor.compareTo(Valor.deCentavos(1011L))).isNegative();
+        assertThatThrownBy(() -> Valor.deCentavos(Long.MAX_VALUE).somar(Valor.deCentavos(1L)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("JPA e JSON devem manter o formato decimal")
+    void jpaEJsonDevemManterFormatoDecimal() throws Exception {
+        ValorConverter converter = new ValorConverter();
+        Valor valor = Valor.deCentavos(15075L);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(converter.convertToDatabaseColumn(valor)).isEqualTo(new BigDecimal("150.75"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("150.75"))).isEqualTo(valor);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(objectMapper.writeValueAsString(valor)).isEqualTo("150.75");
+        assertThat(objectMapper.readValue("150.75", Valor.class)).isEqualTo(valor);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.apipedidos.perf;
+
+import com.example.apipedidos.dataset.DatasetGenerator;
+import com.example.apipedidos.dataset.DatasetSpec;
+import com.example.apipedidos.loadtest.LoadGenerator;
+import com.example.apipedidos.loadtest.LoadGeneratorConfig;
+import com.example.apipedidos.loadtest.LoadReport;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de regressão de performance dos endpoints REST
+ *
+ * Sobe a aplicação em H2 com uma massa de dados sintética de tamanho configurável
+ * (ver {@link DatasetGenerator}), executa cenários de carga em malha aberta
+ * (ver {@link LoadGenerator}) e compara vazão e p99 com o baseline versionado. Executado apenas pelo perfil Maven {@code perf}:
+ *
+ * <pre>
+ * mvn -Pperf test
+ * mvn -Pperf test -Dperf.dataset.size=50000 -Dperf.tolerance=0.3
+ * mvn -Pperf test -Dperf.update-baseline=true   # regrava o baseline
+ * </pre>
+ *
+ * Em malha aberta a vazão medida acompanha a taxa enquanto o servidor dá conta, por isso
+ * cada cenário também falha se houver chegadas descartadas ou se a vazão ficar abaixo da
+ * taxa alvo (tolerância {@code perf.rate-tolerance}). O cenário {@code buscar_saturado}
+ * limita as requisições em voo e dispara acima da capacidade, funcionando como malha
+ * fechada: a vazão dele é a capacidade do servidor, e é essa que o baseline protege.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PerformanceRegressionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceRegressionTest.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Cenários roteirizados: nome, carga (pesos), taxa em req/s e, nos saturados, máximo em voo
+     */
+    private static final List<Cenario> CENARIOS = Arrays.asList(
+            new Cenario("listar", "listar=1", 5),
+            new Cenario("buscar", "buscar=1", 150),
+            new Cenario("criar", "criar=1", 100),
+            new Cenario("fila", "fila_status=4,fila_proximo=2,fila_processar=1,criar=1", 200),
+            new Cenario("misto", "criar=20,buscar=50,listar=1,fila_status=10,fila_processar=10", 100),
+            new Cenario("buscar_saturado", "buscar=1", 20_000, 16));
+
+    private final int tamanhoDataset = Integer.getInteger("perf.dataset.size", 5_000);
+    private final double tolerancia = Double.parseDouble(System.getProperty("perf.tolerance", "0.5"));
+    private final double toleranciaTaxa = Double.parseDouble(System.getProperty("perf.rate-tolerance", "0.05"));
+    private final double folgaP99Ms = Double.parseDouble(System.getProperty("perf.p99-slack-ms", "10"));
+    private final int duracao = Integer.getInteger("perf.duration", 10);
+    private final int aquecimento = Integer.getInteger("perf.warmup", 5);
+    private final boolean atualizarBaseline = Boolean.getBoolean("perf.update-baseline");
+    private final Path arquivoBaseline = Paths.get(System.getProperty("perf.baseline", "src/test/resources/perf/baseline.json"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void popularDataset() throws Exception {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setLinhas(tamanhoDataset);
+        spec.setThreads(2);
+        new DatasetGenerator(spec).gerar(dataSource);
+    }
+
+    @Test
+    @DisplayName("Vazão e p99 dos cenários não devem regredir em relação ao baseline")
+    void naoDeveRegredirEmRelacaoAoBaseline() throws Exception {
+        Map<String, Map<String, Double>> baseline = lerBaseline();
+        Map<String, Map<String, Double>> medido = new LinkedHashMap<>();
+        List<String> regressoes = new ArrayList<>();
+
+        for (Cenario cenario : CENARIOS) {
+            LoadReport relatorio = executar(cenario);
+            LoadReport.OperationStats total = relatorio.getTotal();
+            log.info("== Cenário {} (dataset {})\n{}", cenario.nome, tamanhoDataset, relatorio.toText());
+
+            Map<String, Double> resultado = new LinkedHashMap<>();
+            resultado.put("vazao", total.getVazao());
+            resultado.put("p99", total.getP99());
+            medido.put(cenario.nome, resultado);
+
+            if (total.getErros() > total.getRequisicoes() / 100) {
+                regressoes.add(String.format(Locale.ROOT, "%s: %d erros em %d requisições",
+                        cenario.nome, total.getErros(), total.getRequisicoes()));
+            }
+            if (!cenario.isSaturado()) {
+                verificarTaxa(cenario, relatorio, regressoes);
+            }
+            Map<String, Double> referencia = baseline.get(cenario.nome);
+            if (referencia != null && !atualizarBaseline) {
+                comparar(cenario.nome, referencia, total, regressoes);
+            }
+        }
+
+        if (atualizarBaseline || baseline.isEmpty()) {
+            Files.createDirectories(arquivoBaseline.toAbsolutePath().getParent());
+            MAPPER.writeValue(arquivoBaseline.toFile(), medido);
+            log.info("Baseline gravado em {}", arquivoBaseline.toAbsolutePath());
+        }
+
+        assertThat(regressoes).as("Regressões de performance (tolerância %.0f%%)", tolerancia * 100).isEmpty();
+    }
+
+    private LoadReport executar(Cenario cenario) throws Exception {
+        LoadGeneratorConfig config = new LoadGeneratorConfig();
+        config.setUrl("http://localhost:" + port);
+        config.setCarga(cenario.carga);
+        config.setTaxa(cenario.taxa);
+        config.setDuracao(duracao);
+        config.setAquecimento(aquecimento);
+        config.setPreCarga(cenario.carga.contains("buscar") ? 100 : 0);
+        if (cenario.isSaturado()) {
+            config.setMaxEmVoo(cenario.maxEmVoo);
+        }
+
+        LoadReport relatorio = new LoadGenerator(config).run();
+        relatorio.writeJson(Paths.get("target", "perf", cenario.nome + ".json"));
+        return relatorio;
+    }
+
+    /**
+     * Em malha aberta, o servidor precisa sustentar a taxa alvo sem descartes
+     */
+    private void verificarTaxa(Cenario cenario, LoadReport relatorio, List<String> regressoes) {
+        if (relatorio.getDescartadas() > 0) {
+            regressoes.add(String.format(Locale.ROOT, "%s: %d chegadas descartadas com o limite de requisições em voo",
+                    cenario.nome, relatorio.getDescartadas()));
+        }
+        double vazaoMinima = cenario.taxa * (1 - toleranciaTaxa);
+        if (relatorio.getTotal().getVazao() < vazaoMinima) {
+            regressoes.add(String.format(Locale.ROOT, "%s: vazão %.1f req/s abaixo da taxa alvo %.1f req/s",
+                    cenario.nome, relatorio.getTotal().getVazao(), cenario.taxa));
+        }
+    }
+
+    private void comparar(String nome, Map<String, Double> referencia, LoadReport.OperationStats total,
+                          List<String> regressoes) {
+        double vazaoMinima = referencia.get("vazao") * (1 - tolerancia);
+        if (total.getVazao() < vazaoMinima) {
+            regressoes.add(String.format(Locale.ROOT, "%s: vazão %.1f req/s abaixo do mínimo %.1f (baseline %.1f)",
+                    nome, total.getVazao(), vazaoMinima, referencia.get("vazao")));
+        }
+        double p99Maximo = referencia.get("p99") * (1 + tolerancia) + folgaP99Ms;
+        if (total.getP99() > p99Maximo) {
+            regressoes.add(String.format(Locale.ROOT, "%s: p99 %.2f ms acima do máximo %.2f ms (baseline %.2f ms)",
+                    nome, total.getP99(), p99Maximo, referencia.get("p99")));
+        }
+    }
+
+    private Map<String, Map<String, Double>> lerBaseline() throws Exception {
+        if (!Files.exists(arquivoBaseline)) {
+            log.info("Baseline inexistente em {}; será criado", arquivoBaseline.toAbsolutePath());
+            return new LinkedHashMap<>();
+        }
+        return MAPPER.readValue(arquivoBaseline.toFile(), new TypeReference<Map<String, Map<String, Double>>>() {});
+    }
+
+    private static final class Cenario {
+        private final String nome;
+        private final String carga;
+        private final double taxa;
+        private final int maxEmVoo;
+
+        private Cenario(String nome, String carga, double taxa) {
+            this(nome, carga, taxa, 0);
+        }
+
+        private Cenario(String nome, String carga, double taxa, int maxEmVoo) {
+            this.nome = nome;
+            this.carga = carga;
+            this.taxa = taxa;
+            this.maxEmVoo = maxEmVoo;
+        }
+
+        private boolean isSaturado() {
+            return maxEmVoo > 0;
+        }
+    }
+}
@@ -2,21 +2,30 @@ package com.example.apipedidos.service;
 
 import com.example.apipedidos.dto.PedidoRequestDTO;
 import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.exception.FilaCheiaException;
 import com.example.apipedidos.model.Pedido;
 import com.example.apipedidos.repository.PedidoRepository;
+import com.example.apipedidos.service.fila.FilaPedidos;
+import com.example.apipedidos.service.fila.FilaPedidosConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -28,6 +37,9 @@ class PedidoFilaServiceTest {
     @Mock
     private PedidoRepository pedidoRepository;
 
+    @Spy
+    private FilaPedidos filaPedidos = new FilaPedidos();
+
     @InjectMocks
     private PedidoService pedidoService;
 
@@ -64,6 +76,38 @@ class PedidoFilaServiceTest {
         assertThat(pedidoService.isFilaVazia()).isFalse();
     }
 
+    @Test
+    @DisplayName("Com a fila cheia, deve recusar o pedido sem gravá-lo no banco")
+    void comFilaCheiaNaoDeveGravarPedido() {
+        // Given
+        PedidoService servico = servicoComFilaDeCapacidade(1);
+        when(pedidoRepository.save(any(Pedido.class))).thenReturn(pedidoEntity);
+        servico.criarPedido(pedidoRequest);
+
+        // When & Then
+        assertThatThrownBy(() -> servico.criarPedido(pedidoRequest)).isInstanceOf(FilaCheiaException.class);
+        verify(pedidoRepository, times(1)).save(any(Pedido.class));
+    }
+
+    @Test
+    @DisplayName("Se a gravação falhar, a vaga reservada deve ser devolvida")
+    void falhaNaGravacaoDeveDevolverVaga() {
+        // Given
+        PedidoService servico = servicoComFilaDeCapacidade(1);
+        when(pedidoRepository.save(any(Pedido.class)))
+                .thenThrow(new DataIntegrityViolationException("falha simulada"))
+                .thenReturn(pedidoEntity);
+
+        // When
+        assertThatThrownBy(() -> servico.criarPedido(pedidoRequest))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        PedidoResponseDTO resultado = servico.criarPedido(pedidoRequest);
+
+        // Then
+        assertThat(resultado.getId()).isEqualTo(1L);
+        assertThat(servico.getTamanhoDaFila()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Deve processar pedido da fila em ordem LIFO")
     void deveProcessarPedidoEmOrdemLIFO() {
@@ -140,4 +184,13 @@ class PedidoFilaServiceTest {
         segundo.setDataPedido(LocalDateTime.now());
         return segundo;
     }
-}
\ No newline at end of file
+
+    private PedidoService servicoComFilaDeCapacidade(int capacidade) {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setCapacidade(capacidade);
+        PedidoService servico = new PedidoService();
+        ReflectionTestUtils.setField(servico, "pedidoRepository", pedidoRepository);
+        ReflectionTestUtils.setField(servico, "filaPedidos", new FilaPedidos(config));
+        return servico;
+    }
+}
@@ -5,20 +5,28 @@ import com.example.apipedidos.dto.PedidoResponseDTO;
 import com.example.apipedidos.exception.PedidoNotFoundException;
 import com.example.apipedidos.model.Pedido;
 import com.example.apipedidos.repository.PedidoRepository;
+import com.example.apipedidos.service.fila.FilaPedidos;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +43,9 @@ class PedidoServiceTest {
     @Mock
     private PedidoRepository pedidoRepository;
 
+    @Spy
+    private FilaPedidos filaPedidos = new FilaPedidos();
+
     @InjectMocks
     private PedidoService pedidoService;
 
@@ -188,6 +199,39 @@ class PedidoServiceTest {
         verify(pedidoRepository, times(1)).findById(id);
     }
 
+    @Test
+    @DisplayName("Buscas simultâneas pelo mesmo ID devem fazer uma única consulta")
+    void buscasSimultaneasDevemFazerUmaUnicaConsulta() throws Exception {
+        // Given
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(pedidoRepository.findById(1L)).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return Optional.of(pedidoEntitySalvo);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            List<Future<PedidoResponseDTO>> resultados = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                resultados.add(executor.submit(() -> pedidoService.buscarPedidoPorId(1L)));
+            }
+            long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pedidoService.getBuscasEmVoo().getTotalCompartilhadas() < 3 && System.nanoTime() < prazo) {
+                Thread.sleep(2);
+            }
+            liberar.countDown();
+
+            // Then
+            for (Future<PedidoResponseDTO> resultado : resultados) {
+                assertThat(resultado.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            }
+            verify(pedidoRepository, times(1)).findById(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     @DisplayName("Deve converter RequestDTO para Entity corretamente")
     void deveConverterRequestDTOParaEntityCorretamente() {
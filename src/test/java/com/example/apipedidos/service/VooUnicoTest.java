@@ -0,0 +1,123 @@
+package com.example.apipedidos.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para a coalescência de leituras concorrentes
+ */
+class VooUnicoTest {
+
+    private final VooUnico<Long, String> vooUnico = new VooUnico<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Chamadas simultâneas para a mesma chave devem compartilhar uma única carga")
+    void chamadasSimultaneasDevemCompartilharCarga() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger cargas = new AtomicInteger();
+
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            resultados.add(executor.submit(() -> vooUnico.executar(1L, () -> {
+                cargas.incrementAndGet();
+                aguardarLatch(liberar);
+                return "pedido 1";
+            })));
+        }
+        aguardar(() -> vooUnico.getTotalCompartilhadas() == 7);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).isEqualTo("pedido 1");
+        }
+        assertThat(cargas.get()).isEqualTo(1);
+        assertThat(vooUnico.getTotalCargas()).isEqualTo(1);
+        assertThat(vooUnico.getEmVoo()).isZero();
+    }
+
+    @Test
+    @DisplayName("A exceção da carga deve chegar a todas as chamadas coalescidas")
+    void excecaoDaCargaDeveChegarATodas() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            resultados.add(executor.submit(() -> vooUnico.executar(2L, () -> {
+                aguardarLatch(liberar);
+                throw new IllegalStateException("falha na consulta");
+            })));
+        }
+        aguardar(() -> vooUnico.getTotalCompartilhadas() == 2);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThatThrownBy(() -> resultado.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("falha na consulta");
+        }
+        assertThat(vooUnico.getEmVoo()).isZero();
+    }
+
+    @Test
+    @DisplayName("Depois que a carga termina, a próxima chamada deve consultar de novo")
+    void resultadoNaoDeveSerGuardadoAposCarga() {
+        AtomicInteger cargas = new AtomicInteger();
+
+        assertThat(vooUnico.executar(3L, () -> "v" + cargas.incrementAndGet())).isEqualTo("v1");
+        assertThat(vooUnico.executar(3L, () -> "v" + cargas.incrementAndGet())).isEqualTo("v2");
+        assertThat(vooUnico.getTotalCompartilhadas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Chaves diferentes não devem ser coalescidas")
+    void chavesDiferentesNaoDevemSerCoalescidas() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Future<String> primeira = executor.submit(() -> vooUnico.executar(4L, () -> {
+            aguardarLatch(liberar);
+            return "pedido 4";
+        }));
+        aguardar(() -> vooUnico.getEmVoo() == 1);
+
+        assertThat(vooUnico.executar(5L, () -> "pedido 5")).isEqualTo("pedido 5");
+        liberar.countDown();
+        assertThat(primeira.get(5, TimeUnit.SECONDS)).isEqualTo("pedido 4");
+        assertThat(vooUnico.getTotalCargas()).isEqualTo(2);
+    }
+
+    private static void aguardarLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 5 s").isLessThan(prazo);
+            TimeUnit.MILLISECONDS.sleep(2);
+        }
+    }
+}
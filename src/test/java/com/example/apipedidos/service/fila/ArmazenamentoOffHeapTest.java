@@ -0,0 +1,171 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o armazenamento off-heap da fila de pedidos
+ */
+class ArmazenamentoOffHeapTest {
+
+    @TempDir
+    Path diretorio;
+
+    private FilaPedidos fila;
+
+    @AfterEach
+    void tearDown() {
+        if (fila != null) {
+            fila.fechar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem LIFO e reconstruir os pedidos da memória direta")
+    void deveManterOrdemLifo() {
+        fila = new FilaPedidos(config(1, 1, true, 2));
+        PedidoResponseDTO semNomeNoDicionario = pedido(3L, "Cliente fora do dicionário");
+        PedidoResponseDTO vazio = new PedidoResponseDTO(null, null, null, (BigDecimal) null, null);
+
+        fila.enfileirar(pedido(1L, "Ana"));
+        fila.enfileirar(pedido(2L, "Bruno"));
+        fila.enfileirar(semNomeNoDicionario);
+        fila.enfileirar(vazio);
+
+        assertThat(fila.listar()).containsExactly(pedido(1L, "Ana"), pedido(2L, "Bruno"), semNomeNoDicionario, vazio);
+        assertThat(fila.espiar()).isEqualTo(vazio);
+        assertThat(fila.desenfileirar()).isEqualTo(vazio);
+        assertThat(fila.desenfileirar()).isEqualTo(semNomeNoDicionario);
+        assertThat(fila.desenfileirar()).isEqualTo(pedido(2L, "Bruno"));
+        assertThat(fila.desenfileirar()).isEqualTo(pedido(1L, "Ana"));
+        assertThat(fila.desenfileirar()).isNull();
+        assertThat(fila.idadeMaisAntigoNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os segmentos mais antigos em disco ao atingir o limite e recarregá-los")
+    void deveFazerSpillERecarregar() throws Exception {
+        fila = new FilaPedidos(config(1, 1, true, 100));
+        int quantidade = 25_000;
+        for (long i = 1; i <= quantidade; i++) {
+            fila.enfileirar(pedido(i, "Cliente " + (i % 10)));
+        }
+
+        FilaArmazenamentoDTO armazenamento = fila.getArmazenamento();
+        assertThat(armazenamento.getTipo()).isEqualTo("off-heap");
+        assertThat(armazenamento.getBytesReservados()).isLessThanOrEqualTo(armazenamento.getCapacidadeBytes());
+        assertThat(armazenamento.getSegmentosEmDisco()).isPositive();
+        assertThat(armazenamento.getBytesEmDisco()).isPositive();
+
+        List<PedidoResponseDTO> listados = fila.listar();
+        assertThat(listados).hasSize(quantidade);
+        assertThat(listados.get(0)).isEqualTo(pedido(1L, "Cliente 1"));
+
+        List<Long> ids = new ArrayList<>();
+        PedidoResponseDTO pedido;
+        while ((pedido = fila.desenfileirar()) != null) {
+            ids.add(pedido.getId());
+        }
+        assertThat(ids).hasSize(quantidade);
+        assertThat(ids.get(0)).isEqualTo(quantidade);
+        assertThat(ids.get(quantidade - 1)).isEqualTo(1L);
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(fila.getArmazenamento().getBytesEmDisco()).isZero();
+        assertThat(fila.getArmazenamento().getSegmentosLivres()).isLessThanOrEqualTo(2);
+
+        fila.fechar();
+        fila = null;
+        assertThat(arquivosDeSpill()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Páginas devem ler os segmentos em disco mesmo com recargas concorrentes do topo")
+    void paginasDevemLerSegmentosEmDisco() throws Exception {
+        fila = new FilaPedidos(config(1, 1, true, 100));
+        for (long i = 1; i <= 25_000; i++) {
+            fila.enfileirar(pedido(i, "Cliente " + (i % 10)));
+        }
+        assertThat(fila.getArmazenamento().getSegmentosEmDisco()).isPositive();
+        List<PedidoResponseDTO> listados = fila.listar();
+        for (int offset : new int[]{0, 100, 12_000, 24_990}) {
+            assertThat(fila.pagina(offset, 50))
+                    .isEqualTo(listados.subList(offset, Math.min(listados.size(), offset + 50)));
+        }
+
+        // O consumidor desce até os segmentos em disco: recargas truncam o spill durante as leituras
+        AtomicBoolean parar = new AtomicBoolean();
+        CompletableFuture<Void> consumidor = CompletableFuture.runAsync(() -> {
+            for (long proximo = 25_001; !parar.get(); ) {
+                for (int i = 0; i < 15_000; i++) {
+                    fila.desenfileirar();
+                }
+                for (int i = 0; i < 15_000; i++) {
+                    fila.enfileirar(pedido(proximo++, "Cliente " + (proximo % 10)));
+                }
+            }
+        });
+        try {
+            for (int rodada = 0; rodada < 200; rodada++) {
+                List<PedidoResponseDTO> pagina = fila.pagina(100, 50);
+                assertThat(pagina).isEqualTo(listados.subList(100, 150));
+            }
+        } finally {
+            parar.set(true);
+            consumidor.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Sem spill, enfileirar além do limite deve falhar")
+    void semSpillDeveFalharAoAtingirLimite() {
+        fila = new FilaPedidos(config(512, 1, false, 100));
+
+        assertThatThrownBy(() -> {
+            for (long i = 1; i <= 100_000; i++) {
+                fila.enfileirar(pedido(i, "Cliente"));
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessageContaining("off-heap");
+    }
+
+    private FilaPedidosConfig config(int segmentoKb, long maxMb, boolean spill, int capacidadeNomes) {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setArmazenamento(FilaPedidosConfig.TipoArmazenamento.OFF_HEAP);
+        config.setSegmentoKb(segmentoKb);
+        config.setOffHeapMaxMb(maxMb);
+        config.setSpillHabilitado(spill);
+        config.setDiretorioSpill(diretorio.toString());
+        config.setCapacidadeNomes(capacidadeNomes);
+        return config;
+    }
+
+    private List<Path> arquivosDeSpill() throws Exception {
+        List<Path> arquivos = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(diretorio)) {
+            stream.forEach(arquivos::add);
+        }
+        return arquivos;
+    }
+
+    private static PedidoResponseDTO pedido(Long id, String nomeCliente) {
+        return new PedidoResponseDTO(id, nomeCliente, "Pedido off-heap número " + id, new BigDecimal("99.90"),
+                LocalDateTime.of(2024, 3, 1, 8, 15, 30, 500_000_000));
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.FilaArmazenamentoDTO;
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para a fila de pedidos particionada por cliente
+ */
+class ArmazenamentoParticionadoTest {
+
+    private static final int PARTICOES = 4;
+
+    @Test
+    @DisplayName("Um cliente com muitos pedidos não deve atrasar os demais")
+    void deveAlternarEntreClientes() {
+        FilaPedidos fila = new FilaPedidos(config(1));
+        List<String> clientes = clientesEmParticoesDistintas(3);
+        long id = 1;
+        for (int i = 0; i < 10; i++) {
+            fila.enfileirar(pedido(id++, clientes.get(0)));
+        }
+        fila.enfileirar(pedido(id++, clientes.get(1)));
+        fila.enfileirar(pedido(id, clientes.get(2)));
+
+        Set<String> primeiros = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            primeiros.add(fila.desenfileirar().getNomeCliente());
+        }
+        assertThat(primeiros).containsExactlyInAnyOrderElementsOf(clientes);
+        assertThat(fila.tamanho()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Cada partição deve entregar até quantum pedidos por vez, em ordem LIFO")
+    void deveRespeitarQuantumELifo() {
+        FilaPedidos fila = new FilaPedidos(config(2));
+        List<String> clientes = clientesEmParticoesDistintas(2);
+        for (long i = 1; i <= 4; i++) {
+            fila.enfileirar(pedido(i, clientes.get(0)));
+            fila.enfileirar(pedido(i + 10, clientes.get(1)));
+        }
+
+        List<PedidoResponseDTO> saida = drenar(fila);
+        List<String> nomes = new ArrayList<>();
+        List<Long> idsPrimeiroCliente = new ArrayList<>();
+        for (PedidoResponseDTO pedido : saida) {
+            nomes.add(pedido.getNomeCliente());
+            if (pedido.getNomeCliente().equals(clientes.get(0))) {
+                idsPrimeiroCliente.add(pedido.getId());
+            }
+        }
+        String a = nomes.get(0);
+        String b = nomes.get(2);
+        assertThat(a).isNotEqualTo(b);
+        assertThat(nomes).containsExactly(a, a, b, b, a, a, b, b);
+        assertThat(idsPrimeiroCliente).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Listagem deve terminar no próximo pedido e seguir a ordem de entrega invertida")
+    void listarDeveSeguirOrdemDoRodizio() {
+        FilaPedidos fila = new FilaPedidos(config(1));
+        List<String> clientes = clientesEmParticoesDistintas(3);
+        long id = 1;
+        for (String cliente : clientes) {
+            for (int i = 0; i < 3; i++) {
+                fila.enfileirar(pedido(id++, cliente));
+            }
+        }
+        fila.desenfileirar();
+
+        List<PedidoResponseDTO> listados = fila.listar();
+        assertThat(listados.get(listados.size() - 1)).isEqualTo(fila.espiar());
+
+        Collections.reverse(listados);
+        assertThat(drenar(fila)).isEqualTo(listados);
+    }
+
+    @Test
+    @DisplayName("Páginas calculadas pelo rodízio devem coincidir com a listagem simulada")
+    void paginasDevemCoincidirComListagem() {
+        Random random = new Random(42);
+        for (int quantum = 1; quantum <= 3; quantum++) {
+            FilaPedidos fila = new FilaPedidos(config(quantum));
+            List<String> clientes = clientesEmParticoesDistintas(3);
+            // Cliente dominante, partição vazia e desenfileiramentos no meio da vez de uma partição
+            for (long id = 1; id <= 300; id++) {
+                fila.enfileirar(pedido(id, clientes.get(random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(2))));
+                if (random.nextInt(5) == 0) {
+                    fila.desenfileirar();
+                }
+            }
+
+            // Cada desenfileiramento muda o crédito restante da vez corrente
+            for (int vez = 0; vez <= quantum; vez++, fila.desenfileirar()) {
+                List<PedidoResponseDTO> listados = fila.listar();
+                for (int offset = 0; offset <= listados.size(); offset += 7) {
+                    for (int limite : new int[]{1, 5, 64}) {
+                        List<PedidoResponseDTO> esperado =
+                                listados.subList(offset, Math.min(listados.size(), offset + limite));
+                        assertThat(fila.pagina(offset, limite)).as("quantum %d, offset %d, limite %d",
+                                quantum, offset, limite).isEqualTo(esperado);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Status deve informar a profundidade de cada partição")
+    void deveInformarProfundidadePorParticao() {
+        FilaPedidos fila = new FilaPedidos(config(1));
+        List<String> clientes = clientesEmParticoesDistintas(2);
+        for (long i = 1; i <= 5; i++) {
+            fila.enfileirar(pedido(i, clientes.get(0)));
+        }
+        fila.enfileirar(pedido(6L, clientes.get(1)));
+
+        FilaArmazenamentoDTO armazenamento = fila.getArmazenamento();
+        assertThat(armazenamento.getTipo()).isEqualTo("particionado");
+        assertThat(armazenamento.getProfundidadeParticoes()).hasSize(PARTICOES).contains(5, 1);
+        assertThat(armazenamento.getProfundidadeParticoes().stream().mapToInt(Integer::intValue).sum()).isEqualTo(6);
+        assertThat(fila.idadeMaisAntigoNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Enfileirar e desenfileirar concorrentemente não deve perder pedidos")
+    void operacoesConcorrentesNaoDevemPerderPedidos() throws Exception {
+        FilaPedidos fila = new FilaPedidos(config(1));
+        int threads = 8;
+        int porThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Long>>> resultados = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long inicio = (long) t * porThread;
+                String cliente = "Cliente " + t;
+                resultados.add(executor.submit(() -> {
+                    List<Long> retirados = new ArrayList<>();
+                    for (long i = inicio; i < inicio + porThread; i++) {
+                        fila.enfileirar(pedido(i, cliente));
+                        if (i % 2 == 0) {
+                            PedidoResponseDTO pedido = fila.desenfileirar();
+                            if (pedido != null) {
+                                retirados.add(pedido.getId());
+                            }
+                        }
+                    }
+                    return retirados;
+                }));
+            }
+            List<Long> todos = new ArrayList<>();
+            for (Future<List<Long>> resultado : resultados) {
+                todos.addAll(resultado.get(30, TimeUnit.SECONDS));
+            }
+            for (PedidoResponseDTO pedido : drenar(fila)) {
+                todos.add(pedido.getId());
+            }
+
+            assertThat(todos).hasSize(threads * porThread).doesNotHaveDuplicates();
+            assertThat(fila.tamanho()).isZero();
+            assertThat(fila.getArmazenamento().getProfundidadeParticoes()).containsOnly(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Partições com modo de prioridade devem ser rejeitadas")
+    void particoesComPrioridadeDevemSerRejeitadas() {
+        FilaPedidosConfig config = config(1);
+        config.setModo(FilaPedidosConfig.ModoFila.VALOR);
+
+        assertThatThrownBy(() -> new FilaPedidos(config))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("particionada");
+    }
+
+    private static FilaPedidosConfig config(int quantum) {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setParticoes(PARTICOES);
+        config.setQuantum(quantum);
+        return config;
+    }
+
+    private static List<String> clientesEmParticoesDistintas(int quantidade) {
+        ArmazenamentoParticionado armazenamento = new ArmazenamentoParticionado(config(1));
+        Set<Integer> usadas = new HashSet<>();
+        List<String> clientes = new ArrayList<>();
+        for (int i = 0; clientes.size() < quantidade; i++) {
+            String nome = "Cliente " + i;
+            if (usadas.add(armazenamento.indice(nome))) {
+                clientes.add(nome);
+            }
+        }
+        return clientes;
+    }
+
+    private static List<PedidoResponseDTO> drenar(FilaPedidos fila) {
+        List<PedidoResponseDTO> pedidos = new ArrayList<>();
+        PedidoResponseDTO pedido;
+        while ((pedido = fila.desenfileirar()) != null) {
+            pedidos.add(pedido);
+        }
+        return pedidos;
+    }
+
+    private static PedidoResponseDTO pedido(Long id, String nomeCliente) {
+        return new PedidoResponseDTO(id, nomeCliente, "Pedido " + id, new BigDecimal("25.00"),
+                LocalDateTime.of(2024, 3, 1, 8, 0));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para a fila de pedidos em modo de prioridade
+ */
+class ArmazenamentoPrioridadeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 8, 0);
+
+    @Test
+    @DisplayName("Modo valor deve entregar o maior valor primeiro e empates por ordem de chegada")
+    void modoValorDeveOrdenarPorValor() {
+        FilaPedidos fila = new FilaPedidos(config(FilaPedidosConfig.ModoFila.VALOR, 0.0));
+        fila.enfileirar(pedido(1L, "10.00", BASE));
+        fila.enfileirar(pedido(2L, "500.00", BASE));
+        fila.enfileirar(pedido(3L, "10.00", BASE));
+        fila.enfileirar(pedido(4L, null, BASE));
+        fila.enfileirar(pedido(5L, "99.90", BASE));
+
+        assertThat(fila.espiar().getId()).isEqualTo(2L);
+        assertThat(ids(fila.listar())).containsExactly(4L, 3L, 1L, 5L, 2L);
+        assertThat(drenar(fila)).containsExactly(2L, 5L, 1L, 3L, 4L);
+        assertThat(fila.tamanho()).isZero();
+        assertThat(fila.idadeMaisAntigoNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("Modo data deve entregar o pedido mais antigo primeiro")
+    void modoDataDeveOrdenarPorDataPedido() {
+        FilaPedidos fila = new FilaPedidos(config(FilaPedidosConfig.ModoFila.DATA, 0.0));
+        fila.enfileirar(pedido(1L, "10.00", BASE.plusHours(2)));
+        fila.enfileirar(pedido(2L, "10.00", null));
+        fila.enfileirar(pedido(3L, "10.00", BASE));
+        fila.enfileirar(pedido(4L, "10.00", BASE.plusNanos(1_000_000)));
+
+        assertThat(drenar(fila)).containsExactly(3L, 4L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("No modo data, pedido sem data deve valer como criado ao entrar na fila e envelhecer")
+    void pedidoSemDataDeveEnvelhecerNoModoData() throws Exception {
+        FilaPedidos fila = new FilaPedidos(config(FilaPedidosConfig.ModoFila.DATA, 10_000.0));
+        fila.enfileirar(pedido(1L, "10.00", null));
+        TimeUnit.MILLISECONDS.sleep(50);
+        // 50 ms de espera a 10.000 s/s valem mais que 100 s de antiguidade
+        fila.enfileirar(pedido(2L, "10.00", LocalDateTime.now().minusSeconds(100)));
+        fila.enfileirar(pedido(3L, "10.00", LocalDateTime.now().plusHours(1)));
+
+        assertThat(drenar(fila)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Modo ponderado deve combinar valor e idade do pedido")
+    void modoPonderadoDeveCombinarValorEIdade() {
+        FilaPedidosConfig config = config(FilaPedidosConfig.ModoFila.PONDERADO, 0.0);
+        config.setPesoValor(1.0);
+        config.setPesoAntiguidade(10.0);
+        FilaPedidos fila = new FilaPedidos(config);
+        // Relativo ao mais recente: 100 + 10 * 0h = 100, 50 + 10 * 6h = 110, 120 + 10 * 1h = 130
+        fila.enfileirar(pedido(1L, "100.00", BASE.plusHours(6)));
+        fila.enfileirar(pedido(2L, "50.00", BASE));
+        fila.enfileirar(pedido(3L, "120.00", BASE.plusHours(5)));
+
+        assertThat(drenar(fila)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Envelhecimento deve fazer um pedido de baixo valor passar à frente após esperar")
+    void envelhecimentoDeveEvitarInanicao() throws Exception {
+        FilaPedidos fila = new FilaPedidos(config(FilaPedidosConfig.ModoFila.VALOR, 10_000.0));
+        fila.enfileirar(pedido(1L, "1.00", BASE));
+        TimeUnit.MILLISECONDS.sleep(50);
+        fila.enfileirar(pedido(2L, "100.00", BASE));
+
+        assertThat(drenar(fila)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Enfileirar e desenfileirar concorrentemente não deve perder pedidos")
+    void operacoesConcorrentesNaoDevemPerderPedidos() throws Exception {
+        FilaPedidos fila = new FilaPedidos(config(FilaPedidosConfig.ModoFila.VALOR, 0.1));
+        int threads = 8;
+        int porThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Long>>> resultados = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long inicio = (long) t * porThread;
+                resultados.add(executor.submit(() -> {
+                    List<Long> retirados = new ArrayList<>();
+                    for (long i = inicio; i < inicio + porThread; i++) {
+                        fila.enfileirar(pedido(i, String.valueOf(i % 97), BASE));
+                        if (i % 2 == 0) {
+                            retirados.add(fila.desenfileirar().getId());
+                        }
+                    }
+                    return retirados;
+                }));
+            }
+            List<Long> todos = new ArrayList<>();
+            for (Future<List<Long>> resultado : resultados) {
+                todos.addAll(resultado.get(30, TimeUnit.SECONDS));
+            }
+            todos.addAll(drenar(fila));
+
+            Collections.sort(todos);
+            assertThat(todos).hasSize(threads * porThread).doesNotHaveDuplicates();
+            assertThat(todos.get(0)).isZero();
+            assertThat(todos.get(todos.size() - 1)).isEqualTo(threads * porThread - 1L);
+            assertThat(fila.tamanho()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Modo de prioridade com armazenamento off-heap deve ser rejeitado")
+    void prioridadeOffHeapDeveSerRejeitada() {
+        FilaPedidosConfig config = config(FilaPedidosConfig.ModoFila.VALOR, 0.1);
+        config.setArmazenamento(FilaPedidosConfig.TipoArmazenamento.OFF_HEAP);
+
+        assertThatThrownBy(() -> new FilaPedidos(config))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("heap");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar os nomes de modo das propriedades")
+    void deveConverterModo() {
+        assertThat(FilaPedidosConfig.ModoFila.de(" ponderado ")).isEqualTo(FilaPedidosConfig.ModoFila.PONDERADO);
+        assertThat(FilaPedidosConfig.ModoFila.de("LIFO")).isEqualTo(FilaPedidosConfig.ModoFila.LIFO);
+        assertThat(new FilaPedidos(config(FilaPedidosConfig.ModoFila.DATA, 0.1)).getArmazenamento().getTipo())
+                .isEqualTo("prioridade-data");
+    }
+
+    private static FilaPedidosConfig config(FilaPedidosConfig.ModoFila modo, double envelhecimento) {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setModo(modo);
+        config.setEnvelhecimentoPorSegundo(envelhecimento);
+        return config;
+    }
+
+    private static List<Long> drenar(FilaPedidos fila) {
+        List<Long> ids = new ArrayList<>();
+        PedidoResponseDTO pedido;
+        while ((pedido = fila.desenfileirar()) != null) {
+            ids.add(pedido.getId());
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(List<PedidoResponseDTO> pedidos) {
+        List<Long> ids = new ArrayList<>();
+        for (PedidoResponseDTO pedido : pedidos) {
+            ids.add(pedido.getId());
+        }
+        return ids;
+    }
+
+    private static PedidoResponseDTO pedido(Long id, String valor, LocalDateTime data) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id,
+                valor != null ? new BigDecimal(valor) : null, data);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para as entregas com prazo de visibilidade e confirmação
+ */
+class ConfirmacaoFilaTest {
+
+    private static final long VISIBILIDADE_MS = 5;
+
+    private FilaPedidos fila;
+    private ConfirmacaoFila confirmacao;
+
+    @BeforeEach
+    void setUp() {
+        fila = new FilaPedidos();
+        // Thread da roda não iniciado: os prazos são processados por expirarVencidos()
+        confirmacao = new ConfirmacaoFila(fila, VISIBILIDADE_MS, 2, 1, 1, 64);
+    }
+
+    @Test
+    @DisplayName("Pedido confirmado não deve voltar à fila quando o prazo vencer")
+    void pedidoConfirmadoNaoDeveVoltar() throws Exception {
+        fila.enfileirar(pedido(1L));
+        PedidoResponseDTO entregue = fila.desenfileirar();
+
+        assertThat(confirmacao.entregar(entregue)).isEqualTo(1);
+        assertThat(confirmacao.getEmProcessamento()).isEqualTo(1);
+        assertThat(confirmacao.confirmar(1L)).isTrue();
+        assertThat(confirmacao.confirmar(1L)).isFalse();
+
+        expirarPrazos();
+        assertThat(fila.isVazia()).isTrue();
+        assertThat(confirmacao.getEmProcessamento()).isZero();
+        assertThat(confirmacao.getTotalConfirmados()).isEqualTo(1);
+        assertThat(confirmacao.getTotalReentregues()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pedido não confirmado no prazo deve voltar à fila e contar nova entrega")
+    void pedidoNaoConfirmadoDeveSerReentregue() throws Exception {
+        fila.enfileirar(pedido(1L));
+        confirmacao.entregar(fila.desenfileirar());
+
+        expirarPrazos();
+        assertThat(fila.tamanho()).isEqualTo(1);
+        assertThat(confirmacao.getEmProcessamento()).isZero();
+        assertThat(confirmacao.getTotalReentregues()).isEqualTo(1);
+        // Confirmação tardia não vale mais para a entrega expirada
+        assertThat(confirmacao.confirmar(1L)).isFalse();
+
+        PedidoResponseDTO reentregue = fila.desenfileirar();
+        assertThat(reentregue).isEqualTo(pedido(1L));
+        assertThat(confirmacao.entregar(reentregue)).isEqualTo(2);
+        assertThat(confirmacao.confirmar(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Pedido deve ir para a lista de mortos após esgotar as entregas")
+    void pedidoDeveIrParaMortosAposMaxEntregas() throws Exception {
+        fila.enfileirar(pedido(1L));
+        fila.enfileirar(pedido(2L));
+
+        List<Long> entregas = new ArrayList<>();
+        PedidoResponseDTO pedido;
+        while ((pedido = fila.desenfileirar()) != null) {
+            entregas.add(pedido.getId());
+            confirmacao.entregar(pedido);
+            expirarPrazos();
+        }
+
+        assertThat(entregas).containsExactly(2L, 2L, 1L, 1L);
+        assertThat(confirmacao.getTotalMortos()).isEqualTo(2);
+        // Capacidade 1: apenas o mais recente fica na lista
+        assertThat(confirmacao.getQuantidadeMortos()).isEqualTo(1);
+        assertThat(confirmacao.listarMortos()).containsExactly(pedido(1L));
+        assertThat(fila.isVazia()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Thread da roda deve devolver pedidos expirados sem intervenção")
+    void threadDaRodaDeveExpirarPrazos() throws Exception {
+        ConfirmacaoFila comThread = new ConfirmacaoFila(fila, 20, 5, 10, 5, 16);
+        comThread.iniciar();
+        try {
+            fila.enfileirar(pedido(7L));
+            comThread.entregar(fila.desenfileirar());
+
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (fila.isVazia() && System.nanoTime() < limite) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            assertThat(fila.desenfileirar()).isEqualTo(pedido(7L));
+        } finally {
+            comThread.parar();
+        }
+    }
+
+    private void expirarPrazos() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(VISIBILIDADE_MS * 4);
+        confirmacao.expirarVencidos();
+    }
+
+    private static PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id, new BigDecimal("10.00"),
+                LocalDateTime.of(2024, 3, 1, 8, 0));
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para os consumidores internos da fila de pedidos
+ */
+class ConsumidorFilaTest {
+
+    private final FilaPedidos fila = new FilaPedidos();
+    private ConsumidorFila consumidor;
+
+    @AfterEach
+    void tearDown() {
+        if (consumidor != null) {
+            consumidor.parar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve chamar os processadores que aceitam cada pedido")
+    void deveProcessarPedidosComProcessadoresQueAceitam() throws Exception {
+        Registro todos = new Registro("todos", p -> true);
+        Registro pares = new Registro("pares", p -> p.getId() % 2 == 0);
+        consumidor = new ConsumidorFila(fila, null, Arrays.asList(todos, pares), config(2, 4));
+        consumidor.iniciar();
+
+        for (long i = 1; i <= 100; i++) {
+            fila.enfileirar(pedido(i));
+        }
+
+        aguardar(() -> consumidor.getTotalProcessados() == 100);
+        assertThat(todos.processados).hasSize(100);
+        assertThat(pares.processados).hasSize(50).allMatch(id -> id % 2 == 0);
+        assertThat(fila.isVazia()).isTrue();
+        assertThat(consumidor.getProcessadores()).extracting(ConsumidorFila.EstatisticasProcessador::getExecucoes)
+                .containsExactly(100L, 50L);
+    }
+
+    @Test
+    @DisplayName("Deve repetir com backoff apenas o processador que falhou")
+    void deveRepetirApenasProcessadorQueFalhou() throws Exception {
+        Registro estavel = new Registro("estavel", p -> true);
+        Registro instavel = new Registro("instavel", p -> true);
+        instavel.falhasRestantes.set(2);
+        consumidor = new ConsumidorFila(fila, null, Arrays.asList(estavel, instavel), config(1, 1));
+        consumidor.iniciar();
+
+        fila.enfileirar(pedido(1L));
+
+        aguardar(() -> consumidor.getTotalProcessados() == 1);
+        assertThat(estavel.processados).containsExactly(1L);
+        assertThat(instavel.processados).containsExactly(1L);
+        assertThat(consumidor.getTotalRetentativas()).isEqualTo(2);
+        assertThat(consumidor.getTotalEsgotados()).isZero();
+        assertThat(consumidor.getProcessadores().get(1).getFalhas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Com confirmação, deve confirmar o sucesso e deixar sem confirmação o pedido esgotado")
+    void deveConfirmarApenasPedidosConcluidos() throws Exception {
+        ConfirmacaoFila confirmacao = new ConfirmacaoFila(fila, 60_000, 5, 10, 100, 64);
+        Registro registro = new Registro("registro", p -> true);
+        registro.falhaSempre.add(2L);
+        consumidor = new ConsumidorFila(fila, confirmacao, Collections.singletonList(registro), config(1, 1));
+        consumidor.iniciar();
+
+        fila.enfileirar(pedido(1L));
+        fila.enfileirar(pedido(2L));
+
+        aguardar(() -> consumidor.getTotalProcessados() == 1 && consumidor.getTotalEsgotados() == 1);
+        assertThat(confirmacao.getTotalConfirmados()).isEqualTo(1);
+        // Pedido 2 aguarda o prazo de visibilidade para voltar à fila
+        assertThat(confirmacao.getEmProcessamento()).isEqualTo(1);
+        assertThat(confirmacao.confirmar(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de execuções simultâneas do processador")
+    void deveRespeitarConcorrenciaMaxima() throws Exception {
+        AtomicInteger simultaneos = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        ProcessadorPedido lento = new ProcessadorPedido() {
+            @Override
+            public void processar(PedidoResponseDTO pedido) throws Exception {
+                maximo.accumulateAndGet(simultaneos.incrementAndGet(), Math::max);
+                Thread.sleep(2);
+                simultaneos.decrementAndGet();
+            }
+
+            @Override
+            public int getConcorrenciaMaxima() {
+                return 2;
+            }
+        };
+        consumidor = new ConsumidorFila(fila, null, Collections.singletonList(lento), config(6, 1));
+        consumidor.iniciar();
+
+        for (long i = 1; i <= 60; i++) {
+            fila.enfileirar(pedido(i));
+        }
+
+        aguardar(() -> consumidor.getTotalProcessados() == 60);
+        assertThat(maximo.get()).isBetween(1, 2);
+        assertThat(consumidor.getProcessadores().get(0).getConcorrenciaMaxima()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Error lançado pelo processador deve contar como falha sem derrubar o worker")
+    void errorDoProcessadorNaoDeveDerrubarWorker() throws Exception {
+        AtomicInteger chamadas = new AtomicInteger();
+        List<Long> processados = Collections.synchronizedList(new ArrayList<>());
+        ProcessadorPedido instavel = pedido -> {
+            if (chamadas.incrementAndGet() == 1) {
+                throw new StackOverflowError("falha simulada");
+            }
+            processados.add(pedido.getId());
+        };
+        consumidor = new ConsumidorFila(fila, null, Collections.singletonList(instavel), config(1, 1));
+        consumidor.iniciar();
+
+        fila.enfileirar(pedido(1L));
+        aguardar(() -> consumidor.getTotalProcessados() == 1);
+        fila.enfileirar(pedido(2L));
+        aguardar(() -> consumidor.getTotalProcessados() == 2);
+
+        assertThat(processados).containsExactly(1L, 2L);
+        assertThat(consumidor.getTotalRetentativas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Falha ao retirar da fila não deve perder o pedido nem derrubar o worker")
+    void falhaAoRetirarDaFilaNaoDeveDerrubarWorker() throws Exception {
+        FilaPedidosConfig configFila = new FilaPedidosConfig();
+        configFila.setDescricaoSobDemanda(true);
+        FilaPedidos filaSobDemanda = new FilaPedidos(configFila);
+        AtomicInteger cargas = new AtomicInteger();
+        filaSobDemanda.setCarregadorDescricoes(ids -> {
+            if (cargas.incrementAndGet() <= 2) {
+                throw new IllegalStateException("banco indisponível");
+            }
+            Map<Long, String> descricoes = new HashMap<>();
+            ids.forEach(id -> descricoes.put(id, "Pedido " + id));
+            return descricoes;
+        });
+        Registro registro = new Registro("registro", p -> true);
+        consumidor = new ConsumidorFila(filaSobDemanda, null, Collections.singletonList(registro), config(1, 1));
+        consumidor.iniciar();
+
+        filaSobDemanda.enfileirar(pedido(1L));
+
+        aguardar(() -> consumidor.getTotalProcessados() == 1);
+        assertThat(registro.processados).containsExactly(1L);
+        assertThat(consumidor.isAtivo()).isTrue();
+        assertThat(filaSobDemanda.isVazia()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sem processadores, os workers não devem ser iniciados")
+    void semProcessadoresNaoDeveIniciar() {
+        consumidor = new ConsumidorFila(fila, null, Collections.emptyList(), config(2, 4));
+        consumidor.iniciar();
+        fila.enfileirar(pedido(1L));
+
+        assertThat(consumidor.isAtivo()).isFalse();
+        assertThat(consumidor.getWorkers()).isZero();
+        assertThat(fila.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Após parar, pedidos novos devem permanecer na fila")
+    void aposPararPedidosDevemPermanecerNaFila() throws Exception {
+        Registro registro = new Registro("registro", p -> true);
+        consumidor = new ConsumidorFila(fila, null, Collections.singletonList(registro), config(2, 4));
+        consumidor.iniciar();
+        fila.enfileirar(pedido(1L));
+        aguardar(() -> consumidor.getTotalProcessados() == 1);
+
+        consumidor.parar();
+        fila.enfileirar(pedido(2L));
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        assertThat(consumidor.isAtivo()).isFalse();
+        assertThat(fila.tamanho()).isEqualTo(1);
+        assertThat(registro.processados).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Backoff deve crescer pelo multiplicador até o máximo")
+    void backoffDeveCrescerAteMaximo() {
+        ConsumidorFilaConfig config = config(1, 1);
+        config.setBackoffInicialMs(100);
+        config.setBackoffMaxMs(1_000);
+        consumidor = new ConsumidorFila(fila, null, Collections.emptyList(), config);
+
+        assertThat(consumidor.backoffMs(1)).isEqualTo(100);
+        assertThat(consumidor.backoffMs(2)).isEqualTo(200);
+        assertThat(consumidor.backoffMs(4)).isEqualTo(800);
+        assertThat(consumidor.backoffMs(5)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Parâmetros inválidos devem ser recusados")
+    void parametrosInvalidosDevemSerRecusados() {
+        ConsumidorFilaConfig config = config(0, 1);
+
+        assertThatThrownBy(() -> new ConsumidorFila(fila, null, Collections.emptyList(), config))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConsumidorFilaConfig config(int workers, int lote) {
+        ConsumidorFilaConfig config = new ConsumidorFilaConfig();
+        config.setWorkers(workers);
+        config.setLote(lote);
+        config.setOciosoMs(20);
+        config.setBackoffInicialMs(5);
+        config.setBackoffMaxMs(50);
+        config.setDesligamentoMs(1_000);
+        return config;
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 10 s").isLessThan(prazo);
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    private static PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id,
+                new BigDecimal("10.00"), LocalDateTime.of(2024, 3, 1, 8, 0));
+    }
+
+    /**
+     * Processador que registra os IDs concluídos e pode falhar sob demanda
+     */
+    private static final class Registro implements ProcessadorPedido {
+
+        private final String nome;
+        private final Predicate<PedidoResponseDTO> filtro;
+        private final List<Long> processados = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger falhasRestantes = new AtomicInteger();
+        private final Set<Long> falhaSempre = ConcurrentHashMap.newKeySet();
+
+        private Registro(String nome, Predicate<PedidoResponseDTO> filtro) {
+            this.nome = nome;
+            this.filtro = filtro;
+        }
+
+        @Override
+        public void processar(PedidoResponseDTO pedido) {
+            if (falhaSempre.contains(pedido.getId()) || falhasRestantes.getAndDecrement() > 0) {
+                throw new IllegalStateException("falha simulada");
+            }
+            processados.add(pedido.getId());
+        }
+
+        @Override
+        public boolean aceita(PedidoResponseDTO pedido) {
+            return filtro.test(pedido);
+        }
+
+        @Override
+        public String getNome() {
+            return nome;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import com.example.apipedidos.exception.FilaCheiaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para a capacidade e as políticas de overflow da fila de pedidos
+ */
+class FilaPedidosLimiteTest {
+
+    @Test
+    @DisplayName("Política rejeitar deve recusar pedidos além da capacidade")
+    void politicaRejeitarDeveRecusarAlemDaCapacidade() {
+        FilaPedidos fila = new FilaPedidos(config(2, FilaPedidosConfig.PoliticaOverflow.REJEITAR));
+        fila.enfileirar(pedido(1L));
+        fila.enfileirar(pedido(2L));
+
+        assertThat(fila.getUtilizacao()).isEqualTo(1.0);
+        assertThatThrownBy(() -> fila.enfileirar(pedido(3L)))
+                .isInstanceOf(FilaCheiaException.class)
+                .hasMessageContaining("capacidade 2")
+                .extracting(e -> ((FilaCheiaException) e).getRetryAfterSegundos())
+                .isEqualTo(7L);
+        assertThat(fila.tamanho()).isEqualTo(2);
+        assertThat(fila.getTotalRejeitados()).isEqualTo(1);
+
+        fila.desenfileirar();
+        assertThat(fila.getUtilizacao()).isEqualTo(0.5);
+        fila.enfileirar(pedido(3L));
+        assertThat(fila.tamanho()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Política bloquear deve aguardar espaço liberado por um consumidor")
+    void politicaBloquearDeveAguardarEspaco() throws Exception {
+        FilaPedidosConfig config = config(1, FilaPedidosConfig.PoliticaOverflow.BLOQUEAR);
+        config.setBloqueioMs(5_000);
+        FilaPedidos fila = new FilaPedidos(config);
+        fila.enfileirar(pedido(1L));
+
+        CompletableFuture<Integer> produtor = CompletableFuture.supplyAsync(() -> fila.enfileirar(pedido(2L)));
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertThat(produtor).isNotDone();
+
+        assertThat(fila.desenfileirar().getId()).isEqualTo(1L);
+        assertThat(produtor.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(fila.espiar().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Política bloquear deve falhar quando a espera esgota")
+    void politicaBloquearDeveFalharAposEspera() {
+        FilaPedidosConfig config = config(1, FilaPedidosConfig.PoliticaOverflow.BLOQUEAR);
+        config.setBloqueioMs(30);
+        FilaPedidos fila = new FilaPedidos(config);
+        fila.enfileirar(pedido(1L));
+
+        long inicio = System.nanoTime();
+        assertThatThrownBy(() -> fila.enfileirar(pedido(2L))).isInstanceOf(FilaCheiaException.class);
+        assertThat(System.nanoTime() - inicio).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+        assertThat(fila.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Pedidos devolvidos pela confirmação devem entrar mesmo com a fila cheia")
+    void devolucaoDeveIgnorarCapacidade() {
+        FilaPedidos fila = new FilaPedidos(config(1, FilaPedidosConfig.PoliticaOverflow.REJEITAR));
+        fila.enfileirar(pedido(1L));
+
+        fila.devolver(pedido(2L));
+
+        assertThat(fila.tamanho()).isEqualTo(2);
+        assertThat(fila.getUtilizacao()).isEqualTo(2.0);
+        fila.desenfileirar();
+        fila.desenfileirar();
+        fila.enfileirar(pedido(3L));
+        assertThat(fila.getUtilizacao()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Política spill deve exigir armazenamento off-heap com spill")
+    void politicaSpillDeveExigirOffHeap() {
+        assertThatThrownBy(() -> new FilaPedidos(config(10, FilaPedidosConfig.PoliticaOverflow.SPILL)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("off-heap");
+
+        FilaPedidosConfig offHeap = config(1, FilaPedidosConfig.PoliticaOverflow.SPILL);
+        offHeap.setArmazenamento(FilaPedidosConfig.TipoArmazenamento.OFF_HEAP);
+        FilaPedidos fila = new FilaPedidos(offHeap);
+        try {
+            fila.enfileirar(pedido(1L));
+            fila.enfileirar(pedido(2L));
+            assertThat(fila.tamanho()).isEqualTo(2);
+            assertThat(fila.getUtilizacao()).isEqualTo(2.0);
+        } finally {
+            fila.fechar();
+        }
+    }
+
+    @Test
+    @DisplayName("Fila sem capacidade configurada deve ser ilimitada")
+    void filaSemCapacidadeDeveSerIlimitada() {
+        FilaPedidos fila = new FilaPedidos();
+        for (long i = 0; i < 1_000; i++) {
+            fila.enfileirar(pedido(i));
+        }
+
+        assertThat(fila.getCapacidade()).isZero();
+        assertThat(fila.getUtilizacao()).isZero();
+    }
+
+    private static FilaPedidosConfig config(int capacidade, FilaPedidosConfig.PoliticaOverflow politica) {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setCapacidade(capacidade);
+        config.setPoliticaOverflow(politica);
+        config.setRetryAfterSegundos(7);
+        return config;
+    }
+
+    private static PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + id, "Pedido " + id, new BigDecimal("10.00"),
+                LocalDateTime.of(2024, 3, 1, 8, 0));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para a paginação das mensagens da fila de pedidos
+ */
+class FilaPedidosPaginaTest {
+
+    @TempDir
+    Path diretorio;
+
+    private FilaPedidos fila;
+
+    @AfterEach
+    void tearDown() {
+        if (fila != null) {
+            fila.fechar();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"heap", "off-heap", "prioridade", "particionado"})
+    @DisplayName("Páginas devem reproduzir a listagem completa em todos os armazenamentos")
+    void paginasDevemReproduzirListagem(String armazenamento) {
+        fila = new FilaPedidos(config(armazenamento));
+        for (long i = 1; i <= 2_500; i++) {
+            fila.enfileirar(pedido(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            fila.desenfileirar();
+        }
+
+        List<PedidoResponseDTO> completa = fila.listar();
+        List<PedidoResponseDTO> paginada = new ArrayList<>();
+        List<PedidoResponseDTO> pagina;
+        int offset = 0;
+        while (!(pagina = fila.pagina(offset, 333)).isEmpty()) {
+            assertThat(pagina.size()).isLessThanOrEqualTo(333);
+            paginada.addAll(pagina);
+            offset += pagina.size();
+        }
+
+        assertThat(paginada).hasSize(2_490).isEqualTo(completa);
+        assertThat(fila.pagina(10_000, 10)).isEmpty();
+        assertThat(fila.pagina(2_489, 10)).containsExactly(fila.espiar());
+    }
+
+    @Test
+    @DisplayName("Paginação deve ignorar pedidos novos no topo e não bloquear produtores")
+    void paginacaoDeveSerEstavelDuranteEnfileiramentos() throws Exception {
+        fila = new FilaPedidos();
+        for (long i = 1; i <= 1_000; i++) {
+            fila.enfileirar(pedido(i));
+        }
+
+        AtomicBoolean parar = new AtomicBoolean();
+        CompletableFuture<Void> produtor = CompletableFuture.runAsync(() -> {
+            for (long i = 1_001; !parar.get(); i++) {
+                fila.enfileirar(pedido(i));
+            }
+        });
+        try {
+            for (int rodada = 0; rodada < 50; rodada++) {
+                List<PedidoResponseDTO> pagina = fila.pagina(100, 50);
+                assertThat(pagina).hasSize(50);
+                assertThat(pagina.get(0).getId()).isEqualTo(101L);
+                assertThat(pagina.get(49).getId()).isEqualTo(150L);
+            }
+        } finally {
+            parar.set(true);
+            produtor.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Offset negativo ou limite não positivo devem ser recusados")
+    void parametrosInvalidosDevemSerRecusados() {
+        fila = new FilaPedidos();
+
+        assertThatThrownBy(() -> fila.pagina(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fila.pagina(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private FilaPedidosConfig config(String armazenamento) {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        switch (armazenamento) {
+            case "off-heap":
+                // Segmentos pequenos e limite baixo: parte da fila fica em disco
+                config.setArmazenamento(FilaPedidosConfig.TipoArmazenamento.OFF_HEAP);
+                config.setSegmentoKb(8);
+                config.setOffHeapMaxMb(1);
+                config.setDiretorioSpill(diretorio.toString());
+                break;
+            case "prioridade":
+                config.setModo(FilaPedidosConfig.ModoFila.VALOR);
+                break;
+            case "particionado":
+                config.setParticoes(4);
+                config.setQuantum(2);
+                break;
+            default:
+                break;
+        }
+        return config;
+    }
+
+    private static PedidoResponseDTO pedido(Long id) {
+        return new PedidoResponseDTO(id, "Cliente " + (id % 7), "Pedido " + id,
+                new BigDecimal(id % 50 + ".00"), LocalDateTime.of(2024, 3, 1, 8, 0));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.apipedidos.service.fila;
+
+import com.example.apipedidos.dto.PedidoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o armazenamento compacto da fila de pedidos
+ */
+class FilaPedidosTest {
+
+    @Test
+    @DisplayName("Deve reconstruir pedidos idênticos aos enfileirados")
+    void deveReconstruirPedidosIdenticos() {
+        FilaPedidos fila = new FilaPedidos();
+        PedidoResponseDTO completo = pedido(1L, "José Ação", LocalDateTime.of(2024, 1, 15, 10, 30, 45, 123_456_789));
+        PedidoResponseDTO vazio = new PedidoResponseDTO(null, null, null, (BigDecimal) null, null);
+        PedidoResponseDTO antigo = pedido(3L, "Ana", LocalDateTime.of(1900, 2, 28, 0, 0));
+
+        fila.enfileirar(completo);
+        fila.enfileirar(vazio);
+        fila.enfileirar(antigo);
+
+        assertThat(fila.listar()).containsExactly(completo, vazio, antigo);
+        assertThat(fila.espiar()).isEqualTo(antigo);
+        assertThat(fila.desenfileirar()).isEqualTo(antigo);
+        assertThat(fila.desenfileirar()).isEqualTo(vazio);
+        assertThat(fila.desenfileirar()).isEqualTo(completo);
+        assertThat(fila.desenfileirar()).isNull();
+    }
+
+    @Test
+    @DisplayName("Pedidos do mesmo cliente devem compartilhar a mesma instância do nome")
+    void pedidosDoMesmoClienteDevemCompartilharNome() {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setCapacidadeNomes(2);
+        FilaPedidos fila = new FilaPedidos(config);
+
+        fila.enfileirar(pedido(1L, new String("Maria"), LocalDateTime.now()));
+        fila.enfileirar(pedido(2L, new String("Maria"), LocalDateTime.now()));
+        fila.enfileirar(pedido(3L, "João", LocalDateTime.now()));
+        fila.enfileirar(pedido(4L, "Pedro", LocalDateTime.now()));
+
+        List<PedidoResponseDTO> pedidos = fila.listar();
+        assertThat(pedidos.get(0).getNomeCliente()).isSameAs(pedidos.get(1).getNomeCliente());
+        assertThat(pedidos.get(3).getNomeCliente()).isEqualTo("Pedro");
+        assertThat(fila.getNomesDistintos()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Descrição sob demanda deve ser recarregada em lote pelo ID")
+    void descricaoSobDemandaDeveSerRecarregadaEmLote() {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setDescricaoSobDemanda(true);
+        FilaPedidos fila = new FilaPedidos(config);
+        List<Collection<Long>> chamadas = new ArrayList<>();
+        fila.setCarregadorDescricoes(ids -> {
+            chamadas.add(new ArrayList<>(ids));
+            Map<Long, String> descricoes = new HashMap<>();
+            ids.forEach(id -> descricoes.put(id, "Carregada " + id));
+            return descricoes;
+        });
+
+        fila.enfileirar(pedido(1L, "Ana", LocalDateTime.now()));
+        fila.enfileirar(pedido(2L, "Ana", LocalDateTime.now()));
+
+        List<PedidoResponseDTO> pedidos = fila.listar();
+        assertThat(pedidos).extracting(PedidoResponseDTO::getDescricao).containsExactly("Carregada 1", "Carregada 2");
+        assertThat(fila.desenfileirar().getDescricao()).isEqualTo("Carregada 2");
+        assertThat(chamadas).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(2L));
+    }
+
+    @Test
+    @DisplayName("Falha ao carregar a descrição não deve tirar o pedido da fila")
+    void falhaAoCarregarDescricaoDeveManterPedidoNaFila() {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setDescricaoSobDemanda(true);
+        config.setCapacidade(1);
+        FilaPedidos fila = new FilaPedidos(config);
+        fila.setCarregadorDescricoes(ids -> {
+            throw new IllegalStateException("banco indisponível");
+        });
+        fila.enfileirar(pedido(1L, "Ana", LocalDateTime.now()));
+
+        assertThatThrownBy(fila::desenfileirar).isInstanceOf(IllegalStateException.class);
+        assertThat(fila.tamanho()).isEqualTo(1);
+        assertThat(fila.getUtilizacao()).isEqualTo(1.0);
+        assertThat(fila.getTotalDesenfileirados()).isZero();
+
+        fila.setCarregadorDescricoes(ids -> {
+            Map<Long, String> descricoes = new HashMap<>();
+            ids.forEach(id -> descricoes.put(id, "Carregada " + id));
+            return descricoes;
+        });
+        assertThat(fila.desenfileirar().getDescricao()).isEqualTo("Carregada 1");
+        assertThat(fila.isVazia()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Pedido removido do banco deve ser descartado ao desenfileirar")
+    void pedidoRemovidoDoBancoDeveSerDescartado() {
+        FilaPedidosConfig config = new FilaPedidosConfig();
+        config.setDescricaoSobDemanda(true);
+        FilaPedidos fila = new FilaPedidos(config);
+        fila.setCarregadorDescricoes(ids -> {
+            Map<Long, String> descricoes = new HashMap<>();
+            ids.stream().filter(id -> id != 2L).forEach(id -> descricoes.put(id, "Carregada " + id));
+            return descricoes;
+        });
+        fila.enfileirar(pedido(1L, "Ana", LocalDateTime.now()));
+        fila.enfileirar(pedido(2L, "Ana", LocalDateTime.now()));
+
+        assertThat(fila.desenfileirar().getId()).isEqualTo(1L);
+        assertThat(fila.isVazia()).isTrue();
+        assertThat(fila.getUtilizacao()).isZero();
+    }
+
+    private static PedidoResponseDTO pedido(Long id, String nomeCliente, LocalDateTime data) {
+        return new PedidoResponseDTO(id, nomeCliente, "Pedido " + id, new BigDecimal("150.75"), data);
+    }
+}
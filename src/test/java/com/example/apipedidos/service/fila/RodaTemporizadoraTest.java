@@ -0,0 +1,65 @@
+package com.example.apipedidos.service.fila;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para a roda temporizadora
+ */
+class RodaTemporizadoraTest {
+
+    private final List<String> expirados = new ArrayList<>();
+
+    // Ticks de 1 s: os prazos dos testes não dependem do tempo real decorrido
+    private final RodaTemporizadora<String> roda = new RodaTemporizadora<>(1_000, 4, expirados::add);
+
+    @Test
+    @DisplayName("Item deve expirar apenas quando o tick do prazo for processado")
+    void deveExpirarNoTickDoPrazo() {
+        roda.agendar("a", 2_500);
+
+        roda.avancarAte(2);
+        assertThat(expirados).isEmpty();
+
+        roda.avancarAte(3);
+        assertThat(expirados).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Prazos maiores que uma volta devem esperar as voltas restantes")
+    void devePreservarPrazosAlemDeUmaVolta() {
+        roda.agendar("longo", 9_500);
+        roda.agendar("curto", 500);
+
+        roda.avancarAte(6);
+        assertThat(expirados).containsExactly("curto");
+
+        roda.avancarAte(9);
+        assertThat(expirados).containsExactly("curto");
+
+        roda.avancarAte(10);
+        assertThat(expirados).containsExactly("curto", "longo");
+    }
+
+    @Test
+    @DisplayName("Após atraso longo do thread todos os prazos vencidos devem expirar")
+    void deveRecuperarAtraso() {
+        for (int i = 1; i <= 8; i++) {
+            roda.agendar("item" + i, i * 1_000L - 500);
+        }
+
+        roda.avancarAte(100);
+        assertThat(expirados).hasSize(8);
+
+        roda.agendar("tardio", 0);
+        roda.avancarAte(100);
+        assertThat(expirados).hasSize(8);
+        roda.avancarAte(101);
+        assertThat(expirados).contains("tardio");
+    }
+}